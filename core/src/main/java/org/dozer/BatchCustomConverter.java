@@ -0,0 +1,41 @@
+/**
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Custom converter able to convert many source values in one call, f.e. to resolve them with a single lookup.
+ * <p>
+ * When collection elements are mapped by this converter, Dozer first collects all distinct non-null elements of the
+ * source collection handled by it and converts them with one {@link #convertAll(Collection, Class)} call. Results are
+ * then added to destination collection in place of the elements. Single values, such as non-collection fields, are
+ * still converted by {@link #convert(Object, Object, Class, Class)}. Existing destination values are not passed to
+ * batch conversion.
+ */
+public interface BatchCustomConverter extends CustomConverter {
+
+  /**
+   * Converts source values to destination class
+   *
+   * @param sourceFieldValues distinct non-null source values
+   * @param destinationClass  destination element class
+   * @return converted values in the same order as source values
+   */
+  List<?> convertAll(Collection<Object> sourceFieldValues, Class<?> destinationClass);
+
+}
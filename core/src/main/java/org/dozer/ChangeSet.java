@@ -0,0 +1,134 @@
+/**
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer;
+
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.dozer.classmap.ClassMap;
+import org.dozer.fieldmap.FieldMap;
+
+/**
+ * Destination fields written with a different value by {@link DozerBeanMapper#mapAndTrack(Object, Object)}. Changes
+ * are recorded per destination object, so fields of nested objects and collection elements are reported on the
+ * objects they belong to. Collections updated in place count as changed when elements were added, removed or replaced.
+ * <p>
+ * Changed fields are kept as one bit set per destination object and class mapping, indexed by position of the field
+ * mapping within its class mapping. Field names are resolved only when requested.
+ */
+public final class ChangeSet {
+
+  private final Map<Object, ObjectChanges> changes = new IdentityHashMap<Object, ObjectChanges>();
+
+  ChangeSet() {
+  }
+
+  void add(Object destObj, FieldMap fieldMap) {
+    ObjectChanges objectChanges = changes.get(destObj);
+    if (objectChanges == null) {
+      objectChanges = new ObjectChanges();
+      changes.put(destObj, objectChanges);
+    }
+    objectChanges.add(fieldMap);
+  }
+
+  /**
+   * @return true if any destination field was written with a different value
+   */
+  public boolean hasChanges() {
+    return !changes.isEmpty();
+  }
+
+  /**
+   * @param destObj destination object or any nested destination object
+   * @return true if any field of the given object was written with a different value
+   */
+  public boolean isChanged(Object destObj) {
+    return changes.containsKey(destObj);
+  }
+
+  /**
+   * @param destObj       destination object or any nested destination object
+   * @param destFieldName name of the destination field as used in mappings
+   * @return true if the field of the given object was written with a different value
+   */
+  public boolean isChanged(Object destObj, String destFieldName) {
+    return getChangedFields(destObj).contains(destFieldName);
+  }
+
+  /**
+   * @param destObj destination object or any nested destination object
+   * @return names of destination fields of the given object written with a different value
+   */
+  public Set<String> getChangedFields(Object destObj) {
+    Set<String> result = new LinkedHashSet<String>();
+    ObjectChanges objectChanges = changes.get(destObj);
+    if (objectChanges != null) {
+      objectChanges.addFieldNames(result);
+    }
+    return result;
+  }
+
+  /**
+   * @return number of destination objects having at least one changed field
+   */
+  public int getChangedObjectCount() {
+    return changes.size();
+  }
+
+  private static final class ObjectChanges {
+
+    private final Map<ClassMap, BitSet> indexedFields = new IdentityHashMap<ClassMap, BitSet>(2);
+    // Field maps created while mapping do not belong to their class map, these are kept by name
+    private Set<String> otherFields;
+
+    void add(FieldMap fieldMap) {
+      ClassMap classMap = fieldMap.getClassMap();
+      int index = classMap.getFieldMapIndex(fieldMap);
+      if (index < 0) {
+        if (otherFields == null) {
+          otherFields = new LinkedHashSet<String>();
+        }
+        otherFields.add(fieldMap.getDestFieldName());
+        return;
+      }
+      BitSet changedFields = indexedFields.get(classMap);
+      if (changedFields == null) {
+        changedFields = new BitSet(classMap.getFieldMaps().size());
+        indexedFields.put(classMap, changedFields);
+      }
+      changedFields.set(index);
+    }
+
+    void addFieldNames(Set<String> result) {
+      for (Map.Entry<ClassMap, BitSet> entry : indexedFields.entrySet()) {
+        List<FieldMap> fieldMaps = entry.getKey().getFieldMaps();
+        BitSet changedFields = entry.getValue();
+        for (int i = changedFields.nextSetBit(0); i >= 0; i = changedFields.nextSetBit(i + 1)) {
+          result.add(fieldMaps.get(i).getDestFieldName());
+        }
+      }
+      if (otherFields != null) {
+        result.addAll(otherFields);
+      }
+    }
+  }
+
+}
@@ -0,0 +1,31 @@
+/**
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer;
+
+/**
+ * Public collection key extractor interface. Used when merging collections with non-cumulative relationship type
+ * to decide which destination element corresponds to a mapped source element.
+ *
+ * <p>
+ * By default elements are matched by equals()/hashCode(). If a key extractor is specified, the key it returns is
+ * used instead, which allows for example to match entities by their identifier. If null is returned for an element,
+ * the element itself is used as its key.
+ */
+public interface CollectionKeyExtractor {
+
+  Object getKey(Object element);
+
+}
@@ -0,0 +1,416 @@
+/**
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.commons.lang3.ClassUtils;
+import org.dozer.classmap.ClassMap;
+import org.dozer.classmap.ClassMappings;
+import org.dozer.classmap.Configuration;
+import org.dozer.util.ImmutableTypeRegistry;
+import org.dozer.util.MappingUtils;
+
+/**
+ * Internal class that copies object graphs of the same class, used by {@link DozerBeanMapper#deepClone(Object)}.
+ * Copy strategy is resolved once per class: immutable and copy-by-reference values are shared, arrays and collections
+ * are copied structurally and beans are copied field by field. Classes having custom same-class mappings or custom
+ * converters, proxies and other JDK classes are mapped by regular mapping processor. Shared references and cycles are
+ * preserved within one cloned graph. Same-class {@link Mapper#map(Object, Class)} calls are not routed here, as beans
+ * are copied through their fields rather than their getters and setters. Only intended for internal use.
+ */
+final class DeepCloner {
+
+  private static final Class<?> FIXED_SIZE_LIST_CLASS = Arrays.asList().getClass();
+
+  private final Set<Class<?>> customMappedClasses = new HashSet<Class<?>>();
+  private final Configuration globalConfiguration;
+  private final ImmutableTypeRegistry immutableTypes;
+  private final ConcurrentMap<Class<?>, ClassCloner> classCloners = new ConcurrentHashMap<Class<?>, ClassCloner>();
+
+  DeepCloner(ClassMappings customMappings, Configuration globalConfiguration, ImmutableTypeRegistry immutableTypes) {
+    this.globalConfiguration = globalConfiguration;
+    this.immutableTypes = immutableTypes;
+    // Captured before any mapping, later default class maps are added to the same container
+    for (ClassMap classMap : customMappings.getAll().values()) {
+      if (classMap.getSrcClassToMap() == classMap.getDestClassToMap()) {
+        customMappedClasses.add(classMap.getSrcClassToMap());
+      }
+    }
+  }
+
+  <T> T clone(T source, Mapper mapper) {
+    return clone(source, new CloneContext(mapper));
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> T clone(T source, CloneContext context) {
+    if (source == null) {
+      return null;
+    }
+    ClassCloner cloner = getClassCloner(source.getClass());
+    if (cloner.strategy == Strategy.SHARE) {
+      return source;
+    }
+    Object result = context.clones.get(source);
+    if (result == null) {
+      result = cloner.clone(source, context);
+    }
+    return (T) result;
+  }
+
+  private ClassCloner getClassCloner(Class<?> type) {
+    ClassCloner result = classCloners.get(type);
+    if (result == null) {
+      result = new ClassCloner(type, resolveStrategy(type));
+      classCloners.putIfAbsent(type, result);
+    }
+    return result;
+  }
+
+  private Strategy resolveStrategy(Class<?> type) {
+    if (ClassUtils.isPrimitiveOrWrapper(type) || type == String.class || type.isEnum()
+        || (type.getSuperclass() != null && type.getSuperclass().isEnum()) || immutableTypes.isImmutable(type)
+        || globalConfiguration.getCopyByReferences().contains(type)) {
+      return Strategy.SHARE;
+    }
+    if (globalConfiguration.getCustomConverters().findConverter(type, type) != null || MappingUtils.isProxy(type)
+        || hasCustomMapping(type)) {
+      return Strategy.MAPPER;
+    }
+    if (type.isArray()) {
+      return Strategy.ARRAY;
+    }
+    if (Collection.class.isAssignableFrom(type)) {
+      return Strategy.COLLECTION;
+    }
+    if (Map.class.isAssignableFrom(type)) {
+      return Strategy.MAP;
+    }
+    if (type.getName().startsWith("java.") || type.getName().startsWith("javax.") || type.isInterface()
+        || Modifier.isAbstract(type.getModifiers())) {
+      return Strategy.MAPPER;
+    }
+    try {
+      type.getDeclaredConstructor();
+    } catch (NoSuchMethodException e) {
+      return Strategy.MAPPER;
+    }
+    return Strategy.FIELDS;
+  }
+
+  private boolean hasCustomMapping(Class<?> type) {
+    for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+      if (customMappedClasses.contains(current)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private enum Strategy {
+    SHARE, MAPPER, ARRAY, COLLECTION, MAP, FIELDS
+  }
+
+  /**
+   * How a copy of a collection or map class is created
+   */
+  private enum Container {
+    CONSTRUCTOR, CLONE, UNMODIFIABLE, FIXED_SIZE_LIST, STANDARD
+  }
+
+  /**
+   * Copy strategy of a single class, with constructor and fields resolved up front
+   */
+  private final class ClassCloner {
+
+    private final Class<?> type;
+    private final Strategy strategy;
+    private Constructor<?> constructor;
+    private Method cloneMethod;
+    private Container container;
+    private Field[] fields;
+    private boolean[] sharedFields;
+
+    ClassCloner(Class<?> type, Strategy strategy) {
+      this.type = type;
+      this.strategy = strategy;
+      if (strategy == Strategy.FIELDS) {
+        resolveFields();
+      } else if (strategy == Strategy.COLLECTION || strategy == Strategy.MAP) {
+        resolveContainer();
+      }
+    }
+
+    private void resolveFields() {
+      try {
+        constructor = type.getDeclaredConstructor();
+        constructor.setAccessible(true);
+      } catch (NoSuchMethodException e) {
+        MappingUtils.throwMappingException(e);
+      }
+      List<Field> result = new ArrayList<Field>();
+      for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+        for (Field field : current.getDeclaredFields()) {
+          if (!Modifier.isStatic(field.getModifiers())) {
+            field.setAccessible(true);
+            result.add(field);
+          }
+        }
+      }
+      fields = result.toArray(new Field[result.size()]);
+      sharedFields = new boolean[fields.length];
+      for (int i = 0; i < fields.length; i++) {
+        Class<?> fieldType = fields[i].getType();
+        // final types could not hold a subclass, so their strategy is known without looking at the value
+        sharedFields[i] = fieldType.isPrimitive()
+            || (Modifier.isFinal(fieldType.getModifiers()) && resolveStrategy(fieldType) == Strategy.SHARE);
+      }
+    }
+
+    /**
+     * Same container class is created by public default constructor or by public clone() emptied afterwards (EnumMap,
+     * EnumSet, subclasses of standard containers). Unmodifiable views and Arrays.asList lists are recreated as such
+     * around the copy, other containers are copied to the closest standard one.
+     */
+    private void resolveContainer() {
+      if (hasPublicConstructor()) {
+        container = Container.CONSTRUCTOR;
+      } else if (Cloneable.class.isAssignableFrom(type) && (cloneMethod = getPublicCloneMethod()) != null) {
+        container = Container.CLONE;
+      } else if (type.getName().startsWith("java.util.Collections$Unmodifiable")) {
+        container = Container.UNMODIFIABLE;
+      } else if (type == FIXED_SIZE_LIST_CLASS) {
+        container = Container.FIXED_SIZE_LIST;
+      } else {
+        container = Container.STANDARD;
+      }
+    }
+
+    private Method getPublicCloneMethod() {
+      try {
+        Method result = type.getMethod("clone");
+        // public method declared by a non public class could not be invoked without it
+        if (!Modifier.isPublic(result.getDeclaringClass().getModifiers())) {
+          result.setAccessible(true);
+        }
+        return result;
+      } catch (NoSuchMethodException e) {
+        return null;
+      } catch (SecurityException e) {
+        return null;
+      }
+    }
+
+    Object clone(Object source, CloneContext context) {
+      switch (strategy) {
+        case ARRAY:
+          return cloneArray(source, context);
+        case COLLECTION:
+          return cloneCollection((Collection<?>) source, context);
+        case MAP:
+          return cloneMap((Map<?, ?>) source, context);
+        case FIELDS:
+          return cloneFields(source, context);
+        default:
+          Object result = context.mapper.map(source, MappingUtils.getRealClass(type));
+          context.clones.put(source, result);
+          return result;
+      }
+    }
+
+    private Object cloneArray(Object source, CloneContext context) {
+      int length = Array.getLength(source);
+      Object result = Array.newInstance(type.getComponentType(), length);
+      context.clones.put(source, result);
+      if (type.getComponentType().isPrimitive()) {
+        System.arraycopy(source, 0, result, 0, length);
+      } else {
+        Object[] sourceArray = (Object[]) source;
+        Object[] resultArray = (Object[]) result;
+        for (int i = 0; i < length; i++) {
+          resultArray[i] = DeepCloner.this.clone(sourceArray[i], context);
+        }
+      }
+      return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object cloneCollection(Collection<?> source, CloneContext context) {
+      if (container == Container.FIXED_SIZE_LIST) {
+        List<Object> result = Arrays.asList(source.toArray());
+        context.clones.put(source, result);
+        for (ListIterator<Object> iterator = result.listIterator(); iterator.hasNext();) {
+          iterator.set(DeepCloner.this.clone(iterator.next(), context));
+        }
+        return result;
+      }
+      Collection<Object> target = (Collection<Object>) newContainer(source);
+      Collection<Object> result = container == Container.UNMODIFIABLE ? unmodifiableCollection(target) : target;
+      context.clones.put(source, result);
+      for (Object element : source) {
+        target.add(DeepCloner.this.clone(element, context));
+      }
+      return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object cloneMap(Map<?, ?> source, CloneContext context) {
+      Map<Object, Object> target = (Map<Object, Object>) newContainer(source);
+      Map<Object, Object> result = container != Container.UNMODIFIABLE ? target
+          : target instanceof NavigableMap ? Collections.unmodifiableNavigableMap((NavigableMap<Object, Object>) target)
+          : Collections.unmodifiableMap(target);
+      context.clones.put(source, result);
+      for (Map.Entry<?, ?> entry : source.entrySet()) {
+        target.put(DeepCloner.this.clone(entry.getKey(), context), DeepCloner.this.clone(entry.getValue(), context));
+      }
+      return result;
+    }
+
+    private Collection<Object> unmodifiableCollection(Collection<Object> target) {
+      if (target instanceof NavigableSet) {
+        return Collections.unmodifiableNavigableSet((NavigableSet<Object>) target);
+      } else if (target instanceof Set) {
+        return Collections.unmodifiableSet((Set<Object>) target);
+      } else if (target instanceof List) {
+        return Collections.unmodifiableList((List<Object>) target);
+      }
+      return Collections.unmodifiableCollection(target);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object newContainer(Object source) {
+      if (container == Container.CLONE) {
+        return newClone(source);
+      }
+      boolean constructor = container == Container.CONSTRUCTOR;
+      if (source instanceof SortedSet) {
+        return type == TreeSet.class || !constructor ? new TreeSet<Object>(((SortedSet<Object>) source).comparator())
+            : newInstance();
+      }
+      if (source instanceof SortedMap) {
+        return type == TreeMap.class || !constructor ? new TreeMap<Object, Object>(((SortedMap<Object, Object>) source).comparator())
+            : newInstance();
+      }
+      if (constructor) {
+        return newInstance();
+      }
+      if (source instanceof Set) {
+        return new LinkedHashSet<Object>();
+      } else if (source instanceof Map) {
+        return new LinkedHashMap<Object, Object>();
+      }
+      return new ArrayList<Object>();
+    }
+
+    private Object newClone(Object source) {
+      Object result = null;
+      try {
+        result = cloneMethod.invoke(source);
+        if (result instanceof Collection) {
+          ((Collection<?>) result).clear();
+        } else {
+          ((Map<?, ?>) result).clear();
+        }
+      } catch (Exception e) {
+        MappingUtils.throwMappingException(e);
+      }
+      return result;
+    }
+
+    private boolean hasPublicConstructor() {
+      if (!Modifier.isPublic(type.getModifiers())) {
+        return false;
+      }
+      try {
+        type.getConstructor();
+        return true;
+      } catch (NoSuchMethodException e) {
+        return false;
+      }
+    }
+
+    private Object newInstance() {
+      Object result = null;
+      try {
+        result = (constructor != null ? constructor : type.getConstructor()).newInstance();
+      } catch (Exception e) {
+        MappingUtils.throwMappingException(e);
+      }
+      return result;
+    }
+
+    private Object cloneFields(Object source, CloneContext context) {
+      Object result = newInstance();
+      context.clones.put(source, result);
+      for (int i = 0; i < fields.length; i++) {
+        Field field = fields[i];
+        try {
+          Object value = field.get(source);
+          Object copy = sharedFields[i] ? value : DeepCloner.this.clone(value, context);
+          if (copy != null && !ClassUtils.isAssignable(copy.getClass(), field.getType(), true)) {
+            MappingUtils.throwMappingException("Could not deep clone field " + field + ", its value of "
+                + value.getClass().getName() + " was copied to " + copy.getClass().getName());
+          }
+          field.set(result, copy);
+        } catch (IllegalAccessException e) {
+          MappingUtils.throwMappingException(e);
+        } catch (IllegalArgumentException e) {
+          MappingUtils.throwMappingException(e);
+        }
+      }
+      return result;
+    }
+  }
+
+  /**
+   * State of a single deep clone call
+   */
+  private static final class CloneContext {
+
+    private final Mapper mapper;
+    private final Map<Object, Object> clones = new IdentityHashMap<Object, Object>();
+
+    CloneContext(Mapper mapper) {
+      this.mapper = mapper;
+    }
+  }
+
+}
@@ -0,0 +1,57 @@
+/**
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Destination property paths written by {@link DozerBeanMapper#mapDelta(Object, Object, Object)}, in the order
+ * they were mapped. Nested properties are separated by dots and list elements are addressed by their index,
+ * f.e. "address.street" or "items[2].price". Path "this" means that the whole destination object was mapped.
+ */
+public final class DeltaReport {
+
+  private final List<String> changedPaths = new ArrayList<String>();
+
+  DeltaReport() {
+  }
+
+  void add(String path) {
+    changedPaths.add(path);
+  }
+
+  /**
+   * @return unmodifiable list of destination paths which were mapped
+   */
+  public List<String> getChangedPaths() {
+    return Collections.unmodifiableList(changedPaths);
+  }
+
+  /**
+   * @return true if any destination property was mapped
+   */
+  public boolean hasChanges() {
+    return !changedPaths.isEmpty();
+  }
+
+  @Override
+  public String toString() {
+    return changedPaths.toString();
+  }
+
+}
@@ -24,11 +24,13 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.dozer.cache.CacheManager;
 import org.dozer.cache.DozerCacheManager;
 import org.dozer.cache.DozerCacheType;
+import org.dozer.classmap.ClassMap;
 import org.dozer.classmap.ClassMappings;
 import org.dozer.classmap.Configuration;
 import org.dozer.classmap.MappingFileData;
@@ -47,6 +49,7 @@ import org.dozer.stats.GlobalStatistics;
 import org.dozer.stats.StatisticType;
 import org.dozer.stats.StatisticsInterceptor;
 import org.dozer.stats.StatisticsManager;
+import org.dozer.util.ImmutableTypeRegistry;
 import org.dozer.util.MappingValidator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -82,8 +85,12 @@ public class DozerBeanMapper implements Mapper {
   private final List<MappingFileData> builderMappings = new ArrayList<MappingFileData>();
   private final List<DozerEventListener> eventListeners = new ArrayList<DozerEventListener>();
   private final Map<String, CustomConverter> customConvertersWithId = new HashMap<String, CustomConverter>();
+  private final List<ImmutabilityDetector> immutabilityDetectors = new ArrayList<ImmutabilityDetector>();
 
   private CustomFieldMapper customFieldMapper;
+  private CollectionKeyExtractor collectionKeyExtractor;
+  private boolean schemaValidation = true;
+  private Executor mappingFilesExecutor;
 
   /*
    * Not accessible for injection
@@ -93,6 +100,8 @@ public class DozerBeanMapper implements Mapper {
   // There are no global caches. Caches are per bean mapper instance
   private final CacheManager cacheManager = new DozerCacheManager();
   private DozerEventManager eventManager;
+  private ImmutableTypeRegistry immutableTypes;
+  private DeepCloner deepCloner;
 
   public DozerBeanMapper() {
     this(Collections.<String>emptyList());
@@ -131,6 +140,122 @@ public class DozerBeanMapper implements Mapper {
     getMappingProcessor().map(source, destination);
   }
 
+  /**
+   * Constructs new instance of destinationClass and maps only destination properties selected by the field mask.
+   * Source properties of other destination properties are not read, which avoids f.e. loading of lazy associations.
+   *
+   * @param source source object
+   * @param destinationClass destination class
+   * @param fieldMask destination property paths to be mapped
+   * @param <T> destination type
+   * @return new instance of destinationClass
+   * @throws MappingException
+   */
+  public <T> T map(Object source, Class<T> destinationClass, FieldMask fieldMask) throws MappingException {
+    return getMappingProcessor(fieldMask).map(source, destinationClass);
+  }
+
+  /**
+   * Maps only destination properties selected by the field mask into existing destination object.
+   *
+   * @param source source object
+   * @param destination destination object
+   * @param fieldMask destination property paths to be mapped
+   * @throws MappingException
+   */
+  public void map(Object source, Object destination, FieldMask fieldMask) throws MappingException {
+    getMappingProcessor(fieldMask).map(source, destination);
+  }
+
+  /**
+   * Opens session for mapping many objects, f.e. a page of results, sharing identity of mapped objects across calls.
+   * Source objects referenced from several mapped objects are then mapped once and their mapped instance is shared.
+   * Session should be closed once the mapping is done.
+   *
+   * @return new open mapping session
+   */
+  public MappingSession openSession() {
+    return new MappingSession(getMappingProcessor());
+  }
+
+  /**
+   * Maps source into existing destination object as {@link #map(Object, Object)} and records which destination fields,
+   * including fields of nested objects and collection elements, were written with a different value.
+   *
+   * @param source source object
+   * @param destination destination object
+   * @return changes made to destination
+   * @throws MappingException
+   */
+  public ChangeSet mapAndTrack(Object source, Object destination) throws MappingException {
+    return mapAndTrack(source, destination, null);
+  }
+
+  /**
+   * Same as {@link #mapAndTrack(Object, Object)} using mapping with the given id.
+   */
+  public ChangeSet mapAndTrack(Object source, Object destination, String mapId) throws MappingException {
+    return getMappingProcessor(null).mapAndTrack(source, destination, mapId);
+  }
+
+  /**
+   * Maps into existing destination object only source properties whose values differ between the previous and the
+   * current version of source object. Nested objects and elements of equally sized lists are compared recursively and
+   * only their differing properties are mapped, other differing values are mapped as by {@link #map(Object, Object)}.
+   * Unchanged values are not compared with destination, so destination is expected to hold the result of mapping
+   * the previous version.
+   *
+   * @param previousSource previous version of source object, of the same class as source
+   * @param source current version of source object
+   * @param destination destination object
+   * @return destination property paths which were mapped
+   * @throws MappingException
+   */
+  public DeltaReport mapDelta(Object previousSource, Object source, Object destination) throws MappingException {
+    return mapDelta(previousSource, source, destination, null);
+  }
+
+  /**
+   * Same as {@link #mapDelta(Object, Object, Object)} using mapping with the given id.
+   */
+  public DeltaReport mapDelta(Object previousSource, Object source, Object destination, String mapId) throws MappingException {
+    return getMappingProcessor(null).mapDelta(source, destination, previousSource, mapId);
+  }
+
+  /**
+   * Creates deep copy of the given object of the same class. Mutable objects are copied recursively field by field,
+   * collections and arrays are copied element by element, while immutable and copy-by-reference types are shared.
+   * References shared within the source graph remain shared in the copy. Classes having custom same-class mapping or
+   * custom converter are mapped as by {@link #map(Object, Class)}.
+   * <p>
+   * Beans are copied through their fields, so unlike {@link #map(Object, Class)} to the same class getters and setters
+   * are not invoked and field mapping options of the global configuration, such as map-null or trim-strings, do not
+   * apply. For this reason same-class {@link #map(Object, Class)} calls keep mapping property by property.
+   *
+   * @param source object to clone
+   * @param <T> type of the object
+   * @return deep copy of source or null if source is null
+   * @throws MappingException
+   */
+  public <T> T deepClone(T source) throws MappingException {
+    Mapper processor = getMappingProcessor();
+    return deepCloner.clone(source, processor);
+  }
+
+  /**
+   * Returns class map applied when mapping source class to destination class, so that mappers reading source values
+   * without source objects can follow it. Default class map is created if there is no custom one, null is returned
+   * when class maps of super types apply as well.
+   *
+   * @param srcClass source class
+   * @param destClass destination class
+   * @param mapId map id or null
+   * @return class map or null
+   */
+  public ClassMap getStandaloneClassMap(Class<?> srcClass, Class<?> destClass, String mapId) {
+    return createMappingProcessor().getStandaloneClassMap(srcClass, destClass, mapId);
+  }
+
   /**
    * Returns list of provided mapping file URLs
    *
@@ -183,6 +308,8 @@ public class DozerBeanMapper implements Mapper {
     GlobalSettings globalSettings = GlobalSettings.getInstance();
     cacheManager.addCache(DozerCacheType.CONVERTER_BY_DEST_TYPE.name(), globalSettings.getConverterByDestTypeCacheMaxSize());
     cacheManager.addCache(DozerCacheType.SUPER_TYPE_CHECK.name(), globalSettings.getSuperTypesCacheMaxSize());
+    cacheManager.addCache(DozerCacheType.MAPPING_RESULT.name(), globalSettings.getMappingResultCacheMaxSize());
+    cacheManager.addCache(DozerCacheType.FIELD_MASK_SELECTION.name(), globalSettings.getFieldMaskSelectionCacheMaxSize());
 
     // stats
     statsMgr.increment(StatisticType.MAPPER_INSTANCES_COUNT);
@@ -193,14 +320,17 @@ public class DozerBeanMapper implements Mapper {
   }
 
   protected Mapper getMappingProcessor() {
-    initMappings();
+    return getMappingProcessor(null);
+  }
 
-    Mapper processor = new MappingProcessor(customMappings, globalConfiguration, cacheManager, statsMgr, customConverters,
-            eventManager, getCustomFieldMapper(), customConvertersWithId);
+  private InternalMapper getMappingProcessor(FieldMask fieldMask) {
+    MappingProcessor mappingProcessor = createMappingProcessor();
+    mappingProcessor.setFieldMask(fieldMask);
+    InternalMapper processor = mappingProcessor;
 
     // If statistics are enabled, then Proxy the processor with a statistics interceptor
     if (statsMgr.isStatisticsEnabled()) {
-      processor = (Mapper) Proxy.newProxyInstance(processor.getClass().getClassLoader(),
+      processor = (InternalMapper) Proxy.newProxyInstance(processor.getClass().getClassLoader(),
               processor.getClass().getInterfaces(),
               new StatisticsInterceptor(processor, statsMgr));
     }
@@ -208,6 +338,15 @@ public class DozerBeanMapper implements Mapper {
     return processor;
   }
 
+  private MappingProcessor createMappingProcessor() {
+    initMappings();
+
+    MappingProcessor processor = new MappingProcessor(customMappings, globalConfiguration, cacheManager, statsMgr, customConverters,
+            eventManager, getCustomFieldMapper(), customConvertersWithId, getCollectionKeyExtractor(), immutableTypes);
+    processor.setDeepCloner(deepCloner);
+    return processor;
+  }
+
   void loadCustomMappings() {
     CustomMappingsLoader customMappingsLoader = new CustomMappingsLoader();
     List<MappingFileData> xmlMappings = loadFromFiles(mappingFiles);
@@ -217,22 +356,24 @@ public class DozerBeanMapper implements Mapper {
     LoadMappingsResult loadMappingsResult = customMappingsLoader.load(allMappings);
     this.customMappings = loadMappingsResult.getCustomMappings();
     this.globalConfiguration = loadMappingsResult.getGlobalConfiguration();
+    this.deepCloner = new DeepCloner(customMappings, globalConfiguration, immutableTypes);
   }
 
   private List<MappingFileData> loadFromFiles(List<String> mappingFiles) {
-    MappingFileReader mappingFileReader = new MappingFileReader(XMLParserFactory.getInstance());
+    MappingFileReader mappingFileReader = new MappingFileReader(XMLParserFactory.getInstance(), schemaValidation,
+        mappingFilesExecutor);
     List<MappingFileData> mappingFileDataList = new ArrayList<MappingFileData>();
     if (mappingFiles != null && mappingFiles.size() > 0) {
       log.info("Using the following xml files to load custom mappings for the bean mapper instance: {}", mappingFiles);
+      List<URL> urls = new ArrayList<URL>(mappingFiles.size());
       for (String mappingFileName : mappingFiles) {
         log.info("Trying to find xml mapping file: {}", mappingFileName);
         URL url = MappingValidator.validateURL(mappingFileName);
         log.info("Using URL [" + url + "] to load custom xml mappings");
-        MappingFileData mappingFileData = mappingFileReader.read(url);
-        log.info("Successfully loaded custom xml mappings from URL: [{}]", url);
-
-        mappingFileDataList.add(mappingFileData);
+        urls.add(url);
       }
+      mappingFileDataList.addAll(mappingFileReader.read(urls));
+      log.info("Successfully loaded custom xml mappings from URLs: {}", urls);
     }
     return mappingFileDataList;
   }
@@ -247,7 +388,7 @@ public class DozerBeanMapper implements Mapper {
 	 */
 	public void addMapping(InputStream xmlStream) {
     checkIfInitialized();
-    MappingStreamReader fileReader = new MappingStreamReader(XMLParserFactory.getInstance());
+    MappingStreamReader fileReader = new MappingStreamReader(XMLParserFactory.getInstance(), schemaValidation);
     MappingFileData mappingFileData = fileReader.read(xmlStream);
     builderMappings.add(mappingFileData);
   }
@@ -282,6 +423,21 @@ public class DozerBeanMapper implements Mapper {
     this.customFieldMapper = customFieldMapper;
   }
 
+  public CollectionKeyExtractor getCollectionKeyExtractor() {
+    return collectionKeyExtractor;
+  }
+
+  /**
+   * Key extractor used to match source and destination elements when merging non-cumulative collections.
+   * If not set, elements are matched by equals()/hashCode().
+   *
+   * @param collectionKeyExtractor key extractor, for example returning the identifier of an entity
+   */
+  public void setCollectionKeyExtractor(CollectionKeyExtractor collectionKeyExtractor) {
+    checkIfInitialized();
+    this.collectionKeyExtractor = collectionKeyExtractor;
+  }
+
   /**
    * The {@link org.dozer.metadata.MappingMetadata} interface can be used to query information about the current
    * mapping definitions. It provides read only access to all important classes and field
@@ -307,6 +463,52 @@ public class DozerBeanMapper implements Mapper {
     this.customConvertersWithId.putAll(customConvertersWithId);
   }
 
+  public List<? extends ImmutabilityDetector> getImmutabilityDetectors() {
+    return Collections.unmodifiableList(immutabilityDetectors);
+  }
+
+  /**
+   * Detectors of additional immutable types, values of which are copied by reference instead of being mapped
+   * into new instances. Well known immutable JDK types are always recognized.
+   *
+   * @param immutabilityDetectors custom immutability detectors
+   */
+  public void setImmutabilityDetectors(List<? extends ImmutabilityDetector> immutabilityDetectors) {
+    checkIfInitialized();
+    this.immutabilityDetectors.clear();
+    this.immutabilityDetectors.addAll(immutabilityDetectors);
+  }
+
+  public boolean isSchemaValidation() {
+    return schemaValidation;
+  }
+
+  /**
+   * Controls validation of mapping XML against Dozer XML Schema. Could be switched off when mapping files are
+   * already validated at build time, to speed up startup. Enabled by default.
+   *
+   * @param schemaValidation false to skip schema validation of mapping XML
+   */
+  public void setSchemaValidation(boolean schemaValidation) {
+    checkIfInitialized();
+    this.schemaValidation = schemaValidation;
+  }
+
+  public Executor getMappingFilesExecutor() {
+    return mappingFilesExecutor;
+  }
+
+  /**
+   * Sets executor used to parse mapping files concurrently. By default mapping files are parsed one by one on the
+   * thread initializing the mapper. Executor is not shut down by the mapper.
+   *
+   * @param mappingFilesExecutor executor parsing mapping files, null to parse them on the initializing thread
+   */
+  public void setMappingFilesExecutor(Executor mappingFilesExecutor) {
+    checkIfInitialized();
+    this.mappingFilesExecutor = mappingFilesExecutor;
+  }
+
   private void checkIfInitialized() {
     if (ready.getCount() == 0) {
       throw new MappingException("Dozer Bean Mapper is already initialized! Modify settings before calling map()");
@@ -316,6 +518,7 @@ public class DozerBeanMapper implements Mapper {
   private void initMappings() {
     if (initializing.compareAndSet(false, true)) {
       try {
+        immutableTypes = new ImmutableTypeRegistry(immutabilityDetectors);
         loadCustomMappings();
         eventManager = new DozerEventManager(eventListeners);
       } catch (RuntimeException e) {
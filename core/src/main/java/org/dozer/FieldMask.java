@@ -0,0 +1,212 @@
+/**
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.commons.lang3.StringUtils;
+import org.dozer.classmap.ClassMap;
+import org.dozer.fieldmap.FieldMap;
+import org.dozer.util.DozerConstants;
+
+/**
+ * Set of destination property paths to be mapped, for example {@code "id", "name", "address.city"}. All other
+ * destination properties are skipped and their source values are not read. Path of a nested object selects all its
+ * properties, while path of its property selects only that property. Paths apply to every element of collections.
+ * <p>
+ * Field maps selected by a mask are resolved once per class mapping and cached by the mapper, paths matching no
+ * destination field are logged at that point. Instances are immutable and thread safe.
+ */
+public final class FieldMask {
+
+  private static final FieldMask ALL = new FieldMask(Collections.<String>emptySet());
+  private static final FieldMask NONE = new FieldMask(Collections.<String>emptySet());
+
+  private final Set<String> paths;
+  private final List<String[]> splitPaths = new ArrayList<String[]>();
+  private final ConcurrentMap<String, FieldMask> nestedMasks = new ConcurrentHashMap<String, FieldMask>();
+
+  private FieldMask(Set<String> paths) {
+    this.paths = Collections.unmodifiableSet(paths);
+    for (String path : paths) {
+      splitPaths.add(split(path));
+    }
+  }
+
+  /**
+   * @param paths dot separated destination property paths
+   * @return mask selecting given paths
+   */
+  public static FieldMask of(String... paths) {
+    return of(Arrays.asList(paths));
+  }
+
+  /**
+   * @param paths dot separated destination property paths
+   * @return mask selecting given paths
+   */
+  public static FieldMask of(Collection<String> paths) {
+    Set<String> result = new LinkedHashSet<String>();
+    for (String path : paths) {
+      if (StringUtils.isBlank(path)) {
+        throw new IllegalArgumentException("Field mask path can not be empty");
+      }
+      result.add(path.trim());
+    }
+    return new FieldMask(result);
+  }
+
+  public Set<String> getPaths() {
+    return paths;
+  }
+
+  /**
+   * Field maps of the class mapping selected by this mask, along with masks for their values.
+   */
+  List<SelectedField> select(ClassMap classMap) {
+    List<SelectedField> result = new ArrayList<SelectedField>();
+    for (FieldMap fieldMap : classMap.getFieldMaps()) {
+      FieldMask nested = getNested(fieldMap.getDestFieldName());
+      if (nested != NONE) {
+        result.add(new SelectedField(fieldMap, nested == ALL ? null : nested));
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Paths of this mask which select none of the field maps of given class mappings.
+   */
+  Set<String> getUnmatchedPaths(Collection<ClassMap> classMaps) {
+    Set<String> result = new LinkedHashSet<String>();
+    Iterator<String> pathIterator = paths.iterator();
+    for (String[] path : splitPaths) {
+      String pathName = pathIterator.next();
+      if (!isMatched(path, classMaps)) {
+        result.add(pathName);
+      }
+    }
+    return result;
+  }
+
+  private static boolean isMatched(String[] path, Collection<ClassMap> classMaps) {
+    for (ClassMap classMap : classMaps) {
+      for (FieldMap fieldMap : classMap.getFieldMaps()) {
+        String destFieldName = fieldMap.getDestFieldName();
+        if (destFieldName == null || DozerConstants.SELF_KEYWORD.equals(destFieldName)) {
+          // whole mask is passed to the mapping of this field
+          return true;
+        }
+        String[] field = split(destFieldName);
+        int common = 0;
+        while (common < path.length && common < field.length && path[common].equals(field[common])) {
+          common++;
+        }
+        if (common == path.length || common == field.length) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  private FieldMask getNested(String destFieldName) {
+    if (destFieldName == null || DozerConstants.SELF_KEYWORD.equals(destFieldName)) {
+      return this;
+    }
+    FieldMask result = nestedMasks.get(destFieldName);
+    if (result == null) {
+      result = createNested(split(destFieldName));
+      nestedMasks.putIfAbsent(destFieldName, result);
+    }
+    return result;
+  }
+
+  private FieldMask createNested(String[] field) {
+    Set<String> remainders = new LinkedHashSet<String>();
+    for (String[] path : splitPaths) {
+      int common = 0;
+      while (common < path.length && common < field.length && path[common].equals(field[common])) {
+        common++;
+      }
+      if (common == path.length) {
+        // whole field is selected by this or its parent path
+        return ALL;
+      }
+      if (common == field.length) {
+        remainders.add(StringUtils.join(path, DozerConstants.DEEP_FIELD_DELIMITER, common, path.length));
+      }
+    }
+    return remainders.isEmpty() ? NONE : new FieldMask(remainders);
+  }
+
+  private static String[] split(String path) {
+    String[] result = path.split(DozerConstants.DEEP_FIELD_DELIMITER_REGEXP);
+    for (int i = 0; i < result.length; i++) {
+      // indexes are not part of the mask, a[0] is the same as a
+      int index = result[i].indexOf('[');
+      result[i] = (index >= 0 ? result[i].substring(0, index) : result[i]).trim();
+    }
+    return result;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return this == o || (o instanceof FieldMask && paths.equals(((FieldMask) o).paths));
+  }
+
+  @Override
+  public int hashCode() {
+    return paths.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return "FieldMask" + paths;
+  }
+
+  /**
+   * Field map selected by mask and mask applied to its value, null if value is mapped completely
+   */
+  static final class SelectedField {
+
+    private final FieldMap fieldMap;
+    private final FieldMask nestedMask;
+
+    SelectedField(FieldMap fieldMap, FieldMask nestedMask) {
+      this.fieldMap = fieldMap;
+      this.nestedMask = nestedMask;
+    }
+
+    FieldMap getFieldMap() {
+      return fieldMap;
+    }
+
+    FieldMask getNestedMask() {
+      return nestedMask;
+    }
+  }
+
+}
@@ -0,0 +1,31 @@
+/**
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer;
+
+/**
+ * Public immutability detector interface. Values of types reported as immutable are copied by reference instead of
+ * being recursively mapped into a new instance, as long as the destination type is assignable from the source type.
+ *
+ * <p>
+ * A number of well known JDK types is recognized out of the box. Custom detectors could be registered with
+ * {@link DozerBeanMapper#setImmutabilityDetectors(java.util.List)}, for example to recognize classes annotated as
+ * immutable or final classes with only final fields. Results are cached per type.
+ */
+public interface ImmutabilityDetector {
+
+  boolean isImmutable(Class<?> type);
+
+}
@@ -0,0 +1,47 @@
+/**
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer;
+
+/**
+ * Mapping operations of {@link MappingProcessor} beyond {@link Mapper}. Declared as interface so that mapper can wrap
+ * them with statistics interceptor the same way as regular mappings. Only intended for internal use.
+ */
+public interface InternalMapper extends Mapper {
+
+  /**
+   * Maps into existing destination object only source values which differ between previous and current source object.
+   *
+   * @param source current version of source object
+   * @param destination destination object holding result of mapping previous version
+   * @param previousSource previous version of source object
+   * @param mapId mapping identifier
+   * @return destination paths which were mapped
+   * @throws MappingException
+   */
+  DeltaReport mapDelta(Object source, Object destination, Object previousSource, String mapId) throws MappingException;
+
+  /**
+   * Maps source into existing destination object and records destination fields written with a different value.
+   *
+   * @param source source object
+   * @param destination destination object
+   * @param mapId mapping identifier
+   * @return changes made to destination
+   * @throws MappingException
+   */
+  ChangeSet mapAndTrack(Object source, Object destination, String mapId) throws MappingException;
+
+}
@@ -15,6 +15,7 @@
  */
 package org.dozer;
 
+import java.beans.PropertyDescriptor;
 import java.lang.reflect.Array;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Modifier;
@@ -22,14 +23,18 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 
+import org.apache.commons.lang3.ClassUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.dozer.builder.BuilderUtil;
 import org.dozer.builder.DestBeanBuilderCreator;
@@ -42,7 +47,10 @@ import org.dozer.classmap.ClassMapBuilder;
 import org.dozer.classmap.ClassMappings;
 import org.dozer.classmap.Configuration;
 import org.dozer.classmap.CopyByReferenceContainer;
+import org.dozer.classmap.LazyLoadPolicy;
 import org.dozer.classmap.RelationshipType;
+import org.dozer.classmap.ResultCachePolicy;
+import org.dozer.converters.CustomConverterContainer;
 import org.dozer.converters.DateFormatContainer;
 import org.dozer.converters.PrimitiveOrWrapperConverter;
 import org.dozer.event.DozerEvent;
@@ -56,14 +64,19 @@ import org.dozer.fieldmap.ExcludeFieldMap;
 import org.dozer.fieldmap.FieldMap;
 import org.dozer.fieldmap.HintContainer;
 import org.dozer.fieldmap.MapFieldMap;
+import org.dozer.propertydescriptor.AbstractPropertyDescriptor;
 import org.dozer.stats.StatisticType;
 import org.dozer.stats.StatisticsManager;
+import org.dozer.util.CollectionMergeIndex;
 import org.dozer.util.CollectionUtils;
+import org.dozer.util.DeepHierarchyUtils;
 import org.dozer.util.DozerConstants;
+import org.dozer.util.ImmutableTypeRegistry;
 import org.dozer.util.IteratorUtils;
 import org.dozer.util.LogMsgFactory;
 import org.dozer.util.MappingUtils;
 import org.dozer.util.MappingValidator;
+import org.dozer.util.PrimitiveArrayUtils;
 import org.dozer.util.ReflectionUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -84,7 +97,7 @@ import static org.dozer.util.DozerConstants.ITERATE;
  * @author johnsen.knut-erik
  * @author jose.barragan
  */
-public class MappingProcessor implements Mapper {
+public class MappingProcessor implements InternalMapper {
 
   private final Logger log = LoggerFactory.getLogger(MappingProcessor.class);
 
@@ -95,18 +108,31 @@ public class MappingProcessor implements Mapper {
   private final StatisticsManager statsMgr;
   private final EventManager eventMgr;
   private final CustomFieldMapper customFieldMapper;
+  private final CollectionKeyExtractor collectionKeyExtractor;
+  private final ImmutableTypeRegistry immutableTypes;
 
   private final MappedFieldsTracker mappedFields = new MappedFieldsTracker();
 
+  // Destination fields to be mapped for the object currently being mapped, null if all
+  private FieldMask fieldMask;
+
+  // Records destination fields written with a different value, null if changes are not tracked
+  private ChangeSet changeSet;
+
   private final Cache converterByDestTypeCache;
   private final Cache superTypeCache;
+  private final Cache resultCache;
+  private final Cache fieldMaskCache;
+  private DeepCloner deepCloner;
   private final PrimitiveOrWrapperConverter primitiveConverter = new PrimitiveOrWrapperConverter();
   private final LogMsgFactory logMsgFactory = new LogMsgFactory();
+  private final MappingUtils.IndexedCursor indexedCursor = new MappingUtils.IndexedCursor();
 
   protected MappingProcessor(ClassMappings classMappings, Configuration globalConfiguration, CacheManager cacheMgr,
                              StatisticsManager statsMgr, List<CustomConverter> customConverterObjects,
                              DozerEventManager eventManager, CustomFieldMapper customFieldMapper,
-                             Map<String, CustomConverter> customConverterObjectsWithId) {
+                             Map<String, CustomConverter> customConverterObjectsWithId,
+                             CollectionKeyExtractor collectionKeyExtractor, ImmutableTypeRegistry immutableTypes) {
     this.classMappings = classMappings;
     this.globalConfiguration = globalConfiguration;
     this.statsMgr = statsMgr;
@@ -115,7 +141,30 @@ public class MappingProcessor implements Mapper {
     this.customFieldMapper = customFieldMapper;
     this.converterByDestTypeCache = cacheMgr.getCache(DozerCacheType.CONVERTER_BY_DEST_TYPE.name());
     this.superTypeCache = cacheMgr.getCache(DozerCacheType.SUPER_TYPE_CHECK.name());
+    this.resultCache = cacheMgr.getCache(DozerCacheType.MAPPING_RESULT.name());
+    this.fieldMaskCache = cacheMgr.getCache(DozerCacheType.FIELD_MASK_SELECTION.name());
     this.customConverterObjectsWithId = customConverterObjectsWithId;
+    this.collectionKeyExtractor = collectionKeyExtractor;
+    this.immutableTypes = immutableTypes;
+  }
+
+  /**
+   * Restricts mapping to destination fields selected by the mask
+   *
+   * @param fieldMask field mask applied to top level objects, null to map all fields
+   */
+  void setFieldMask(FieldMask fieldMask) {
+    this.fieldMask = fieldMask;
+  }
+
+
+  /**
+   * Sets cloner used to copy cached mapping results
+   *
+   * @param deepCloner cloner used by {@link ResultCachePolicy#COPY}
+   */
+  void setDeepCloner(DeepCloner deepCloner) {
+    this.deepCloner = deepCloner;
   }
 
   /* Mapper Interface Implementation */
@@ -139,6 +188,69 @@ public class MappingProcessor implements Mapper {
   }
   /* End of Mapper Interface Implementation */
 
+  /**
+   * Maps source into existing destination object as {@link #map(Object, Object, String)} and records destination
+   * fields written with a different value.
+   *
+   * @param srcObj  source object
+   * @param destObj destination object
+   * @param mapId   mapping identifier
+   * @return changes made to destination
+   */
+  public ChangeSet mapAndTrack(Object srcObj, Object destObj, String mapId) {
+    ChangeSet result = new ChangeSet();
+    changeSet = result;
+    try {
+      map(srcObj, destObj, mapId);
+    } finally {
+      changeSet = null;
+    }
+    return result;
+  }
+
+  /**
+   * Maps into existing destination object only source values which differ between previous and current source object.
+   * Nested objects and list elements present in both versions and in destination are compared recursively, other
+   * differing values are mapped as by {@link #map(Object, Object, String)}.
+   *
+   * @param srcObj         current version of source object
+   * @param destObj        destination object holding result of mapping previous version
+   * @param previousSrcObj previous version of source object
+   * @param mapId          mapping identifier
+   * @return destination paths which were mapped
+   */
+  public DeltaReport mapDelta(Object srcObj, Object destObj, Object previousSrcObj, String mapId) {
+    MappingValidator.validateMappingRequest(srcObj, destObj);
+    MappingValidator.validateMappingRequest(previousSrcObj);
+    previousSrcObj = MappingUtils.deProxy(previousSrcObj);
+    srcObj = MappingUtils.deProxy(srcObj);
+    if (!previousSrcObj.getClass().equals(srcObj.getClass())) {
+      MappingUtils.throwMappingException("Previous source object of type " + previousSrcObj.getClass().getName()
+          + " can not be compared with source object of type " + srcObj.getClass().getName());
+    }
+
+    DeltaReport report = new DeltaReport();
+    ClassMap classMap = null;
+    try {
+      classMap = getClassMap(srcObj.getClass(), destObj.getClass(), mapId);
+
+      eventMgr.fireEvent(new DozerEvent(DozerEventType.MAPPING_STARTED, classMap, null, srcObj, destObj, null));
+
+      ClassMap deltaClassMap = getDeltaClassMap(previousSrcObj, srcObj, destObj, mapId);
+      if (deltaClassMap != null) {
+        mapDelta(deltaClassMap, previousSrcObj, srcObj, destObj, "", report);
+      } else {
+        map(classMap, srcObj, destObj, false, new ArrayList<String>(), mapId);
+        report.add(DozerConstants.SELF_KEYWORD);
+      }
+    } catch (Throwable e) {
+      MappingUtils.throwMappingException(e);
+    }
+    eventMgr.fireEvent(new DozerEvent(DozerEventType.MAPPING_FINISHED, classMap, null, srcObj, destObj, null));
+
+    return report;
+  }
+
   /**
    * Single point of entry for atomic mapping operations
    *
@@ -155,7 +267,7 @@ public class MappingProcessor implements Mapper {
     Class<T> destType;
     T result;
     if (destClass == null) {
-      destType = (Class<T>) destObj.getClass();
+      destType = (Class<T>) getDestClass(destObj);
       result = destObj;
     } else {
       destType = destClass;
@@ -175,7 +287,7 @@ public class MappingProcessor implements Mapper {
           .getClass(), destType);
 
 
-      if (destObj == null) {
+      if (destObj == null && fieldMask == null) {
         // If this is a nested MapperAware conversion this mapping can be already processed
         // but we can do this optimization only in case of no destObject, instead we must copy to the dest object
         Object alreadyMappedValue = mappedFields.getMappedValue(srcObj, destType, mapId);
@@ -215,20 +327,67 @@ public class MappingProcessor implements Mapper {
    */
   private <T> T createByCreationDirectiveAndMap(BeanCreationDirective creationDirective, ClassMap classMap, Object srcObj, T result, boolean bypassSuperMappings, String mapId) {
     if (result == null) {
-      BeanBuilder beanBuilder = DestBeanBuilderCreator.create(creationDirective);
-      if (beanBuilder == null) {
-        result = (T) DestBeanCreator.create(creationDirective);
-        mapToDestObject(classMap, srcObj, result, bypassSuperMappings, mapId);
-      } else {
-        mapToDestObject(classMap, srcObj, beanBuilder, bypassSuperMappings, mapId);
-        result = (T) beanBuilder.build();
+      if (isResultCached(classMap)) {
+        return createByResultCache(creationDirective, classMap, srcObj, bypassSuperMappings, mapId);
       }
+      result = createAndMap(creationDirective, classMap, srcObj, bypassSuperMappings, mapId);
     } else {
       mapToDestObject(classMap, srcObj, result, bypassSuperMappings, mapId);
     }
     return result;
   }
 
+  private <T> T createAndMap(BeanCreationDirective creationDirective, ClassMap classMap, Object srcObj, boolean bypassSuperMappings, String mapId) {
+    T result;
+    BeanBuilder beanBuilder = DestBeanBuilderCreator.create(creationDirective);
+    if (beanBuilder == null) {
+      result = (T) DestBeanCreator.create(creationDirective);
+      mapToDestObject(classMap, srcObj, result, bypassSuperMappings, mapId);
+    } else {
+      mapToDestObject(classMap, srcObj, beanBuilder, bypassSuperMappings, mapId);
+      result = (T) beanBuilder.build();
+    }
+    return result;
+  }
+
+  private boolean isResultCached(ClassMap classMap) {
+    ResultCachePolicy policy = classMap.getResultCachePolicy();
+    // Partially mapped results must not be shared with other mappings
+    return policy == ResultCachePolicy.SHARE && fieldMask == null
+            || policy == ResultCachePolicy.COPY && fieldMask == null && deepCloner != null;
+  }
+
+  private boolean isSharedResult(Object srcObj, Object destObj, String mapId) {
+    if (!classMappings.hasSharedResults()) {
+      return false;
+    }
+    ClassMap classMap = getClassMap(srcObj.getClass(), destObj.getClass(), mapId);
+    return classMap.getResultCachePolicy() == ResultCachePolicy.SHARE;
+  }
+
+  /**
+   * Returns cached result of mapping the source object, the result is created and cached on first request.
+   * Depending on result cache policy of the class map either cached instance or its deep copy is returned. With
+   * {@link ResultCachePolicy#COPY} the cache holds a private copy, the instances handed out are registered as mapped
+   * values, so references to the same source within one mapping share a single copy.
+   */
+  private <T> T createByResultCache(BeanCreationDirective creationDirective, ClassMap classMap, Object srcObj, boolean bypassSuperMappings, String mapId) {
+    Object key = CacheKeyFactory.createResultKey(srcObj, creationDirective.getActualClass(), classMap.getMapId());
+    boolean copy = classMap.getResultCachePolicy() == ResultCachePolicy.COPY;
+    T cached = (T) resultCache.get(key);
+    if (cached == null) {
+      T result = createAndMap(creationDirective, classMap, srcObj, bypassSuperMappings, mapId);
+      resultCache.put(key, copy ? deepCloner.clone(result, this) : result);
+      return result;
+    }
+    if (copy) {
+      T result = deepCloner.clone(cached, this);
+      mappedFields.put(srcObj, result, mapId);
+      return result;
+    }
+    return cached;
+  }
+
   /**
    * This function used to map into created instance of destination class
    * @param classMap            object with mapping configuration
@@ -253,17 +412,20 @@ public class MappingProcessor implements Mapper {
     // 1596766 - Recursive object mapping issue. Prevent recursive mapping
     // infinite loop. Keep a record of mapped fields
     // by storing the id of the sourceObj and the destObj to be mapped. This can
-    // be referred to later to avoid recursive mapping loops
-    mappedFields.put(srcObj, destObj, mapId);
+    // be referred to later to avoid recursive mapping loops. Results mapped under a field mask are partial, so they
+    // are not shared, masks are finite and could not loop anyway
+    if (fieldMask == null) {
+      mappedFields.put(srcObj, destObj, mapId);
+    }
 
     // If class map hasn't already been determined, find the appropriate one for
     // the src/dest object combination
     if (classMap == null) {
-      classMap = getClassMap(srcObj.getClass(), destObj.getClass(), mapId);
+      classMap = getClassMap(srcObj.getClass(), getDestClass(destObj), mapId);
     }
 
     Class<?> srcClass = srcObj.getClass();
-    Class<?> destClass = destObj.getClass();
+    Class<?> destClass = getDestClass(destObj);
 
     // Check to see if custom converter has been specified for this mapping
     // combination. If so, just use it.
@@ -275,8 +437,9 @@ public class MappingProcessor implements Mapper {
     }
 
     // Now check for super class mappings.  Process super class mappings first.
+    Collection<ClassMap> superMappings = null;
     if (!bypassSuperMappings) {
-      Collection<ClassMap> superMappings = new ArrayList<ClassMap>();
+      superMappings = new ArrayList<ClassMap>();
 
       Collection<ClassMap> superClasses = checkForSuperTypeMapping(srcClass, destClass);
       //List<ClassMap> interfaceMappings = classMappings.findInterfaceMappings(srcClass, destClass);
@@ -288,6 +451,11 @@ public class MappingProcessor implements Mapper {
       }
     }
 
+    if (fieldMask != null) {
+      mapMaskedFields(classMap, superMappings, srcObj, destObj, mappedParentFields);
+      return;
+    }
+
     // Perform mappings for each field. Iterate through Fields Maps for this class mapping
     for (FieldMap fieldMapping : classMap.getFieldMaps()) {
       //Bypass field if it has already been mapped as part of super class mappings.
@@ -299,6 +467,221 @@ public class MappingProcessor implements Mapper {
     }
   }
 
+  /**
+   * Maps only fields selected by current field mask, source values of other fields are not read.
+   * Values of selected fields are mapped with the part of the mask nested under them.
+   *
+   * @param superMappings super class mappings already processed, null if this is one of them
+   */
+  private void mapMaskedFields(ClassMap classMap, Collection<ClassMap> superMappings, Object srcObj, Object destObj,
+                               List<String> mappedParentFields) {
+    FieldMask parentMask = fieldMask;
+    try {
+      for (FieldMask.SelectedField selectedField : selectMaskedFields(classMap, superMappings)) {
+        FieldMap fieldMapping = selectedField.getFieldMap();
+        String key = MappingUtils.getMappedParentFieldKey(destObj, fieldMapping);
+        if (mappedParentFields != null && mappedParentFields.contains(key)) {
+          continue;
+        }
+        fieldMask = selectedField.getNestedMask();
+        mapField(fieldMapping, srcObj, destObj);
+      }
+    } finally {
+      fieldMask = parentMask;
+    }
+  }
+
+  /**
+   * Field maps selected by current field mask, cached per class mapping and mask. Paths matching no field of the
+   * whole class hierarchy are logged once, when the selection is resolved. Selections for super class mappings are
+   * cached separately and not checked, as paths may select fields of the subclass.
+   */
+  @SuppressWarnings("unchecked")
+  private List<FieldMask.SelectedField> selectMaskedFields(ClassMap classMap, Collection<ClassMap> superMappings) {
+    Object key = Arrays.asList(classMap, fieldMask, superMappings != null);
+    List<FieldMask.SelectedField> result = (List<FieldMask.SelectedField>) fieldMaskCache.get(key);
+    if (result == null) {
+      result = fieldMask.select(classMap);
+      if (superMappings != null) {
+        Collection<ClassMap> hierarchy = new ArrayList<ClassMap>(superMappings);
+        hierarchy.add(classMap);
+        Set<String> unmatchedPaths = fieldMask.getUnmatchedPaths(hierarchy);
+        if (!unmatchedPaths.isEmpty()) {
+          log.warn("Field mask paths {} match no destination field of {}, they are ignored", unmatchedPaths,
+                  classMap.getDestClassName());
+        }
+      }
+      fieldMaskCache.put(key, result);
+    }
+    return result;
+  }
+
+  private void mapDelta(ClassMap classMap, Object previousSrcObj, Object srcObj, Object destObj, String path, DeltaReport report) {
+    mappedFields.put(srcObj, destObj, classMap.getMapId());
+
+    // Super class mappings first, same as for regular mapping
+    List<String> mappedParentFields = new ArrayList<String>();
+    for (ClassMap superClassMap : checkForSuperTypeMapping(srcObj.getClass(), destObj.getClass())) {
+      mapFieldsDelta(superClassMap, previousSrcObj, srcObj, destObj, mappedParentFields, path, report);
+    }
+    mapFieldsDelta(classMap, previousSrcObj, srcObj, destObj, mappedParentFields, path, report);
+  }
+
+  private void mapFieldsDelta(ClassMap classMap, Object previousSrcObj, Object srcObj, Object destObj,
+                              List<String> mappedParentFields, String path, DeltaReport report) {
+    for (FieldMap fieldMapping : classMap.getFieldMaps()) {
+      String key = MappingUtils.getMappedParentFieldKey(destObj, fieldMapping);
+      if (mappedParentFields.contains(key) || fieldMapping instanceof ExcludeFieldMap) {
+        continue;
+      }
+      mappedParentFields.add(key);
+
+      String destPath = path + fieldMapping.getDestFieldName();
+      boolean mapWhole;
+      try {
+        mapWhole = mapFieldDelta(fieldMapping, previousSrcObj, srcObj, destObj, destPath, report);
+      } catch (Throwable e) {
+        handleFieldMappingError(e, fieldMapping, srcObj, null, destObj);
+        continue;
+      }
+      if (mapWhole) {
+        mapField(fieldMapping, srcObj, destObj);
+        report.add(destPath);
+      }
+    }
+  }
+
+  /**
+   * Compares previous and current source value of the field and maps nested differences
+   *
+   * @return true if the field has to be mapped as a whole
+   */
+  private boolean mapFieldDelta(FieldMap fieldMapping, Object previousSrcObj, Object srcObj, Object destObj,
+                                String destPath, DeltaReport report) {
+    // comparing values which are not loaded yet would load them, regular mapping applies the lazy load policy instead
+    LazyLoadPolicy lazyLoadPolicy = fieldMapping.getLazyLoadPolicy();
+    boolean checkUninitialized = lazyLoadPolicy != LazyLoadPolicy.INITIALIZE;
+    if (checkUninitialized
+        && (hasUninitializedSrcParent(previousSrcObj, fieldMapping) || hasUninitializedSrcParent(srcObj, fieldMapping))) {
+      return true;
+    }
+    Object previousValue = fieldMapping.getSrcFieldValue(previousSrcObj);
+    Object srcFieldValue = fieldMapping.getSrcFieldValue(srcObj);
+    if (previousValue == srcFieldValue) {
+      return false;
+    }
+    if (checkUninitialized && (MappingUtils.isUninitialized(previousValue) || MappingUtils.isUninitialized(srcFieldValue))) {
+      return true;
+    }
+    if (isUnchangedValue(previousValue, srcFieldValue)) {
+      return false;
+    }
+    return !mapFieldValueDelta(fieldMapping, previousValue, srcFieldValue, destObj, destPath, report);
+  }
+
+  /**
+   * Compares nested object or list held by destination field with its previous and current source value
+   *
+   * @return false if the field has to be mapped as a whole
+   */
+  private boolean mapFieldValueDelta(FieldMap fieldMapping, Object previousValue, Object srcFieldValue, Object destObj,
+                                     String destPath, DeltaReport report) {
+    if (previousValue == null || srcFieldValue == null || customFieldMapper != null || fieldMapping.isCopyByReference()
+        || ITERATE.equals(fieldMapping.getDestFieldType()) || fieldMapping.getCustomConverter() != null
+        || fieldMapping.getCustomConverterId() != null) {
+      return false;
+    }
+    Object destFieldValue = fieldMapping.getDestValue(destObj);
+    if (srcFieldValue instanceof List && destFieldValue instanceof List) {
+      return mapListDelta((List<?>) previousValue, (List<?>) srcFieldValue, (List<?>) destFieldValue, fieldMapping,
+          destPath, report);
+    }
+    ClassMap classMap = getDeltaClassMap(previousValue, srcFieldValue, destFieldValue, fieldMapping.getMapId());
+    if (classMap == null) {
+      return false;
+    }
+    if (mappedFields.getMappedValue(srcFieldValue, destFieldValue.getClass(), fieldMapping.getMapId()) != destFieldValue) {
+      mapDelta(classMap, previousValue, srcFieldValue, destFieldValue, destPath + ".", report);
+    }
+    return true;
+  }
+
+  /**
+   * Compares lists of the same size element by element. Differing elements are compared recursively, so
+   * all of them have to be objects which can be mapped field by field.
+   *
+   * @return false if the list has to be mapped as a whole
+   */
+  private boolean mapListDelta(List<?> previousList, List<?> srcList, List<?> destList, FieldMap fieldMapping,
+                               String destPath, DeltaReport report) {
+    int size = srcList.size();
+    if (previousList.size() != size || destList.size() != size) {
+      return false;
+    }
+    boolean checkUninitialized = fieldMapping.getLazyLoadPolicy() != LazyLoadPolicy.INITIALIZE;
+    String mapId = fieldMapping.getMapId();
+    ClassMap[] elementClassMaps = new ClassMap[size];
+    for (int i = 0; i < size; i++) {
+      Object previousElement = previousList.get(i);
+      Object srcElement = srcList.get(i);
+      if (previousElement == srcElement) {
+        continue;
+      }
+      if (checkUninitialized && (MappingUtils.isUninitialized(previousElement) || MappingUtils.isUninitialized(srcElement))) {
+        return false;
+      }
+      if (!isUnchangedValue(previousElement, srcElement)) {
+        elementClassMaps[i] = getDeltaClassMap(previousElement, srcElement, destList.get(i), mapId);
+        if (elementClassMaps[i] == null) {
+          return false;
+        }
+      }
+    }
+    for (int i = 0; i < size; i++) {
+      if (elementClassMaps[i] != null) {
+        mapDelta(elementClassMaps[i], previousList.get(i), srcList.get(i), destList.get(i), destPath + "[" + i + "].", report);
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @return class map for comparing the objects field by field or null if they have to be mapped as a whole
+   */
+  private ClassMap getDeltaClassMap(Object previousSrcObj, Object srcObj, Object destObj, String mapId) {
+    if (previousSrcObj == null || srcObj == null || destObj == null || srcObj == destObj
+        || !previousSrcObj.getClass().equals(srcObj.getClass())
+        || !isDeltaMappable(srcObj.getClass()) || !isDeltaMappable(destObj.getClass())) {
+      return null;
+    }
+    ClassMap classMap = getClassMap(srcObj.getClass(), destObj.getClass(), mapId);
+    if (MappingUtils.findCustomConverter(converterByDestTypeCache, classMap.getCustomConverters(), srcObj.getClass(),
+        destObj.getClass()) != null) {
+      return null;
+    }
+    return classMap;
+  }
+
+  private boolean isDeltaMappable(Class<?> type) {
+    return !primitiveConverter.accepts(type) && !type.isEnum() && !CollectionUtils.isArray(type)
+        && !CollectionUtils.isCollection(type) && !MappingUtils.isSupportedMap(type) && !immutableTypes.isImmutable(type)
+        && !javax.xml.bind.JAXBElement.class.isAssignableFrom(type);
+  }
+
+  /**
+   * Objects which can be compared field by field and lists of them are never considered unchanged by equals, which
+   * is often based on identifier only
+   */
+  private boolean isUnchangedValue(Object previousValue, Object value) {
+    if (previousValue == value) {
+      return true;
+    }
+    if (previousValue == null || value == null || value instanceof List || isDeltaMappable(value.getClass())) {
+      return false;
+    }
+    return previousValue.equals(value);
+  }
+
   /**
    * Perform mapping of a field.
    * Uses {@link #mapFromFieldMap(Object, Object, Object, FieldMap)} to do the real work, unless
@@ -322,10 +705,18 @@ public class MappingProcessor implements Mapper {
       // custom field mapper returns false(indicating the
       // field was not actually mapped by the custom field mapper), proceed as
       // normal(use Dozer to map the field)
-      srcFieldValue = fieldMapping.getSrcFieldValue(srcObj);
       boolean fieldMapped = false;
-      if (customFieldMapper != null) {
-        fieldMapped = customFieldMapper.mapField(srcObj, destObj, srcFieldValue, fieldMapping.getClassMap(), fieldMapping);
+      LazyLoadPolicy lazyLoadPolicy = fieldMapping.getLazyLoadPolicy();
+      if (lazyLoadPolicy != LazyLoadPolicy.INITIALIZE && hasUninitializedSrcParent(srcObj, fieldMapping)) {
+        // reading a deep field through a proxy would load it
+        fieldMapped = mapUninitializedFieldValue(srcObj, destObj, null, fieldMapping, lazyLoadPolicy);
+      } else {
+        srcFieldValue = fieldMapping.getSrcFieldValue(srcObj, indexedCursor);
+        if (lazyLoadPolicy != LazyLoadPolicy.INITIALIZE && MappingUtils.isUninitialized(srcFieldValue)) {
+          fieldMapped = mapUninitializedFieldValue(srcObj, destObj, srcFieldValue, fieldMapping, lazyLoadPolicy);
+        } else if (customFieldMapper != null) {
+          fieldMapped = customFieldMapper.mapField(srcObj, destObj, srcFieldValue, fieldMapping.getClassMap(), fieldMapping);
+        }
       }
 
       if (!fieldMapped) {
@@ -342,26 +733,88 @@ public class MappingProcessor implements Mapper {
       statsMgr.increment(StatisticType.FIELD_MAPPING_SUCCESS_COUNT);
 
     } catch (Throwable e) {
-      log.error(logMsgFactory.createFieldMappingErrorMsg(srcObj, fieldMapping, srcFieldValue, destObj), e);
-      statsMgr.increment(StatisticType.FIELD_MAPPING_FAILURE_COUNT);
+      handleFieldMappingError(e, fieldMapping, srcObj, srcFieldValue, destObj);
+    }
+  }
 
-      // check error handling policy.
-      if (fieldMapping.isStopOnErrors()) {
-        MappingUtils.throwMappingException(e);
-      } else {
-        // check if any Exceptions should be allowed to be thrown
-        if (!fieldMapping.getClassMap().getAllowedExceptions().isEmpty() && e.getCause() instanceof InvocationTargetException) {
-          Throwable thrownType = ((InvocationTargetException) e.getCause()).getTargetException();
-          Class<? extends Throwable> exceptionClass = thrownType.getClass();
-          if (fieldMapping.getClassMap().getAllowedExceptions().contains(exceptionClass)) {
-            throw (RuntimeException) thrownType;
-          }
+  private void handleFieldMappingError(Throwable e, FieldMap fieldMapping, Object srcObj, Object srcFieldValue,
+                                       Object destObj) {
+    log.error(logMsgFactory.createFieldMappingErrorMsg(srcObj, fieldMapping, srcFieldValue, destObj), e);
+    statsMgr.increment(StatisticType.FIELD_MAPPING_FAILURE_COUNT);
+
+    // check error handling policy.
+    if (fieldMapping.isStopOnErrors()) {
+      MappingUtils.throwMappingException(e);
+    } else {
+      // check if any Exceptions should be allowed to be thrown
+      if (!fieldMapping.getClassMap().getAllowedExceptions().isEmpty() && e.getCause() instanceof InvocationTargetException) {
+        Throwable thrownType = ((InvocationTargetException) e.getCause()).getTargetException();
+        Class<? extends Throwable> exceptionClass = thrownType.getClass();
+        if (fieldMapping.getClassMap().getAllowedExceptions().contains(exceptionClass)) {
+          throw (RuntimeException) thrownType;
         }
-        statsMgr.increment(StatisticType.FIELD_MAPPING_FAILURE_IGNORED_COUNT);
       }
+      statsMgr.increment(StatisticType.FIELD_MAPPING_FAILURE_IGNORED_COUNT);
     }
   }
 
+  private boolean mapUninitializedFieldValue(Object srcObj, Object destObj, Object srcFieldValue, FieldMap fieldMapping,
+                                             LazyLoadPolicy lazyLoadPolicy) {
+    statsMgr.increment(StatisticType.LAZY_LOADS_AVOIDED_COUNT);
+    if (LazyLoadPolicy.MAP_NULL.equals(lazyLoadPolicy)) {
+      writeDestinationValue(destObj, null, fieldMapping, srcObj);
+    } else if (LazyLoadPolicy.ID_ONLY.equals(lazyLoadPolicy)) {
+      Class<?> destFieldType = fieldMapping.getDestHintContainer() != null ? fieldMapping.getDestHintContainer().getHint()
+          : fieldMapping.getDestFieldType(BuilderUtil.unwrapDestClassFromBuilder(destObj));
+      Object stub = createIdentifierStub(srcFieldValue, destFieldType);
+      // collections and values behind uninitialized parents have no identifier of their own and are left untouched
+      if (stub != null) {
+        writeDestinationValue(destObj, stub, fieldMapping, srcObj);
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Maps uninitialized collection element by the lazy load policy of the collection field, skipped elements are
+   * mapped to null
+   */
+  private Object mapUninitializedElement(Object srcValue, Class<?> destEntryType, LazyLoadPolicy lazyLoadPolicy) {
+    statsMgr.increment(StatisticType.LAZY_LOADS_AVOIDED_COUNT);
+    return LazyLoadPolicy.ID_ONLY.equals(lazyLoadPolicy) ? createIdentifierStub(srcValue, destEntryType) : null;
+  }
+
+  /**
+   * Creates new instance of destination type with just its identifier property set, without mapping anything else
+   */
+  private Object createIdentifierStub(Object srcFieldValue, Class<?> destFieldType) {
+    Object identifier = srcFieldValue != null ? MappingUtils.getUninitializedIdentifier(srcFieldValue) : null;
+    if (identifier == null) {
+      return null;
+    }
+    Object result = DestBeanCreator.create(destFieldType);
+    PropertyDescriptor identifierDescriptor = ReflectionUtils.findPropertyDescriptor(destFieldType,
+        DozerConstants.IDENTIFIER_PROPERTY, null);
+    if (identifierDescriptor != null && identifierDescriptor.getWriteMethod() != null) {
+      Class<?> identifierType = identifierDescriptor.getPropertyType();
+      if (primitiveConverter.accepts(identifierType)) {
+        identifier = primitiveConverter.convert(identifier, identifierType, new DateFormatContainer(null));
+      }
+      ReflectionUtils.invoke(identifierDescriptor.getWriteMethod(), result, new Object[] {identifier});
+    }
+    return result;
+  }
+
+  /**
+   * Deep source field is read through its parents, so any of them which is not loaded yet would be loaded by reading
+   */
+  private boolean hasUninitializedSrcParent(Object srcObj, FieldMap fieldMapping) {
+    return MappingUtils.isDeepMapping(fieldMapping.getSrcFieldName()) && !(fieldMapping instanceof MapFieldMap)
+        && !fieldMapping.isSrcFieldAccessible() && fieldMapping.getSrcFieldTheGetMethod() == null
+        && DeepHierarchyUtils.getUninitializedParent(srcObj, fieldMapping.getSrcFieldName(),
+            fieldMapping.getSrcDeepIndexHintContainer()) != null;
+  }
+
   private void mapFromFieldMap(Object srcObj, Object destObj, Object srcFieldValue, FieldMap fieldMapping) {
     Class<?> destFieldType;
     if (fieldMapping instanceof CustomGetSetMethodFieldMap) {
@@ -375,6 +828,13 @@ public class MappingProcessor implements Mapper {
       destFieldType = fieldMapping.getDestFieldType(BuilderUtil.unwrapDestClassFromBuilder(destObj));
     }
 
+    // Collections and maps are usually updated in place, so their content is compared with the one before mapping
+    Object[] existingContents = null;
+    if (changeSet != null && destFieldType != null
+        && (CollectionUtils.isCollection(destFieldType) || MappingUtils.isSupportedMap(destFieldType))) {
+      existingContents = getContents(readDestinationValue(destObj, fieldMapping));
+    }
+
     // 1476780 - 12/2006 mht - Add support for field level custom converters
     // Use field level custom converter if one was specified. Otherwise, map or
     // recurse the object as normal
@@ -396,7 +856,7 @@ public class MappingProcessor implements Mapper {
           srcFieldValue, destFieldType, destObj, fieldMapping, false);
     }
 
-    writeDestinationValue(destObj, destFieldValue, fieldMapping, srcObj);
+    writeDestinationValue(destObj, destFieldValue, fieldMapping, srcObj, existingContents);
 
     if (log.isDebugEnabled()) {
       log.debug(logMsgFactory.createFieldMappingSuccessMsg(srcObj.getClass(), destObj.getClass(), fieldMapping.getSrcFieldName(),
@@ -427,7 +887,8 @@ public class MappingProcessor implements Mapper {
     // infinite loop
     // In case of "this->this" mapping this rule should be omitted as processing is done on objects, which has been
     // just marked as mapped.
-    if (!(DozerConstants.SELF_KEYWORD.equals(srcFieldName) && DozerConstants.SELF_KEYWORD.equals(destFieldName))) {
+    if (fieldMask == null
+        && !(DozerConstants.SELF_KEYWORD.equals(srcFieldName) && DozerConstants.SELF_KEYWORD.equals(destFieldName))) {
       Object alreadyMappedValue = mappedFields.getMappedValue(srcFieldValue, destFieldType, fieldMap.getMapId());
       if (alreadyMappedValue != null) {
         return alreadyMappedValue;
@@ -497,6 +958,16 @@ public class MappingProcessor implements Mapper {
       destFieldType = fieldMap.getDestDeepIndexHintContainer().getHint();
     }
 
+    if (isImmutableCopy(srcFieldClass, destFieldType)) {
+      return srcFieldValue;
+    }
+
+    // Field values themselves are checked by mapField, so only elements of collections and maps get here
+    LazyLoadPolicy lazyLoadPolicy = fieldMap.getLazyLoadPolicy();
+    if (lazyLoadPolicy != LazyLoadPolicy.INITIALIZE && MappingUtils.isUninitialized(srcFieldValue)) {
+      return mapUninitializedElement(srcFieldValue, destFieldType, lazyLoadPolicy);
+    }
+
     // Default: Map from one custom data object to another custom data object
     return mapCustomObject(fieldMap, destObj, destFieldType, destFieldName, srcFieldValue);
   }
@@ -517,6 +988,11 @@ public class MappingProcessor implements Mapper {
       result = getExistingValue(fieldMap, destObj, destFieldType);
     }
 
+    // Shared cached results must not be modified, the field gets the result mapped for its source instead
+    if (result != null && isSharedResult(srcFieldValue, result, fieldMap.getMapId())) {
+      result = null;
+    }
+
     // if the field is not null than we don't want a new instance
     if (result == null) {
       // first check to see if this plain old field map has hints to the actual
@@ -626,7 +1102,7 @@ public class MappingProcessor implements Mapper {
     Map result;
     Map destinationMap = (Map) fieldMap.getDestValue(destObj);
     if (destinationMap == null) {
-      result = DestBeanCreator.create(srcMapValue.getClass());
+      result = createDestinationMap(srcMapValue);
     } else {
       result = destinationMap;
       if (fieldMap.isRemoveOrphans()) {
@@ -634,6 +1110,9 @@ public class MappingProcessor implements Mapper {
       }
     }
 
+    boolean nonCumulative = fieldMap.isNonCumulativeRelationship();
+    // value types which are mapped as is, resolved once per runtime class
+    Map<Class<?>, Boolean> passThroughTypes = new HashMap<Class<?>, Boolean>();
     for (Entry<?, Object> srcEntry : ((Map<?, Object>) srcMapValue).entrySet()) {
       Object srcEntryValue = srcEntry.getValue();
 
@@ -642,9 +1121,20 @@ public class MappingProcessor implements Mapper {
         continue;
       }
 
-      Object destEntryValue = mapOrRecurseObject(srcObj, srcEntryValue, srcEntryValue.getClass(), fieldMap, destObj);
-      Object obj = result.get(srcEntry.getKey());
-      if (obj != null && obj.equals(destEntryValue) && fieldMap.isNonCumulativeRelationship()) {
+      Class<?> srcEntryClass = srcEntryValue.getClass();
+      Boolean passThrough = passThroughTypes.get(srcEntryClass);
+      if (passThrough == null) {
+        passThrough = isPassThroughMapValue(fieldMap, srcEntryClass);
+        passThroughTypes.put(srcEntryClass, passThrough);
+      }
+      if (passThrough) {
+        result.put(srcEntry.getKey(), srcEntryValue);
+        continue;
+      }
+
+      Object destEntryValue = mapOrRecurseObject(srcObj, srcEntryValue, srcEntryClass, fieldMap, destObj);
+      Object obj = nonCumulative ? result.get(srcEntry.getKey()) : null;
+      if (obj != null && obj.equals(destEntryValue)) {
         mapToDestObject(null, srcEntryValue, obj, false, null);
       } else {
         result.put(srcEntry.getKey(), destEntryValue);
@@ -653,6 +1143,36 @@ public class MappingProcessor implements Mapper {
     return result;
   }
 
+  private static Map createDestinationMap(Map srcMapValue) {
+    Class<?> srcMapType = srcMapValue.getClass();
+    int capacity = Math.max(16, (int) (srcMapValue.size() / 0.75f) + 1);
+    if (HashMap.class.equals(srcMapType)) {
+      return new HashMap(capacity);
+    } else if (LinkedHashMap.class.equals(srcMapType)) {
+      return new LinkedHashMap(capacity);
+    }
+    return (Map) DestBeanCreator.create(srcMapType);
+  }
+
+  /**
+   * Immutable map values mapped to their own type would be returned as is by mapOrRecurseObject,
+   * unless a custom converter, destination hint or string trimming applies
+   */
+  private boolean isPassThroughMapValue(FieldMap fieldMap, Class<?> valueType) {
+    if (fieldMap.getDestHintContainer() != null) {
+      return false;
+    }
+    if (String.class.equals(valueType)) {
+      if (fieldMap.isTrimStrings()) {
+        return false;
+      }
+    } else if (!ClassUtils.isPrimitiveWrapper(valueType) && !valueType.isEnum() && !immutableTypes.isImmutable(valueType)) {
+      return false;
+    }
+    return MappingUtils.determineCustomConverter(fieldMap, converterByDestTypeCache,
+        fieldMap.getClassMap().getCustomConverters(), valueType, valueType) == null;
+  }
+
   private Object mapArrayToArray(Object srcObj, Object srcCollectionValue, FieldMap fieldMap, Object destObj) {
     Class destEntryType = fieldMap.getDestFieldType(destObj.getClass()).getComponentType();
     Class srcEntryType = srcCollectionValue.getClass().getComponentType();
@@ -661,7 +1181,7 @@ public class MappingProcessor implements Mapper {
     CopyByReferenceContainer copyByReferences = globalConfiguration.getCopyByReferences();
     boolean isPrimitiveArray = CollectionUtils.isPrimitiveArray(srcCollectionValue.getClass());
     boolean isFinal = Modifier.isFinal(srcEntryType.getModifiers());
-    boolean isCopyByReference = copyByReferences.contains(srcEntryType);
+    boolean isCopyByReference = copyByReferences.contains(srcEntryType) || isImmutableElementCopy(fieldMap, srcEntryType, destEntryType, null);
 
     if (destEntryType.isAssignableFrom(srcEntryType) && isFinal && (isPrimitiveArray || isCopyByReference)) {
       return addArrayContentCopy(fieldMap, size, srcCollectionValue, destObj, destEntryType);
@@ -682,14 +1202,11 @@ public class MappingProcessor implements Mapper {
   private void mapFromIterateMethodFieldMap(Object srcObj, Object destObj, Object srcFieldValue, FieldMap fieldMapping) {
     // Iterate over the destFieldValue - iterating is fine unless we are mapping
     // in the other direction.
-    // Verify that it is truly a collection if it is an iterator object turn it
-    // into a List
-    if (srcFieldValue instanceof Iterator) {
-      srcFieldValue = IteratorUtils.toList((Iterator<?>) srcFieldValue);
-    }
+    // Elements of arrays, collections and iterators are visited in a single pass
     if (srcFieldValue != null) {
-      for (int i = 0; i < CollectionUtils.getLengthOfCollection(srcFieldValue); i++) {
-        final Object value = CollectionUtils.getValueFromCollection(srcFieldValue, i);
+      Iterator<?> iterator = CollectionUtils.iterator(srcFieldValue);
+      while (iterator.hasNext()) {
+        final Object value = iterator.next();
 
         // map this value
         if (fieldMapping.getDestHintContainer() == null) {
@@ -741,10 +1258,16 @@ public class MappingProcessor implements Mapper {
       System.arraycopy(field, 0, result, 0, arraySize);
     }
     // primitive arrays are ALWAYS cumulative
+    if (fieldMap.getDestHintContainer() == null
+        && isUnboxedConversion(fieldMap, srcCollectionValue.getClass(), destEntryType)
+        && PrimitiveArrayUtils.copy(srcCollectionValue, result, arraySize)) {
+      return result;
+    }
+    CopyByReferenceContainer copyByReferences = globalConfiguration.getCopyByReferences();
+    boolean isCopyByReference = copyByReferences.contains(srcCollectionValue.getClass());
     for (int i = 0; i < size; i++) {
-      CopyByReferenceContainer copyByReferences = globalConfiguration.getCopyByReferences();
       Object toValue;
-      if (srcCollectionValue != null && copyByReferences.contains(srcCollectionValue.getClass())) {
+      if (isCopyByReference) {
         toValue = srcCollectionValue;
       } else {
         toValue = mapOrRecurseObject(srcObj, Array.get(srcCollectionValue, i), destEntryType, fieldMap, destObj);
@@ -755,8 +1278,84 @@ public class MappingProcessor implements Mapper {
     return result;
   }
 
+  /**
+   * Immutable values could be shared between source and destination if types are compatible
+   */
+  private boolean isImmutableCopy(Class<?> srcClass, Class<?> destType) {
+    return destType != null && destType.isAssignableFrom(srcClass) && immutableTypes.isImmutable(srcClass);
+  }
+
+  /**
+   * Collection elements and array entries are shared as immutable values only if no custom converter applies to them,
+   * same as single fields in {@link #mapOrRecurseObject(Object, Object, Class, FieldMap, Object)}
+   */
+  private boolean isImmutableElementCopy(FieldMap fieldMap, Class<?> srcClass, Class<?> destType,
+                                         Map<Class<?>, Class<?>> elementConverters) {
+    return isImmutableCopy(srcClass, destType) && getElementConverter(fieldMap, srcClass, destType, elementConverters) == null;
+  }
+
+  /**
+   * @return cache of element converters by element class, null if elements could have different destination types
+   */
+  private static Map<Class<?>, Class<?>> newElementConverters(FieldMap fieldMap) {
+    HintContainer destHintContainer = fieldMap.getDestHintContainer();
+    return destHintContainer != null && destHintContainer.hasMoreThanOneHint() ? null : new HashMap<Class<?>, Class<?>>();
+  }
+
+  /**
+   * Custom converter of collection elements, resolved once per element class if cache of element converters is given
+   */
+  private Class<?> getElementConverter(FieldMap fieldMap, Class<?> srcClass, Class<?> destType,
+                                       Map<Class<?>, Class<?>> elementConverters) {
+    if (elementConverters != null && elementConverters.containsKey(srcClass)) {
+      return elementConverters.get(srcClass);
+    }
+    Class<?> result = MappingUtils.determineCustomConverter(fieldMap, converterByDestTypeCache,
+        fieldMap.getClassMap().getCustomConverters(), srcClass, destType);
+    if (elementConverters != null) {
+      elementConverters.put(srcClass, result);
+    }
+    return result;
+  }
+
+  /**
+   * Numeric primitive elements could be converted without boxing unless a custom converter or copy by reference
+   * is involved
+   */
+  private boolean isUnboxedConversion(FieldMap fieldMap, Class<?> srcArrayClass, Class<?> destEntryType) {
+    Class<?> srcEntryType = srcArrayClass.getComponentType();
+    if (!PrimitiveArrayUtils.isNumericPrimitive(srcEntryType) || fieldMap.isCopyByReference()
+        || globalConfiguration.getCopyByReferences().contains(srcArrayClass)) {
+      return false;
+    }
+    Class<?> converterClass = MappingUtils.determineCustomConverter(fieldMap, converterByDestTypeCache,
+        fieldMap.getClassMap().getCustomConverters(), ClassUtils.primitiveToWrapper(srcEntryType), destEntryType);
+    return converterClass == null;
+  }
+
+  /**
+   * Wrappers of numeric primitive destination element type could be unboxed directly into a new destination array
+   * unless existing destination elements have to be merged or a custom converter, hint or copy by reference is involved
+   */
+  private boolean isUnboxedCollectionConversion(FieldMap fieldMap, Object destObj, Class<?> destEntryType) {
+    if (!PrimitiveArrayUtils.isNumericPrimitive(destEntryType) || fieldMap.isCopyByReference()
+        || fieldMap.getDestHintContainer() != null || fieldMap.isRemoveOrphans()
+        || RelationshipType.NON_CUMULATIVE.equals(fieldMap.getRelationshipType()) || fieldMap.getDestValue(destObj) != null) {
+      return false;
+    }
+    Class<?> converterClass = MappingUtils.determineCustomConverter(fieldMap, converterByDestTypeCache,
+        fieldMap.getClassMap().getCustomConverters(), ClassUtils.primitiveToWrapper(destEntryType), destEntryType);
+    return converterClass == null;
+  }
+
   private Object mapListToArray(Object srcObj, Collection<?> srcCollectionValue, FieldMap fieldMap, Object destObj) {
     Class destEntryType = fieldMap.getDestFieldType(destObj.getClass()).getComponentType();
+    if (isUnboxedCollectionConversion(fieldMap, destObj, destEntryType)) {
+      Object result = PrimitiveArrayUtils.fromWrappers(srcCollectionValue, destEntryType);
+      if (result != null) {
+        return result;
+      }
+    }
     List list;
     if (!destEntryType.getName().equals(BASE_CLASS)) {
       list = addOrUpdateToList(srcObj, fieldMap, srcCollectionValue, destObj, destEntryType);
@@ -782,8 +1381,13 @@ public class MappingProcessor implements Mapper {
     }
     Object destValue;
 
+    boolean nonCumulative = RelationshipType.NON_CUMULATIVE.equals(fieldMap.getRelationshipType());
+    CollectionMergeIndex mergeIndex = nonCumulative ? new CollectionMergeIndex(result, collectionKeyExtractor) : null;
+
     Class<?> destEntryType = null;
     Class<?> prevDestEntryType = null;
+    Map<Class<?>, Class<?>> elementConverters = newElementConverters(fieldMap);
+    Map<Object, Object> batchConverted = convertBatch(fieldMap, srcCollectionValue, destObj, null, elementConverters);
     for (Object srcValue : srcCollectionValue) {
       if (destEntryType == null
               || (fieldMap.getDestHintContainer() != null && fieldMap.getDestHintContainer().hasMoreThanOneHint())) {
@@ -791,27 +1395,31 @@ public class MappingProcessor implements Mapper {
       }
 
       CopyByReferenceContainer copyByReferences = globalConfiguration.getCopyByReferences();
-      if (srcValue != null && copyByReferences.contains(srcValue.getClass())) {
+      if (srcValue != null && (copyByReferences.contains(srcValue.getClass())
+          || isImmutableElementCopy(fieldMap, srcValue.getClass(), destEntryType, elementConverters))) {
         destValue = srcValue;
+      } else if (batchConverted != null && batchConverted.containsKey(srcValue)) {
+        destValue = batchConverted.get(srcValue);
       } else {
         destValue = mapOrRecurseObject(srcObj, srcValue, destEntryType, fieldMap, destObj);
       }
       prevDestEntryType = destEntryType;
 
-      if (RelationshipType.NON_CUMULATIVE.equals(fieldMap.getRelationshipType())
-          && result.contains(destValue)) {
-        List<Object> resultAsList = new ArrayList<Object>(result);
-        int index = resultAsList.indexOf(destValue);
+      if (nonCumulative && mergeIndex.contains(destValue)) {
         // perform an update if complex type - can't map strings
-        Object obj = resultAsList.get(index);
+        Object obj = mergeIndex.get(destValue);
         // make sure it is not a String
-        if (!obj.getClass().isAssignableFrom(String.class)) {
+        if (obj != null && !obj.getClass().isAssignableFrom(String.class)) {
           mapToDestObject(null, srcValue, obj, false, fieldMap.getMapId());
+          mergeIndex.update(obj);
           mappedElements.add(obj);
         }
       } else {
         if (destValue != null || fieldMap.isDestMapNull()) {
           result.add(destValue);
+          if (nonCumulative) {
+            mergeIndex.add(destValue);
+          }
         }
         mappedElements.add(destValue);
       }
@@ -845,8 +1453,13 @@ public class MappingProcessor implements Mapper {
     Object field = fieldMap.getDestValue(destObj);
     result = prepareDestinationList(srcCollectionValue, field);
 
+    boolean nonCumulative = RelationshipType.NON_CUMULATIVE.equals(fieldMap.getRelationshipType());
+    CollectionMergeIndex mergeIndex = nonCumulative ? new CollectionMergeIndex(result, collectionKeyExtractor) : null;
+
     Object destValue;
     Class<?> prevDestEntryType = null;
+    Map<Class<?>, Class<?>> elementConverters = newElementConverters(fieldMap);
+    Map<Object, Object> batchConverted = convertBatch(fieldMap, srcCollectionValue, destObj, destEntryType, elementConverters);
     for (Object srcValue : srcCollectionValue) {
       if (destEntryType == null
               || (fieldMap.getDestHintContainer() != null && fieldMap.getDestHintContainer().hasMoreThanOneHint())) {
@@ -854,27 +1467,32 @@ public class MappingProcessor implements Mapper {
       }
 
       CopyByReferenceContainer copyByReferences = globalConfiguration.getCopyByReferences();
-      if (srcValue != null && copyByReferences.contains(srcValue.getClass())) {
+      if (srcValue != null && (copyByReferences.contains(srcValue.getClass())
+          || isImmutableElementCopy(fieldMap, srcValue.getClass(), destEntryType, elementConverters))) {
         destValue = srcValue;
+      } else if (batchConverted != null && batchConverted.containsKey(srcValue)) {
+        destValue = batchConverted.get(srcValue);
       } else {
         destValue = mapOrRecurseObject(srcObj, srcValue, destEntryType, fieldMap, destObj);
       }
       prevDestEntryType = destEntryType;
 
-      if (RelationshipType.NON_CUMULATIVE.equals(fieldMap.getRelationshipType())
-          && result.contains(destValue)) {
-        int index = result.indexOf(destValue);
+      if (nonCumulative && mergeIndex.contains(destValue)) {
         // perform an update if complex type - can't map strings
-        Object obj = result.get(index);
+        Object obj = mergeIndex.get(destValue);
         // make sure it is not a String
         if (obj != null && !obj.getClass().isAssignableFrom(String.class)) {
           mapToDestObject(null, srcValue, obj, false, fieldMap.getMapId());
+          mergeIndex.update(obj);
           mappedElements.add(obj);
         }
       } else {
         // respect null mappings
         if (destValue != null || fieldMap.isDestMapNull()) {
           result.add(destValue);
+          if (nonCumulative) {
+            mergeIndex.add(destValue);
+          }
         }
         mappedElements.add(destValue);
       }
@@ -888,6 +1506,71 @@ public class MappingProcessor implements Mapper {
     return result;
   }
 
+  /**
+   * Converts collection elements handled by {@link BatchCustomConverter} with one call per converter. Immutable elements
+   * are converted too, they are shared only if no custom converter applies to them.
+   *
+   * @return converted values by source element or null if no element is handled by batch converter
+   */
+  private Map<Object, Object> convertBatch(FieldMap fieldMap, Collection<?> srcCollectionValue, Object destObj, Class<?> destEntryType,
+                                           Map<Class<?>, Class<?>> elementConverters) {
+    CustomConverterContainer customConverters = fieldMap.getClassMap().getCustomConverters();
+    if (srcCollectionValue.isEmpty() || customConverters == null || !customConverters.hasBatchConverters()
+        || elementConverters == null) {
+      return null;
+    }
+    if (destEntryType == null) {
+      // same entry type as resolved for the first element by the mapping loop
+      destEntryType = determineCollectionItemType(fieldMap, destObj, srcCollectionValue.iterator().next(), null);
+    }
+
+    CopyByReferenceContainer copyByReferences = globalConfiguration.getCopyByReferences();
+    Map<Class<?>, Set<Object>> batches = null;
+    for (Object srcValue : srcCollectionValue) {
+      if (srcValue == null || copyByReferences.contains(srcValue.getClass())) {
+        continue;
+      }
+      Class<?> converterClass = getElementConverter(fieldMap, srcValue.getClass(), destEntryType, elementConverters);
+      if (converterClass == null || !BatchCustomConverter.class.isAssignableFrom(converterClass)) {
+        continue;
+      }
+      if (batches == null) {
+        batches = new LinkedHashMap<Class<?>, Set<Object>>();
+      }
+      Set<Object> batch = batches.get(converterClass);
+      if (batch == null) {
+        batch = new LinkedHashSet<Object>();
+        batches.put(converterClass, batch);
+      }
+      batch.add(srcValue);
+    }
+    if (batches == null) {
+      return null;
+    }
+
+    Map<Object, Object> result = new HashMap<Object, Object>();
+    for (Entry<Class<?>, Set<Object>> batch : batches.entrySet()) {
+      BatchCustomConverter converter = (BatchCustomConverter) getCustomConverterInstance(batch.getKey());
+      initCustomConverter(converter, fieldMap);
+      List<Object> srcValues = new ArrayList<Object>(batch.getValue());
+
+      long start = System.currentTimeMillis();
+      List<?> destValues = converter.convertAll(srcValues, destEntryType);
+      long stop = System.currentTimeMillis();
+      statsMgr.increment(StatisticType.CUSTOM_CONVERTER_SUCCESS_COUNT);
+      statsMgr.increment(StatisticType.CUSTOM_CONVERTER_TIME, stop - start);
+
+      if (destValues == null || destValues.size() != srcValues.size()) {
+        throw new MappingException("BatchCustomConverter " + batch.getKey().getName() + " returned "
+            + (destValues == null ? "null" : destValues.size() + " values") + " for " + srcValues.size() + " source values");
+      }
+      for (int i = 0; i < srcValues.size(); i++) {
+        result.put(srcValues.get(i), destValues.get(i));
+      }
+    }
+    return result;
+  }
+
   private Class<?> determineCollectionItemType(FieldMap fieldMap, Object destObj, Object srcValue, Class<?> prevDestEntryType) {
     if (srcValue == null && fieldMap.getDestHintType(destObj.getClass()) != null) {
       // try to get a possible configured dest hint for the dest obj
@@ -903,16 +1586,45 @@ public class MappingProcessor implements Mapper {
   }
 
   static void removeOrphans(Collection<?> mappedElements, List<Object> result) {
-    for (Iterator<?> iterator = result.iterator(); iterator.hasNext();) {
-      Object object = iterator.next();
-      if (!mappedElements.contains(object)) {
-        iterator.remove();
+    // mapped elements are usually the very instances held by result, so identity lookups decide most cases and
+    // hash lookups by equals()/hashCode() are only built for the remaining ones
+    Set<Object> mapped = Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>());
+    mapped.addAll(mappedElements);
+    Set<Object> retained = Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>());
+    List<Object> merged = new ArrayList<Object>(Math.max(result.size(), mappedElements.size()));
+    boolean modified = false;
+    Set<Object> equalMapped = null;
+    for (Object object : result) {
+      boolean keep = mapped.contains(object);
+      if (!keep) {
+        if (equalMapped == null) {
+          equalMapped = new HashSet<Object>(mappedElements);
+        }
+        keep = equalMapped.contains(object);
+      }
+      if (keep) {
+        merged.add(object);
+        retained.add(object);
+      } else {
+        modified = true;
       }
     }
+    Set<Object> equalMerged = null;
     for (Object object : mappedElements) {
-      if (!result.contains(object)) {
-        result.add(object);
+      if (retained.contains(object)) {
+        continue;
+      }
+      if (equalMerged == null) {
+        equalMerged = new HashSet<Object>(merged);
       }
+      if (equalMerged.add(object)) {
+        merged.add(object);
+        modified = true;
+      }
+    }
+    if (modified) {
+      result.clear();
+      result.addAll(merged);
     }
   }
 
@@ -945,9 +1657,16 @@ public class MappingProcessor implements Mapper {
     } else {
       destEntryType = srcCollectionValue.getClass().getComponentType();
     }
-    List<?> srcValueList;
+    List<?> srcValueList = null;
     if (CollectionUtils.isPrimitiveArray(srcCollectionValue.getClass())) {
-      srcValueList = CollectionUtils.convertPrimitiveArrayToList(srcCollectionValue);
+      boolean singleHint = fieldMap.getDestHintContainer() == null || !fieldMap.getDestHintContainer().hasMoreThanOneHint();
+      if (singleHint && isUnboxedConversion(fieldMap, srcCollectionValue.getClass(), destEntryType)) {
+        // box directly into the destination wrapper type, so elements are not converted once more
+        srcValueList = PrimitiveArrayUtils.toWrapperList(srcCollectionValue, ClassUtils.primitiveToWrapper(destEntryType));
+      }
+      if (srcValueList == null) {
+        srcValueList = CollectionUtils.convertPrimitiveArrayToList(srcCollectionValue);
+      }
     } else {
       srcValueList = Arrays.asList((Object[]) srcCollectionValue);
     }
@@ -955,6 +1674,11 @@ public class MappingProcessor implements Mapper {
   }
 
   private void writeDestinationValue(Object destObj, Object destFieldValue, FieldMap fieldMap, Object srcObj) {
+    writeDestinationValue(destObj, destFieldValue, fieldMap, srcObj, null);
+  }
+
+  private void writeDestinationValue(Object destObj, Object destFieldValue, FieldMap fieldMap, Object srcObj,
+                                     Object[] existingContents) {
     boolean bypass = false;
     // don't map null to dest field if map-null="false"
     if (destFieldValue == null && !fieldMap.isDestMapNull()) {
@@ -976,13 +1700,74 @@ public class MappingProcessor implements Mapper {
       eventMgr.fireEvent(new DozerEvent(DozerEventType.MAPPING_PRE_WRITING_DEST_VALUE, fieldMap.getClassMap(), fieldMap, srcObj,
           destObj, destFieldValue));
 
-      fieldMap.writeDestValue(destObj, destFieldValue);
+      if (changeSet != null) {
+        Object existingValue = fieldMap.replaceDestValue(destObj, destFieldValue);
+        if (isChangedValue(existingValue, destFieldValue, existingContents)) {
+          changeSet.add(destObj, fieldMap);
+        }
+      } else {
+        fieldMap.writeDestValue(destObj, destFieldValue);
+      }
 
       eventMgr.fireEvent(new DozerEvent(DozerEventType.MAPPING_POST_WRITING_DEST_VALUE, fieldMap.getClassMap(), fieldMap, srcObj,
           destObj, destFieldValue));
     }
   }
 
+  private static boolean isChangedValue(Object existingValue, Object destFieldValue, Object[] existingContents) {
+    if (existingValue == AbstractPropertyDescriptor.UNREAD_VALUE) {
+      // write only fields can not be compared
+      return true;
+    }
+    if (existingValue == destFieldValue) {
+      return existingContents != null && !isSameContents(existingContents, getContents(destFieldValue));
+    }
+    return existingValue == null || !existingValue.equals(destFieldValue);
+  }
+
+  private static Object readDestinationValue(Object destObj, FieldMap fieldMap) {
+    try {
+      return fieldMap.getDestValue(destObj);
+    } catch (Exception e) {
+      return null;
+    }
+  }
+
+  /**
+   * @return snapshot of collection elements or of map keys and values in iteration order, null for other values
+   */
+  private static Object[] getContents(Object container) {
+    if (container instanceof Collection) {
+      return ((Collection<?>) container).toArray();
+    }
+    if (container instanceof Map) {
+      Map<?, ?> map = (Map<?, ?>) container;
+      Object[] result = new Object[map.size() * 2];
+      int i = 0;
+      for (Entry<?, ?> entry : map.entrySet()) {
+        result[i++] = entry.getKey();
+        result[i++] = entry.getValue();
+      }
+      return result;
+    }
+    return null;
+  }
+
+  /**
+   * Elements are compared by identity, changes made to elements in place are recorded for the elements themselves
+   */
+  private static boolean isSameContents(Object[] previousContents, Object[] contents) {
+    if (contents == null || previousContents.length != contents.length) {
+      return false;
+    }
+    for (int i = 0; i < contents.length; i++) {
+      if (previousContents[i] != contents[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   private Object mapUsingCustomConverterInstance(CustomConverter converterInstance, Class<?> srcFieldClass, Object srcFieldValue,
                                                  Class<?> destFieldClass, Object existingDestFieldValue, FieldMap fieldMap, boolean topLevel) {
 
@@ -993,38 +1778,16 @@ public class MappingProcessor implements Mapper {
 
     long start = System.currentTimeMillis();
 
-    if (converterInstance instanceof MapperAware) {
-      ((MapperAware) converterInstance).setMapper(this);
-    }
+    initCustomConverter(converterInstance, fieldMap);
 
-    // TODO Remove code duplication
     Object result;
-    if (converterInstance instanceof ConfigurableCustomConverter) {
-      ConfigurableCustomConverter theConverter = (ConfigurableCustomConverter) converterInstance;
-
-      // Converter could be not configured for this particular case
-      if (fieldMap != null) {
-        String param = fieldMap.getCustomConverterParam();
-        theConverter.setParameter(param);
-      }
-
-      // if this is a top level mapping the destObj is the highest level
-      // mapping...not a recursive mapping
-      if (topLevel) {
-        result = theConverter.convert(existingDestFieldValue, srcFieldValue, destFieldClass, srcFieldClass);
-      } else {
-        Object existingValue = getExistingValue(fieldMap, existingDestFieldValue, destFieldClass);
-        result = theConverter.convert(existingValue, srcFieldValue, destFieldClass, srcFieldClass);
-      }
+    // if this is a top level mapping the destObj is the highest level
+    // mapping...not a recursive mapping
+    if (topLevel) {
+      result = converterInstance.convert(existingDestFieldValue, srcFieldValue, destFieldClass, srcFieldClass);
     } else {
-      // if this is a top level mapping the destObj is the highest level
-      // mapping...not a recursive mapping
-      if (topLevel) {
-        result = converterInstance.convert(existingDestFieldValue, srcFieldValue, destFieldClass, srcFieldClass);
-      } else {
-        Object existingValue = getExistingValue(fieldMap, existingDestFieldValue, destFieldClass);
-        result = converterInstance.convert(existingValue, srcFieldValue, destFieldClass, srcFieldClass);
-      }
+      Object existingValue = getExistingValue(fieldMap, existingDestFieldValue, destFieldClass);
+      result = converterInstance.convert(existingValue, srcFieldValue, destFieldClass, srcFieldClass);
     }
 
     long stop = System.currentTimeMillis();
@@ -1036,8 +1799,25 @@ public class MappingProcessor implements Mapper {
 
   // TODO: possibly extract this to a separate class
 
+  private void initCustomConverter(CustomConverter converterInstance, FieldMap fieldMap) {
+    if (converterInstance instanceof MapperAware) {
+      ((MapperAware) converterInstance).setMapper(this);
+    }
+
+    // Converter could be not configured for this particular case
+    if (converterInstance instanceof ConfigurableCustomConverter && fieldMap != null) {
+      ((ConfigurableCustomConverter) converterInstance).setParameter(fieldMap.getCustomConverterParam());
+    }
+  }
+
   private Object mapUsingCustomConverter(Class<?> customConverterClass, Class<?> srcFieldClass, Object srcFieldValue,
                                          Class<?> destFieldClass, Object existingDestFieldValue, FieldMap fieldMap, boolean topLevel) {
+    CustomConverter converterInstance = getCustomConverterInstance(customConverterClass);
+    return mapUsingCustomConverterInstance(converterInstance, srcFieldClass, srcFieldValue, destFieldClass, existingDestFieldValue,
+        fieldMap, topLevel);
+  }
+
+  private CustomConverter getCustomConverterInstance(Class<?> customConverterClass) {
     CustomConverter converterInstance = null;
     // search our injected customconverters for a match
     if (customConverterObjects != null) {
@@ -1054,8 +1834,7 @@ public class MappingProcessor implements Mapper {
     if (converterInstance == null) {
       converterInstance = (CustomConverter) ReflectionUtils.newInstance(customConverterClass);
     }
-    return mapUsingCustomConverterInstance(converterInstance, srcFieldClass, srcFieldValue, destFieldClass, existingDestFieldValue,
-        fieldMap, topLevel);
+    return converterInstance;
   }
 
   private Collection<ClassMap> checkForSuperTypeMapping(Class<?> srcClass, Class<?> destClass) {
@@ -1112,6 +1891,11 @@ public class MappingProcessor implements Mapper {
     }
   }
 
+  private static Class<?> getDestClass(Object destObj) {
+    // builders stand in for the beans they build, f.e. when mapping into an existing protobuf builder
+    return destObj instanceof BeanBuilder ? ((BeanBuilder) destObj).beanClass() : destObj.getClass();
+  }
+
   private static Object getExistingValue(FieldMap fieldMap, Object destObj, Class<?> destFieldType) {
     // verify that the dest obj is not null
     if (destObj == null) {
@@ -1137,6 +1921,15 @@ public class MappingProcessor implements Mapper {
     return result;
   }
 
+  /**
+   * @return class map for mapping source class to destination class or null if class maps of their super types
+   * apply as well
+   */
+  ClassMap getStandaloneClassMap(Class<?> srcClass, Class<?> destClass, String mapId) {
+    ClassMap classMap = getClassMap(srcClass, destClass, mapId);
+    return checkForSuperTypeMapping(srcClass, destClass).isEmpty() ? classMap : null;
+  }
+
   private ClassMap getClassMap(Class<?> srcClass, Class<?> destClass, String mapId) {
     ClassMap mapping = classMappings.find(srcClass, destClass, mapId);
 
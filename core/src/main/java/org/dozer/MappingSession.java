@@ -0,0 +1,85 @@
+/**
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer;
+
+import java.io.Closeable;
+
+/**
+ * Scope of several map calls sharing one mapping processor, opened by {@link DozerBeanMapper#openSession()}.
+ * Objects already mapped within the session are tracked across calls, so source objects referenced from many
+ * mapped objects are mapped only once and the destination graphs share the same instances as the source graphs do.
+ * Mapping the same source object to the same destination class again returns the already mapped instance.
+ * <p>
+ * Sessions keep all mapped objects reachable until closed and are not thread safe.
+ */
+public final class MappingSession implements Mapper, Closeable {
+
+  private Mapper processor;
+
+  MappingSession(Mapper processor) {
+    this.processor = processor;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public <T> T map(Object source, Class<T> destinationClass) throws MappingException {
+    return getProcessor().map(source, destinationClass);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public void map(Object source, Object destination) throws MappingException {
+    getProcessor().map(source, destination);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public <T> T map(Object source, Class<T> destinationClass, String mapId) throws MappingException {
+    return getProcessor().map(source, destinationClass, mapId);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public void map(Object source, Object destination, String mapId) throws MappingException {
+    getProcessor().map(source, destination, mapId);
+  }
+
+  /**
+   * @return true if session has not been closed yet
+   */
+  public boolean isOpen() {
+    return processor != null;
+  }
+
+  /**
+   * Releases objects mapped within the session, further map calls fail.
+   */
+  public void close() {
+    processor = null;
+  }
+
+  private Mapper getProcessor() {
+    if (processor == null) {
+      throw new MappingException("Mapping session is closed");
+    }
+    return processor;
+  }
+
+}
@@ -17,6 +17,7 @@ package org.dozer.cache;
 
 import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
+import org.dozer.ResultCacheKeyProvider;
 
 /**
  * Internal class that is responsible for producing cache keys. Only intended for internal use.
@@ -37,6 +38,63 @@ public final class CacheKeyFactory {
     return new CacheKey(srcClass, destClass, mapId);
   }
 
+  /**
+   * Creates key of mapping result cache. Source objects implementing {@link ResultCacheKeyProvider} are
+   * identified by provided key, other source objects by their identity.
+   */
+  public static Object createResultKey(Object srcObj, Class<?> destClass, String mapId) {
+    Object srcKey = srcObj instanceof ResultCacheKeyProvider
+            ? ((ResultCacheKeyProvider) srcObj).getResultCacheKey() : new IdentityKey(srcObj);
+    return new ResultCacheKey(srcObj.getClass(), srcKey, destClass, mapId);
+  }
+
+  private static final class IdentityKey {
+
+    private final Object object;
+
+    private IdentityKey(Object object) {
+      this.object = object;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof IdentityKey && ((IdentityKey) o).object == object;
+    }
+
+    @Override
+    public int hashCode() {
+      return System.identityHashCode(object);
+    }
+  }
+
+  private static final class ResultCacheKey {
+
+    private final CacheKey classKey;
+    private final Object srcKey;
+
+    private ResultCacheKey(Class<?> srcClass, Object srcKey, Class<?> destClass, String mapId) {
+      this.classKey = new CacheKey(srcClass, destClass, mapId);
+      this.srcKey = srcKey;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof ResultCacheKey)) {
+        return false;
+      }
+      ResultCacheKey other = (ResultCacheKey) o;
+      return classKey.equals(other.classKey) && (srcKey != null ? srcKey.equals(other.srcKey) : other.srcKey == null);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * classKey.hashCode() + (srcKey != null ? srcKey.hashCode() : 0);
+    }
+  }
+
   private static class CacheKey {
 
     private Class<?> srcClass;
@@ -21,5 +21,7 @@ package org.dozer.cache;
 public enum DozerCacheType {
   CONVERTER_BY_DEST_TYPE,
   SUPER_TYPE_CHECK,
+  MAPPING_RESULT,
+  FIELD_MASK_SELECTION,
   CLASS_MAPPINGS
 }
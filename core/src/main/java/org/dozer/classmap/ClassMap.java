@@ -16,7 +16,9 @@
 package org.dozer.classmap;
 
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
@@ -52,6 +54,11 @@ public class ClassMap {
   private CustomConverterContainer customConverters;
   private String mapId;
   private RelationshipType relationshipType;
+  private WritePolicy writePolicy;
+  private LazyLoadPolicy lazyLoadPolicy;
+  private ResultCachePolicy resultCachePolicy;
+  // Positions of field maps, built on first use and reset whenever field maps change
+  private volatile Map<FieldMap, Integer> fieldMapIndexes;
 
   public ClassMap(Configuration globalConfiguration) {
     this.globalConfiguration = globalConfiguration;
@@ -143,16 +150,38 @@ public class ClassMap {
     return result;
   }
 
+  /**
+   * @param fieldMap field map
+   * @return position of the field map in {@link #getFieldMaps()} or -1 if it does not belong to this class map
+   */
+  public int getFieldMapIndex(FieldMap fieldMap) {
+    Map<FieldMap, Integer> indexes = fieldMapIndexes;
+    if (indexes == null) {
+      indexes = new IdentityHashMap<FieldMap, Integer>();
+      if (fieldMaps != null) {
+        for (int i = 0; i < fieldMaps.size(); i++) {
+          indexes.put(fieldMaps.get(i), i);
+        }
+      }
+      fieldMapIndexes = indexes;
+    }
+    Integer index = indexes.get(fieldMap);
+    return index != null ? index : -1;
+  }
+
   public void setFieldMaps(List<FieldMap> fieldMaps) {
     this.fieldMaps = fieldMaps;
+    fieldMapIndexes = null;
   }
 
   public void addFieldMapping(FieldMap fieldMap) {
     fieldMaps.add(fieldMap);
+    fieldMapIndexes = null;
   }
 
   public void removeFieldMapping(FieldMap fieldMap) {
     fieldMaps.remove(fieldMap);
+    fieldMapIndexes = null;
   }
 
   public boolean isWildcard() {
@@ -323,6 +352,37 @@ public class ClassMap {
     this.relationshipType = relationshipType;
   }
 
+  public WritePolicy getWritePolicy() {
+    return writePolicy != null ? writePolicy : globalConfiguration.getWritePolicy();
+  }
+
+  public void setWritePolicy(WritePolicy writePolicy) {
+    this.writePolicy = writePolicy;
+  }
+
+  public LazyLoadPolicy getLazyLoadPolicy() {
+    return lazyLoadPolicy != null ? lazyLoadPolicy : globalConfiguration.getLazyLoadPolicy();
+  }
+
+  /**
+   * @return policy set on this mapping itself or null if it is inherited from global configuration
+   */
+  public LazyLoadPolicy getDeclaredLazyLoadPolicy() {
+    return lazyLoadPolicy;
+  }
+
+  public void setLazyLoadPolicy(LazyLoadPolicy lazyLoadPolicy) {
+    this.lazyLoadPolicy = lazyLoadPolicy;
+  }
+
+  public ResultCachePolicy getResultCachePolicy() {
+    return resultCachePolicy != null ? resultCachePolicy : DozerConstants.DEFAULT_RESULT_CACHE_POLICY;
+  }
+
+  public void setResultCachePolicy(ResultCachePolicy resultCachePolicy) {
+    this.resultCachePolicy = resultCachePolicy;
+  }
+
   public DozerClass getSrcClass() {
     return srcClass;
   }
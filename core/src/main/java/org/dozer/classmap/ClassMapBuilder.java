@@ -308,6 +308,10 @@ public final class ClassMapBuilder {
           return reconcile("dateFormat", srcOpts.dateFormat(), dstOpts.dateFormat());
         }
 
+        @Override public String resultCache() {
+          return reconcile("resultCache", srcOpts.resultCache(), dstOpts.resultCache());
+        }
+
         @Override public Class<? extends Annotation> annotationType() {
           return MappingOptions.class;
         }
@@ -331,6 +335,11 @@ public final class ClassMapBuilder {
         if (!dateFormat.isEmpty()) {
           classMap.setDateFormat(dateFormat);
         }
+
+        String resultCache = mappingOptions.resultCache();
+        if (!resultCache.isEmpty()) {
+          classMap.setResultCachePolicy(ResultCachePolicy.valueOf(resultCache));
+        }
       }
     }
   }
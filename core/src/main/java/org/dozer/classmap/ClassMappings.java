@@ -37,6 +37,8 @@ public class ClassMappings {
   // Cache key --> Mapping Structure
   private Map<String, ClassMap> classMappings = new ConcurrentHashMap<String, ClassMap>();
   private ClassMapKeyFactory keyFactory;
+  // Set once any class map shares its cached results, so that mapping could skip checks for shared values otherwise
+  private volatile boolean sharedResults;
 
   public ClassMappings() {
     keyFactory = new ClassMapKeyFactory();
@@ -45,16 +47,19 @@ public class ClassMappings {
   // Default mappings. May be ovewritten due to multiple threads generating same mapping
   public void addDefault(Class<?> srcClass, Class<?> destClass, ClassMap classMap) {
     classMappings.put(keyFactory.createKey(srcClass, destClass), classMap);
+    registerResultCachePolicy(classMap);
   }
 
   public void add(Class<?> srcClass, Class<?> destClass, ClassMap classMap) {
     ClassMap result = classMappings.put(keyFactory.createKey(srcClass, destClass), classMap);
     failOnDuplicate(result, classMap);
+    registerResultCachePolicy(classMap);
   }
 
   public void add(Class<?> srcClass, Class<?> destClass, String mapId, ClassMap classMap) {
     ClassMap result = classMappings.put(keyFactory.createKey(srcClass, destClass, mapId), classMap);
     failOnDuplicate(result, classMap);
+    registerResultCachePolicy(classMap);
   }
 
   public void addAll(ClassMappings additionalClassMappings) {
@@ -62,9 +67,23 @@ public class ClassMappings {
     for (Entry<String, ClassMap> entry : newMappings.entrySet()) {
       ClassMap result = classMappings.put(entry.getKey(), entry.getValue());
       failOnDuplicate(result, entry.getValue());
+      registerResultCachePolicy(entry.getValue());
     }
   }
 
+  private void registerResultCachePolicy(ClassMap classMap) {
+    if (classMap.getResultCachePolicy() == ResultCachePolicy.SHARE) {
+      sharedResults = true;
+    }
+  }
+
+  /**
+   * @return true if any class map shares cached results, see {@link ResultCachePolicy#SHARE}
+   */
+  public boolean hasSharedResults() {
+    return sharedResults;
+  }
+
   public void failOnDuplicate(Object result, ClassMap classMap) {
     if (result != null && !classMap.getSrcClassName().equals(classMap.getDestClassName())) {
       throw new IllegalArgumentException("Duplicate Class Mapping Found. Source: " + classMap.getSrcClassName()
@@ -40,6 +40,8 @@ public class Configuration {
   private String dateFormat;
   private String beanFactory;
   private RelationshipType relationshipType;
+  private WritePolicy writePolicy;
+  private LazyLoadPolicy lazyLoadPolicy;
 
   private final CustomConverterContainer customConverters = new CustomConverterContainer();
   private final CopyByReferenceContainer copyByReferences = new CopyByReferenceContainer();
@@ -121,6 +123,22 @@ public class Configuration {
     this.relationshipType = relationshipType;
   }
 
+  public WritePolicy getWritePolicy() {
+    return writePolicy != null ? writePolicy : DozerConstants.DEFAULT_WRITE_POLICY;
+  }
+
+  public void setWritePolicy(WritePolicy writePolicy) {
+    this.writePolicy = writePolicy;
+  }
+
+  public LazyLoadPolicy getLazyLoadPolicy() {
+    return lazyLoadPolicy != null ? lazyLoadPolicy : DozerConstants.DEFAULT_LAZY_LOAD_POLICY;
+  }
+
+  public void setLazyLoadPolicy(LazyLoadPolicy lazyLoadPolicy) {
+    this.lazyLoadPolicy = lazyLoadPolicy;
+  }
+
   @Override
   public String toString() {
     return ReflectionToStringBuilder.toString(this, ToStringStyle.MULTI_LINE_STYLE);
@@ -0,0 +1,68 @@
+/**
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.classmap;
+
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Determines what happens to source values which are lazy loading proxies or collections that have not been initialized yet.
+ * Applies to field values, to elements of collections and to deep fields read through uninitialized parents. Elements
+ * which are not mapped become null, deep fields behind uninitialized parents have no identifier of their own.
+ */
+public final class LazyLoadPolicy {
+
+  private static final String INITIALIZE_VALUE = "initialize";
+  private static final String SKIP_VALUE = "skip";
+  private static final String MAP_NULL_VALUE = "map-null";
+  private static final String ID_ONLY_VALUE = "id-only";
+
+  /**
+   * Source value is initialized and mapped as any other value
+   */
+  public static final LazyLoadPolicy INITIALIZE = new LazyLoadPolicy();
+  /**
+   * Destination field is left untouched
+   */
+  public static final LazyLoadPolicy SKIP = new LazyLoadPolicy();
+  /**
+   * Destination field is set to null
+   */
+  public static final LazyLoadPolicy MAP_NULL = new LazyLoadPolicy();
+  /**
+   * Destination field is set to a new instance holding only the identifier of the proxy in its "id" property.
+   * Uninitialized collections and deep fields behind uninitialized parents are left untouched
+   */
+  public static final LazyLoadPolicy ID_ONLY = new LazyLoadPolicy();
+
+  private LazyLoadPolicy() {
+  }
+
+  public static LazyLoadPolicy valueOf(String lazyLoadPolicy) {
+    if (INITIALIZE_VALUE.equals(lazyLoadPolicy)) {
+      return INITIALIZE;
+    } else if (SKIP_VALUE.equals(lazyLoadPolicy)) {
+      return SKIP;
+    } else if (MAP_NULL_VALUE.equals(lazyLoadPolicy)) {
+      return MAP_NULL;
+    } else if (ID_ONLY_VALUE.equals(lazyLoadPolicy)) {
+      return ID_ONLY;
+    } else if (StringUtils.isEmpty(lazyLoadPolicy)) {
+      return null;
+    }
+    throw new IllegalStateException("lazy-load-policy should be initialize, skip, map-null or id-only. " + lazyLoadPolicy);
+  }
+
+}
@@ -0,0 +1,61 @@
+/**
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.classmap;
+
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Determines whether objects created by a class mapping are cached across mapping calls. Cached results are looked up
+ * by source object identity or by {@link org.dozer.ResultCacheKeyProvider#getResultCacheKey()}, destination class and
+ * map id, so caching is meant for immutable reference data.
+ */
+public final class ResultCachePolicy {
+
+  private static final String NONE_VALUE = "none";
+  private static final String SHARE_VALUE = "share";
+  private static final String COPY_VALUE = "copy";
+
+  /**
+   * Every mapping creates a new destination object
+   */
+  public static final ResultCachePolicy NONE = new ResultCachePolicy();
+  /**
+   * The cached destination object is returned, so it must not be modified by the callers. Mapping into an existing
+   * destination replaces shared nested objects instead of mapping into them.
+   */
+  public static final ResultCachePolicy SHARE = new ResultCachePolicy();
+  /**
+   * A deep copy of the cached destination object is returned
+   */
+  public static final ResultCachePolicy COPY = new ResultCachePolicy();
+
+  private ResultCachePolicy() {
+  }
+
+  public static ResultCachePolicy valueOf(String resultCachePolicy) {
+    if (NONE_VALUE.equals(resultCachePolicy)) {
+      return NONE;
+    } else if (SHARE_VALUE.equals(resultCachePolicy)) {
+      return SHARE;
+    } else if (COPY_VALUE.equals(resultCachePolicy)) {
+      return COPY;
+    } else if (StringUtils.isEmpty(resultCachePolicy)) {
+      return null;
+    }
+    throw new IllegalStateException("result-cache should be none, share or copy. " + resultCachePolicy);
+  }
+
+}
@@ -0,0 +1,82 @@
+/**
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.classmap;
+
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Determines whether the current destination value is read before a new value is written to it.
+ */
+public final class WritePolicy {
+
+  private static final String ALWAYS_WRITE_VALUE = "always-write";
+  private static final String SKIP_IF_SAME_REFERENCE_VALUE = "skip-if-same-reference";
+  private static final String SKIP_IF_EQUAL_VALUE = "skip-if-equal";
+
+  /**
+   * Setter is always invoked, destination getter is never called
+   */
+  public static final WritePolicy ALWAYS_WRITE = new WritePolicy(false);
+  /**
+   * Setter is not invoked if destination already holds the very same instance
+   */
+  public static final WritePolicy SKIP_IF_SAME_REFERENCE = new WritePolicy(true);
+  /**
+   * Setter is not invoked if destination already holds an equal value
+   */
+  public static final WritePolicy SKIP_IF_EQUAL = new WritePolicy(true);
+
+  private final boolean readBeforeWrite;
+
+  private WritePolicy(boolean readBeforeWrite) {
+    this.readBeforeWrite = readBeforeWrite;
+  }
+
+  public static WritePolicy valueOf(String writePolicy) {
+    if (ALWAYS_WRITE_VALUE.equals(writePolicy)) {
+      return ALWAYS_WRITE;
+    } else if (SKIP_IF_SAME_REFERENCE_VALUE.equals(writePolicy)) {
+      return SKIP_IF_SAME_REFERENCE;
+    } else if (SKIP_IF_EQUAL_VALUE.equals(writePolicy)) {
+      return SKIP_IF_EQUAL;
+    } else if (StringUtils.isEmpty(writePolicy)) {
+      return null;
+    }
+    throw new IllegalStateException("write-policy should be always-write, skip-if-same-reference or skip-if-equal. " + writePolicy);
+  }
+
+  /**
+   * @return true if existing destination value has to be read before writing the new one
+   */
+  public boolean isReadBeforeWrite() {
+    return readBeforeWrite;
+  }
+
+  /**
+   * Decides if write could be skipped, should only be called if {@link #isReadBeforeWrite()} is true
+   *
+   * @param existingValue value currently held by destination
+   * @param newValue      value about to be written
+   * @return true if writing {@code newValue} would not change destination
+   */
+  public boolean isSkipWrite(Object existingValue, Object newValue) {
+    if (existingValue == newValue) {
+      return readBeforeWrite;
+    }
+    return this == SKIP_IF_EQUAL && existingValue != null && existingValue.equals(newValue);
+  }
+
+}
@@ -47,6 +47,8 @@ public class GlobalSettings {
   private boolean statisticsEnabled = DozerConstants.DEFAULT_STATISTICS_ENABLED;
   private int converterByDestTypeCacheMaxSize = DozerConstants.DEFAULT_CONVERTER_BY_DEST_TYPE_CACHE_MAX_SIZE;
   private int superTypesCacheMaxSize = DozerConstants.DEFAULT_SUPER_TYPE_CHECK_CACHE_MAX_SIZE;
+  private int mappingResultCacheMaxSize = DozerConstants.DEFAULT_MAPPING_RESULT_CACHE_MAX_SIZE;
+  private int fieldMaskSelectionCacheMaxSize = DozerConstants.DEFAULT_FIELD_MASK_SELECTION_CACHE_MAX_SIZE;
   private boolean autoregisterJMXBeans = DozerConstants.DEFAULT_AUTOREGISTER_JMX_BEANS;
   private boolean elEnabled = DozerConstants.DEFAULT_EL_ENABLED;
 
@@ -89,6 +91,14 @@ public class GlobalSettings {
     return superTypesCacheMaxSize;
   }
 
+  public int getMappingResultCacheMaxSize() {
+    return mappingResultCacheMaxSize;
+  }
+
+  public int getFieldMaskSelectionCacheMaxSize() {
+    return fieldMaskSelectionCacheMaxSize;
+  }
+
   public String getClassLoaderName() {
     return classLoaderBeanName;
   }
@@ -155,6 +165,14 @@ public class GlobalSettings {
     if (propValue != null) {
       superTypesCacheMaxSize = Integer.parseInt(propValue);
     }
+    propValue = props.getProperty(PropertyConstants.MAPPING_RESULT_CACHE_MAX_SIZE);
+    if (propValue != null) {
+      mappingResultCacheMaxSize = Integer.parseInt(propValue);
+    }
+    propValue = props.getProperty(PropertyConstants.FIELD_MASK_SELECTION_CACHE_MAX_SIZE);
+    if (propValue != null) {
+      fieldMaskSelectionCacheMaxSize = Integer.parseInt(propValue);
+    }
     propValue = props.getProperty(PropertyConstants.AUTOREGISTER_JMX_BEANS);
     if (propValue != null) {
       autoregisterJMXBeans = Boolean.valueOf(propValue);
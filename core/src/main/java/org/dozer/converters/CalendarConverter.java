@@ -21,9 +21,11 @@ import java.util.Calendar;
 import java.util.Date;
 import java.util.GregorianCalendar;
 
+import javax.xml.datatype.DatatypeConstants;
 import javax.xml.datatype.XMLGregorianCalendar;
 
 import org.apache.commons.beanutils.Converter;
+import org.dozer.util.XMLGregorianCalendarUtils;
 
 /**
  * Internal class for converting Supported Data Types to Calendar. Supported source data types include Date, Calendar,
@@ -55,9 +57,9 @@ public class CalendarConverter implements Converter {
 			result.setTime(c.getTime());
 			result.setTimeZone(c.getTimeZone());
 		} else if (XMLGregorianCalendar.class.isAssignableFrom(srcFieldClass)) {
-			Calendar c = ((XMLGregorianCalendar) srcObj).toGregorianCalendar();
-			result.setTime(c.getTime());
-			result.setTimeZone(c.getTimeZone());
+			XMLGregorianCalendar c = (XMLGregorianCalendar) srcObj;
+			result.setTimeInMillis(XMLGregorianCalendarUtils.toMillis(c));
+			result.setTimeZone(c.getTimeZone(DatatypeConstants.FIELD_UNDEFINED));
 		}
 		// String to Calendar
 		else if (dateFormat != null && String.class.isAssignableFrom(srcFieldClass)) {
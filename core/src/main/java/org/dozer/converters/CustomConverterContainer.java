@@ -21,6 +21,7 @@ import java.util.List;
 import org.apache.commons.lang3.ClassUtils;
 import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
+import org.dozer.BatchCustomConverter;
 import org.dozer.cache.Cache;
 import org.dozer.cache.CacheKeyFactory;
 
@@ -33,6 +34,8 @@ import org.dozer.cache.CacheKeyFactory;
 public class CustomConverterContainer {
 
   private List<CustomConverterDescription> converters = new ArrayList<CustomConverterDescription>();
+  // Resolved on first use once converters are loaded, reset whenever converters are added
+  private volatile Boolean batchConverters;
 
   public List<CustomConverterDescription> getConverters() {
     return converters;
@@ -43,10 +46,30 @@ public class CustomConverterContainer {
       throw new NullPointerException("Converters can not be null!");
     }
     this.converters = converters;
+    batchConverters = null;
   }
 
   public void addConverter(CustomConverterDescription converter) {
     getConverters().add(converter);
+    batchConverters = null;
+  }
+
+  /**
+   * @return true if any of the converters is a {@link org.dozer.BatchCustomConverter}
+   */
+  public boolean hasBatchConverters() {
+    Boolean result = batchConverters;
+    if (result == null) {
+      result = Boolean.FALSE;
+      for (CustomConverterDescription converter : converters) {
+        if (converter.getType() != null && BatchCustomConverter.class.isAssignableFrom(converter.getType())) {
+          result = Boolean.TRUE;
+          break;
+        }
+      }
+      batchConverters = result;
+    }
+    return result;
   }
 
   public Class getCustomConverter(Class<?> srcClass, Class<?> destClass, Cache converterTypeCache) {
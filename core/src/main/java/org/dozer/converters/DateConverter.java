@@ -24,6 +24,7 @@ import java.util.Calendar;
 import javax.xml.datatype.XMLGregorianCalendar;
 
 import org.apache.commons.beanutils.Converter;
+import org.dozer.util.XMLGregorianCalendarUtils;
 
 /**
  * Internal convector for handling Date/Time conversions.
@@ -65,7 +66,7 @@ public class DateConverter implements Converter {
 		} else if (java.util.Date.class.isAssignableFrom(srcFieldClass)) {
 			time = ((java.util.Date) srcObj).getTime();
 		} else if (XMLGregorianCalendar.class.isAssignableFrom(srcFieldClass)) {
-			time = ((XMLGregorianCalendar) srcObj).toGregorianCalendar().getTimeInMillis();
+			time = XMLGregorianCalendarUtils.toMillis((XMLGregorianCalendar) srcObj);
 		} else if (dateFormat != null && String.class.isAssignableFrom(srcObj.getClass())) {
 			try {
 				if ("".equals(srcObj)) {
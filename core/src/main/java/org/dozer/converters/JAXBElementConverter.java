@@ -17,6 +17,8 @@ package org.dozer.converters;
 
 import java.lang.reflect.Method;
 import java.text.DateFormat;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.xml.datatype.XMLGregorianCalendar;
 
@@ -30,34 +32,52 @@ import org.dozer.util.ReflectionUtils;
  */
 public class JAXBElementConverter implements Converter {
 
-	private String     destObjClass  = null;
-	private String     destFieldName = null;
-	private DateFormat dateFormat    = null;
-
-	public JAXBElementConverter(String destObjClass, String destFieldName, DateFormat dateFormat) {
-		this.destObjClass = destObjClass;
-		this.destFieldName = destFieldName;
-		this.dateFormat = dateFormat;
-	}
-
 	/**
-	 * Cache the ObjectFactory because newInstance is very expensive.
+	 * Resolved factory methods per destination class. Kept with the class itself, so that cached factories do not
+	 * prevent unloading of the class loader which defined them.
 	 */
-	private static Object   objectFactory      = null;
-	private static Class<?> objectFactoryClass = null;
+	private static final ClassValue<ObjectFactoryMethods> OBJECT_FACTORY_METHODS = new ClassValue<ObjectFactoryMethods>() {
+		@Override
+		protected ObjectFactoryMethods computeValue(Class<?> type) {
+			return new ObjectFactoryMethods(type);
+		}
+	};
 
 	/**
-	 * Returns a new instance of ObjectFactory, or the cached one if previously created.
-	 *
-	 * @return instance of ObjectFactory
+	 * ObjectFactory instance per ObjectFactory class, shared by all classes of its package.
 	 */
-	private static Object objectFactory(String destObjClass) {
-		String objectFactoryClassName = destObjClass.substring(0, destObjClass.lastIndexOf(".")) + ".ObjectFactory";
-		if (objectFactory == null || objectFactoryClass == null || !objectFactoryClass.getCanonicalName().equals(objectFactoryClassName)) {
-			objectFactoryClass = MappingUtils.loadClass(objectFactoryClassName);
-			objectFactory = ReflectionUtils.newInstance(objectFactoryClass);
+	private static final ClassValue<ObjectFactoryHolder> OBJECT_FACTORIES = new ClassValue<ObjectFactoryHolder>() {
+		@Override
+		protected ObjectFactoryHolder computeValue(Class<?> type) {
+			return new ObjectFactoryHolder(type);
+		}
+	};
+
+	// converters without date format are stateless, so they are shared by all instances
+	private static final Converter DEFAULT_DATE_CONVERTER = new DateConverter(null);
+	private static final Converter DEFAULT_CALENDAR_CONVERTER = new CalendarConverter(null);
+	private static final Converter DEFAULT_XML_GREGORIAN_CALENDAR_CONVERTER = new XMLGregorianCalendarConverter(null);
+
+	private final Class<?> destObjClass;
+	private final String destFieldName;
+	private final DateFormat dateFormat;
+	private Converter dateConverter;
+	private Converter calendarConverter;
+	private Converter xmlGregorianCalendarConverter;
+
+	public JAXBElementConverter(String destObjClass, String destFieldName, DateFormat dateFormat) {
+		this(MappingUtils.loadClass(destObjClass), destFieldName, dateFormat);
+	}
+
+	public JAXBElementConverter(Class<?> destObjClass, String destFieldName, DateFormat dateFormat) {
+		this.destObjClass = destObjClass;
+		this.destFieldName = destFieldName;
+		this.dateFormat = dateFormat;
+		if (dateFormat == null) {
+			dateConverter = DEFAULT_DATE_CONVERTER;
+			calendarConverter = DEFAULT_CALENDAR_CONVERTER;
+			xmlGregorianCalendarConverter = DEFAULT_XML_GREGORIAN_CALENDAR_CONVERTER;
 		}
-		return objectFactory;
 	}
 
 	/**
@@ -75,44 +95,30 @@ public class JAXBElementConverter implements Converter {
 	public Object convert(Class type, Object value) {
 
 		Object result;
-		Object factory = objectFactory(destObjClass);
-		Class<?> factoryClass = factory.getClass();
-		Class<?> destClass = value.getClass();
+		FactoryMethod factoryMethod = OBJECT_FACTORY_METHODS.get(destObjClass).get(destFieldName);
+		Class<?> destClass = factoryMethod.parameterType;
 		Class<?> valueClass = value.getClass();
 
-		String methodName = "create" + destObjClass.substring(destObjClass.lastIndexOf(".") + 1) + StringUtils.capitalize(destFieldName);
-		Method method = null;
-		try {
-			method = ReflectionUtils.findAMethod(factoryClass, methodName);
-			Class<?>[] parameterTypes = method.getParameterTypes();
-			for (Class<?> parameterClass : parameterTypes) {
-				if (!valueClass.equals(parameterClass)) {
-					destClass = parameterClass;
-					break;
-				}
-			}
-
-			Class<?>[] paramTypes = {destClass};
-			method = ReflectionUtils.getMethod(factoryClass, methodName, paramTypes);
-		} catch (NoSuchMethodException e) {
-			MappingUtils.throwMappingException(e);
-		}
-
 		Object param = value;
-		Converter converter;
 		if (java.util.Date.class.isAssignableFrom(valueClass) && !destClass.equals(XMLGregorianCalendar.class)) {
-			converter = new DateConverter(dateFormat);
-			param = converter.convert(destClass, param);
+			if (dateConverter == null) {
+				dateConverter = new DateConverter(dateFormat);
+			}
+			param = dateConverter.convert(destClass, param);
 		} else if (java.util.Calendar.class.isAssignableFrom(valueClass) && !destClass.equals(XMLGregorianCalendar.class)) {
-			converter = new CalendarConverter(dateFormat);
-			param = converter.convert(destClass, param);
+			if (calendarConverter == null) {
+				calendarConverter = new CalendarConverter(dateFormat);
+			}
+			param = calendarConverter.convert(destClass, param);
 		} else if (XMLGregorianCalendar.class.isAssignableFrom(valueClass) || XMLGregorianCalendar.class.isAssignableFrom(destClass)) {
-			converter = new XMLGregorianCalendarConverter(dateFormat);
-			param = converter.convert(destClass, param);
+			if (xmlGregorianCalendarConverter == null) {
+				xmlGregorianCalendarConverter = new XMLGregorianCalendarConverter(dateFormat);
+			}
+			param = xmlGregorianCalendarConverter.convert(destClass, param);
 		}
 
 		Object[] paramValues = {param};
-		result = ReflectionUtils.invoke(method, factory, paramValues);
+		result = ReflectionUtils.invoke(factoryMethod.method, factoryMethod.factory, paramValues);
 		return result;
 	}
 
@@ -122,21 +128,83 @@ public class JAXBElementConverter implements Converter {
 	 * @return
 	 */
 	public String getBeanId() {
-		Class<?> factoryClass = objectFactory(destObjClass).getClass();
-		Class<?> destClass = null;
-		String methodName = "create" + destObjClass.substring(destObjClass.lastIndexOf(".") + 1) + StringUtils.capitalize(destFieldName);
-
-		try {
-			Method method = ReflectionUtils.findAMethod(factoryClass, methodName);
-			Class<?>[] parameterTypes = method.getParameterTypes();
-			for (Class<?> parameterClass : parameterTypes) {
-				destClass = parameterClass;
-				break;
+		return OBJECT_FACTORY_METHODS.get(destObjClass).get(destFieldName).parameterType.getCanonicalName();
+	}
+
+	private static final class ObjectFactoryMethods {
+
+		private final Class<?> destObjClass;
+		private final ConcurrentMap<String, FactoryMethod> factoryMethods = new ConcurrentHashMap<String, FactoryMethod>();
+
+		ObjectFactoryMethods(Class<?> destObjClass) {
+			this.destObjClass = destObjClass;
+		}
+
+		/**
+		 * Returns createXxx method of ObjectFactory for destination field, resolving it on first use.
+		 *
+		 * @return factory method, never null
+		 */
+		FactoryMethod get(String destFieldName) {
+			FactoryMethod result = factoryMethods.get(destFieldName);
+			if (result == null) {
+				Object factory = objectFactory();
+				String className = destObjClass.getCanonicalName();
+				String methodName = "create" + className.substring(className.lastIndexOf(".") + 1) + StringUtils.capitalize(destFieldName);
+				try {
+					Method method = ReflectionUtils.findAMethod(factory.getClass(), methodName);
+					Class<?>[] parameterTypes = method.getParameterTypes();
+					if (parameterTypes.length == 0) {
+						throw new NoSuchMethodException(factory.getClass().getName() + "." + methodName);
+					}
+					Class<?>[] paramTypes = {parameterTypes[0]};
+					result = new FactoryMethod(factory, ReflectionUtils.getMethod(factory.getClass(), methodName, paramTypes), parameterTypes[0]);
+				} catch (NoSuchMethodException e) {
+					MappingUtils.throwMappingException(e);
+				}
+				factoryMethods.putIfAbsent(destFieldName, result);
+			}
+			return result;
+		}
+
+		private Object objectFactory() {
+			String className = destObjClass.getCanonicalName();
+			String objectFactoryClassName = className.substring(0, className.lastIndexOf(".")) + ".ObjectFactory";
+			return OBJECT_FACTORIES.get(MappingUtils.loadClass(objectFactoryClassName)).get();
+		}
+	}
+
+	private static final class ObjectFactoryHolder {
+
+		private final Class<?> objectFactoryClass;
+		private Object objectFactory;
+
+		ObjectFactoryHolder(Class<?> objectFactoryClass) {
+			this.objectFactoryClass = objectFactoryClass;
+		}
+
+		/**
+		 * newInstance is very expensive, so the ObjectFactory is created once, even when first used concurrently.
+		 * Holders racing in {@link ClassValue} are discarded before they are used.
+		 */
+		synchronized Object get() {
+			if (objectFactory == null) {
+				objectFactory = ReflectionUtils.newInstance(objectFactoryClass);
 			}
-		} catch (NoSuchMethodException e) {
-			MappingUtils.throwMappingException(e);
+			return objectFactory;
 		}
+	}
 
-		return (destClass != null) ? destClass.getCanonicalName() : null;
+	private static final class FactoryMethod {
+
+		private final Object factory;
+		private final Method method;
+		private final Class<?> parameterType;
+
+		FactoryMethod(Object factory, Method method, Class<?> parameterType) {
+			this.factory = factory;
+			this.method = method;
+			this.parameterType = parameterType;
+		}
 	}
 }
@@ -102,7 +102,7 @@ public class PrimitiveOrWrapperConverter {
 			} else if (MappingUtils.isEnumType(destClass)) {
 				result = new EnumConverter();
 			} else if (JAXBElement.class.isAssignableFrom(destClass) && destFieldName != null) {
-				result = new JAXBElementConverter(destObj.getClass().getCanonicalName(), destFieldName, dateFormatContainer.getDateFormat());
+				result = new JAXBElementConverter(destObj.getClass(), destFieldName, dateFormatContainer.getDateFormat());
 			}
 		}
 		return result == null ? new StringConstructorConverter(dateFormatContainer) : result;
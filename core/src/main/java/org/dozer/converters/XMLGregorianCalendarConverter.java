@@ -20,13 +20,12 @@ import java.text.ParseException;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.GregorianCalendar;
+import java.util.TimeZone;
 
-import javax.xml.datatype.DatatypeConfigurationException;
-import javax.xml.datatype.DatatypeFactory;
 import javax.xml.datatype.XMLGregorianCalendar;
 
 import org.apache.commons.beanutils.Converter;
-import org.dozer.MappingException;
+import org.dozer.util.XMLGregorianCalendarUtils;
 
 /**
  * Internal class for converting Supported Data Types to XMLGregorianCalendar.
@@ -57,68 +56,52 @@ public class XMLGregorianCalendarConverter implements Converter {
 		this.dateFormat = dateFormat;
 	}
 
-	/**
-	 * Cache the DatatypeFactory because newInstance is very expensive.
-	 */
-	private static DatatypeFactory dataTypeFactory;
-
-	/**
-	 * Returns a new instance of DatatypeFactory, or the cached one if previously created.
-	 *
-	 * @return instance of DatatypeFactory
-	 */
-	private static DatatypeFactory dataTypeFactory() {
-		if (dataTypeFactory == null) {
-			try {
-				dataTypeFactory = DatatypeFactory.newInstance();
-			} catch (DatatypeConfigurationException e) {
-				throw new MappingException(e);
-			}
-		}
-		return dataTypeFactory;
-	}
-
 	/**
 	 * {@inheritDoc}
 	 */
 	public Object convert(Class destClass, Object srcObj) {
 		Class sourceClass = srcObj.getClass();
-		Calendar result = new GregorianCalendar();
+		long time;
+		TimeZone timeZone = TimeZone.getDefault();
 
 		if (java.util.Date.class.isAssignableFrom(sourceClass)) {
 			// Date --> XMLGregorianCalendar
-			result.setTime(java.util.Date.class.cast(srcObj));
+			time = java.util.Date.class.cast(srcObj).getTime();
 		} else if (Calendar.class.isAssignableFrom(sourceClass)) {
 			// Calendar --> XMLGregorianCalendar
 			Calendar c = Calendar.class.cast(srcObj);
-			result.setTime(c.getTime());
-			result.setTimeZone(c.getTimeZone());
+			time = c.getTimeInMillis();
+			timeZone = c.getTimeZone();
 		} else if (XMLGregorianCalendar.class.isAssignableFrom(sourceClass)) {
-			result = XMLGregorianCalendar.class.cast(srcObj).toGregorianCalendar();
+			GregorianCalendar result = XMLGregorianCalendar.class.cast(srcObj).toGregorianCalendar();
+			if (dateFormat != null && String.class.isAssignableFrom(destClass)) {
+				return dateFormat.format(result.getTime());
+			}
+			return XMLGregorianCalendarUtils.getDatatypeFactory().newXMLGregorianCalendar(result);
 		} else if (dateFormat != null && String.class.isAssignableFrom(sourceClass)) {
 			if ("".equals(String.class.cast(srcObj))) {
 				return null;
 			}
 
 			try {
-				long time = dateFormat.parse(String.class.cast(srcObj)).getTime();
-				result.setTime(new Date(time));
+				time = dateFormat.parse(String.class.cast(srcObj)).getTime();
 			} catch (ParseException e) {
 				throw new ConversionException("Unable to parse source object using specified date format", e);
 			}
+		} else if (srcObj instanceof Long || srcObj instanceof Integer) {
+			time = ((Number) srcObj).longValue();
 		} else {
 			try {
-				long time = Long.parseLong(srcObj.toString());
-				result.setTime(new Date(time));
+				time = Long.parseLong(srcObj.toString());
 			} catch (NumberFormatException e) {
 				throw new ConversionException("Unable to determine time in millis of source object", e);
 			}
 		}
 
 		if (dateFormat != null && String.class.isAssignableFrom(destClass)) {
-			return dateFormat.format(result.getTime());
+			return dateFormat.format(new Date(time));
 		}
 
-		return dataTypeFactory().newXMLGregorianCalendar(GregorianCalendar.class.cast(result));
+		return XMLGregorianCalendarUtils.fromMillis(time, timeZone);
 	}
 }
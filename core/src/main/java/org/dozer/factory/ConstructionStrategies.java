@@ -29,17 +29,15 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
-import javax.xml.datatype.DatatypeConfigurationException;
-import javax.xml.datatype.DatatypeFactory;
 import javax.xml.datatype.XMLGregorianCalendar;
 
 import org.dozer.BeanFactory;
-import org.dozer.MappingException;
 import org.dozer.config.BeanContainer;
 import org.dozer.converters.JAXBElementConverter;
 import org.dozer.util.DozerClassLoader;
 import org.dozer.util.MappingUtils;
 import org.dozer.util.ReflectionUtils;
+import org.dozer.util.XMLGregorianCalendarUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -281,7 +279,7 @@ public final class ConstructionStrategies {
 		}
 
 		public Object create(BeanCreationDirective directive) {
-			JAXBElementConverter jaxbElementConverter = new JAXBElementConverter((directive.getDestObj() != null) ? directive.getDestObj().getClass().getCanonicalName() : directive.getActualClass().getCanonicalName(), directive.getFieldName(), null);
+			JAXBElementConverter jaxbElementConverter = new JAXBElementConverter((directive.getDestObj() != null) ? directive.getDestObj().getClass() : directive.getActualClass(), directive.getFieldName(), null);
 			String beanId = jaxbElementConverter.getBeanId();
 			Object destValue = jaxbBeanFactory.createBean(directive.getSrcObject(), directive.getSrcClass(), beanId);
 			return jaxbElementConverter.convert(jaxbObjectType, (destValue != null) ? destValue : directive.getSrcObject());
@@ -356,13 +354,7 @@ public final class ConstructionStrategies {
 		}
 
 		public Object create(BeanCreationDirective directive) {
-			DatatypeFactory dataTypeFactory;
-			try {
-				dataTypeFactory = DatatypeFactory.newInstance();
-			} catch (DatatypeConfigurationException e) {
-				throw new MappingException(e);
-			}
-			return dataTypeFactory.newXMLGregorianCalendar();
+			return XMLGregorianCalendarUtils.getDatatypeFactory().newXMLGregorianCalendar();
 		}
 
 	}
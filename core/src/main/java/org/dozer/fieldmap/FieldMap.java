@@ -25,8 +25,11 @@ import org.dozer.MappingException;
 import org.dozer.builder.BuilderUtil;
 import org.dozer.classmap.ClassMap;
 import org.dozer.classmap.DozerClass;
+import org.dozer.classmap.LazyLoadPolicy;
 import org.dozer.classmap.MappingDirection;
 import org.dozer.classmap.RelationshipType;
+import org.dozer.classmap.WritePolicy;
+import org.dozer.propertydescriptor.AbstractPropertyDescriptor;
 import org.dozer.propertydescriptor.DozerPropertyDescriptor;
 import org.dozer.propertydescriptor.GetterSetterPropertyDescriptor;
 import org.dozer.propertydescriptor.PropertyDescriptorFactory;
@@ -65,9 +68,11 @@ public abstract class FieldMap implements Cloneable {
   private String customConverterParam;
   private RelationshipType relationshipType;
   private boolean removeOrphans;
+  private LazyLoadPolicy lazyLoadPolicy;
 
   private final ConcurrentMap<Class<?>, DozerPropertyDescriptor> srcPropertyDescriptorMap = new ConcurrentHashMap<Class<?>, DozerPropertyDescriptor>(); // For Caching Purposes
   private final ConcurrentMap<Class<?>, DozerPropertyDescriptor> destPropertyDescriptorMap = new ConcurrentHashMap<Class<?>, DozerPropertyDescriptor>();
+  private final ConcurrentMap<Class<?>, DozerPropertyDescriptor> srcCollectionDescriptorMap = new ConcurrentHashMap<Class<?>, DozerPropertyDescriptor>();
 
   public FieldMap(ClassMap classMap) {
     this.classMap = classMap;
@@ -85,14 +90,59 @@ public abstract class FieldMap implements Cloneable {
     return getSrcPropertyDescriptor(runtimeSrcObj.getClass()).getPropertyValue(runtimeSrcObj);
   }
 
+  /**
+   * Reads source field value, reading an indexed element of a collection through the cursor of the current mapping
+   * call, so consecutive indexes of the same collection are not found by iterating from its start each time.
+   */
+  public Object getSrcFieldValue(Object runtimeSrcObj, MappingUtils.IndexedCursor cursor) {
+    if (!isSrcFieldIndexed() || isSrcSelfReferencing() || MappingUtils.isDeepMapping(getSrcFieldName())) {
+      return getSrcFieldValue(runtimeSrcObj);
+    }
+    Object collection = getSrcCollectionDescriptor(runtimeSrcObj.getClass()).getPropertyValue(runtimeSrcObj);
+    return MappingUtils.getIndexedValue(collection, getSrcFieldIndex(), cursor);
+  }
+
   public void writeDestValue(Object runtimeDestObj, Object destFieldValue) {
+    writeDestValue(runtimeDestObj, destFieldValue, false);
+  }
+
+  /**
+   * Writes destination value as {@link #writeDestValue(Object, Object)} and returns the value held before. The value
+   * read by write policy is reused, so the destination is not read twice.
+   *
+   * @return previous value or {@link AbstractPropertyDescriptor#UNREAD_VALUE} if it could not be read
+   */
+  public Object replaceDestValue(Object runtimeDestObj, Object destFieldValue) {
+    return writeDestValue(runtimeDestObj, destFieldValue, true);
+  }
+
+  protected Object writeDestValue(Object runtimeDestObj, Object destFieldValue, boolean readPrevious) {
     if (log.isDebugEnabled()) {
       String className = MappingUtils.getClassNameWithoutPackage(runtimeDestObj.getClass());
       log.debug("Getting ready to invoke write method on the destination object. Dest Obj: {}, Dest value: {}",
               className, destFieldValue);
     }
     DozerPropertyDescriptor propDescriptor = getDestPropertyDescriptor(BuilderUtil.unwrapDestClassFromBuilder(runtimeDestObj));
-    propDescriptor.setPropertyValue(runtimeDestObj, destFieldValue, this);
+    return writePropertyValue(propDescriptor, runtimeDestObj, destFieldValue, readPrevious);
+  }
+
+  protected Object writePropertyValue(DozerPropertyDescriptor propDescriptor, Object targetObj, Object value,
+                                      boolean readPrevious) {
+    if (!readPrevious) {
+      propDescriptor.setPropertyValue(targetObj, value, this);
+      return AbstractPropertyDescriptor.UNREAD_VALUE;
+    }
+    if (propDescriptor instanceof AbstractPropertyDescriptor) {
+      return ((AbstractPropertyDescriptor) propDescriptor).replacePropertyValue(targetObj, value, this);
+    }
+    Object previousValue;
+    try {
+      previousValue = propDescriptor.getPropertyValue(targetObj);
+    } catch (Exception e) {
+      previousValue = AbstractPropertyDescriptor.UNREAD_VALUE;
+    }
+    propDescriptor.setPropertyValue(targetObj, value, this);
+    return previousValue;
   }
 
   public Class<?> getDestHintType(Class<?> runtimeSrcClass) {
@@ -388,6 +438,20 @@ public abstract class FieldMap implements Cloneable {
     return result;
   }
 
+  private DozerPropertyDescriptor getSrcCollectionDescriptor(Class<?> runtimeSrcClass) {
+    DozerPropertyDescriptor result = this.srcCollectionDescriptorMap.get(runtimeSrcClass);
+    if (result == null) {
+      DozerPropertyDescriptor descriptor = PropertyDescriptorFactory.getPropertyDescriptor(runtimeSrcClass,
+              getSrcFieldTheGetMethod(), getSrcFieldTheSetMethod(),
+              getSrcFieldMapGetMethod(), getSrcFieldMapSetMethod(), isSrcFieldAccessible(), false, -1,
+              getSrcFieldName(), getSrcFieldKey(), isSrcSelfReferencing(), getDestFieldName(), getSrcDeepIndexHintContainer(),
+              getDestDeepIndexHintContainer(), classMap.getSrcClassBeanFactory());
+      this.srcCollectionDescriptorMap.putIfAbsent(runtimeSrcClass, descriptor);
+      result = descriptor;
+    }
+    return result;
+  }
+
   protected DozerPropertyDescriptor getDestPropertyDescriptor(Class<?> runtimeDestClass) {
     if (BeanBuilder.class.isAssignableFrom(runtimeDestClass)) {
       MappingUtils.throwMappingException(
@@ -465,6 +529,25 @@ public abstract class FieldMap implements Cloneable {
     return classMap.isStopOnErrors();
   }
 
+  public WritePolicy getWritePolicy() {
+    return classMap.getWritePolicy();
+  }
+
+  public LazyLoadPolicy getLazyLoadPolicy() {
+    return lazyLoadPolicy != null ? lazyLoadPolicy : classMap.getLazyLoadPolicy();
+  }
+
+  /**
+   * @return policy set on this mapping itself or null if it is inherited from class mapping
+   */
+  public LazyLoadPolicy getDeclaredLazyLoadPolicy() {
+    return lazyLoadPolicy;
+  }
+
+  public void setLazyLoadPolicy(LazyLoadPolicy lazyLoadPolicy) {
+    this.lazyLoadPolicy = lazyLoadPolicy;
+  }
+
   public boolean isNonCumulativeRelationship() {
     return RelationshipType.NON_CUMULATIVE.equals(relationshipType);
   }
@@ -93,6 +93,10 @@ public class HintContainer {
     return clazz;
   }
 
+  public String getHintName() {
+    return hintName;
+  }
+
   public void setHintName(String hintName) {
     this.hintName = hintName;
   }
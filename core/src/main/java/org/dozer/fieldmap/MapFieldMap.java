@@ -15,6 +15,9 @@
  */
 package org.dozer.fieldmap;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 import org.dozer.classmap.ClassMap;
 import org.dozer.factory.DestBeanCreator;
 import org.dozer.propertydescriptor.DozerPropertyDescriptor;
@@ -36,6 +39,12 @@ import org.dozer.util.MappingUtils;
  */
 public class MapFieldMap extends FieldMap {
 
+  // Descriptors resolved per runtime class, not shared with clones
+  private ConcurrentMap<Class<?>, SrcDescriptor> srcDescriptors = new ConcurrentHashMap<Class<?>, SrcDescriptor>();
+  private ConcurrentMap<Class<?>, DozerPropertyDescriptor> srcHolderDescriptors = new ConcurrentHashMap<Class<?>, DozerPropertyDescriptor>();
+  private ConcurrentMap<Class<?>, DozerPropertyDescriptor> destHolderDescriptors = new ConcurrentHashMap<Class<?>, DozerPropertyDescriptor>();
+  private ConcurrentMap<Class<?>, MapPropertyDescriptor> destMapDescriptors = new ConcurrentHashMap<Class<?>, MapPropertyDescriptor>();
+
   public MapFieldMap(ClassMap classMap) {
     super(classMap);
   }
@@ -53,6 +62,7 @@ public class MapFieldMap extends FieldMap {
     setMapId(fieldMap.getMapId());
     setRelationshipType(fieldMap.getRelationshipType());
     setRemoveOrphans(fieldMap.isRemoveOrphans());
+    setLazyLoadPolicy(fieldMap.getDeclaredLazyLoadPolicy());
     setSrcField(fieldMap.getSrcField());
     setSrcHintContainer(fieldMap.getSrcHintContainer());
     setSrcDeepIndexHintContainer(fieldMap.getSrcDeepIndexHintContainer());
@@ -60,7 +70,7 @@ public class MapFieldMap extends FieldMap {
   }
 
   @Override
-  public void writeDestValue(Object destObj, Object destFieldValue) {
+  protected Object writeDestValue(Object destObj, Object destFieldValue, boolean readPrevious) {
     DozerPropertyDescriptor propDescriptor;
     Object targetObject = destObj;
 
@@ -70,8 +80,7 @@ public class MapFieldMap extends FieldMap {
       propDescriptor = super.getDestPropertyDescriptor(destObj.getClass());
     } else {
       if (getDestFieldMapGetMethod() != null
-          || MappingUtils.isSupportedMap(determineActualPropertyType(getDestFieldName(), isDestFieldIndexed(), getDestFieldIndex(),
-              destObj, true))) {
+          || MappingUtils.isSupportedMap(determineActualPropertyType(destObj, true))) {
         // Need to dig out actual destination Map object and use map property descriptor to set the value on that target object....
         PrepareTargetObjectResult result = prepareTargetObject(destObj);
         targetObject = result.targetObject;
@@ -81,7 +90,12 @@ public class MapFieldMap extends FieldMap {
       }
     }
 
-    propDescriptor.setPropertyValue(targetObject, destFieldValue, this);
+    return writePropertyValue(propDescriptor, targetObject, destFieldValue, readPrevious);
+  }
+
+  @Override
+  public Object getSrcFieldValue(Object srcObj, MappingUtils.IndexedCursor cursor) {
+    return getSrcFieldValue(srcObj);
   }
 
   @Override
@@ -92,21 +106,12 @@ public class MapFieldMap extends FieldMap {
     if (getSrcFieldName().equals(DozerConstants.SELF_KEYWORD)) {
       propDescriptor = super.getSrcPropertyDescriptor(srcObj.getClass());
     } else {
-      Class<?> actualType = determineActualPropertyType(getSrcFieldName(), isSrcFieldIndexed(), getSrcFieldIndex(), srcObj, false);
-      if ((getSrcFieldMapGetMethod() != null)
-          || (this.getMapId() == null && MappingUtils.isSupportedMap(actualType) && getSrcHintContainer() == null)) {
+      SrcDescriptor srcDescriptor = getSrcDescriptor(srcObj.getClass());
+      if (srcDescriptor.mapBacked) {
         // Need to dig out actual map object by using getter on the field. Use actual map object to get the field value
         targetObject = super.getSrcFieldValue(srcObj);
-
-        String setMethod = MappingUtils.isSupportedMap(actualType) ? "put" : getSrcFieldMapSetMethod();
-        String getMethod = MappingUtils.isSupportedMap(actualType) ? "get" : getSrcFieldMapGetMethod();
-        String key = getSrcFieldKey() != null ? getSrcFieldKey() : getDestFieldName();
-
-        propDescriptor = new MapPropertyDescriptor(actualType, getSrcFieldName(), isSrcFieldIndexed(), getDestFieldIndex(),
-                setMethod, getMethod, key, getSrcDeepIndexHintContainer(), getDestDeepIndexHintContainer());
-      } else {
-        propDescriptor = super.getSrcPropertyDescriptor(srcObj.getClass());
       }
+      propDescriptor = srcDescriptor.propDescriptor;
     }
 
     Object result = null;
@@ -118,16 +123,39 @@ public class MapFieldMap extends FieldMap {
 
   }
 
+  @Override
+  public Object clone() {
+    MapFieldMap result = (MapFieldMap) super.clone();
+    result.srcDescriptors = new ConcurrentHashMap<Class<?>, SrcDescriptor>();
+    result.srcHolderDescriptors = new ConcurrentHashMap<Class<?>, DozerPropertyDescriptor>();
+    result.destHolderDescriptors = new ConcurrentHashMap<Class<?>, DozerPropertyDescriptor>();
+    result.destMapDescriptors = new ConcurrentHashMap<Class<?>, MapPropertyDescriptor>();
+    return result;
+  }
+
+  private SrcDescriptor getSrcDescriptor(Class<?> srcClass) {
+    SrcDescriptor result = srcDescriptors.get(srcClass);
+    if (result == null) {
+      Class<?> actualType = getHolderDescriptor(srcClass, false).getPropertyType();
+      if ((getSrcFieldMapGetMethod() != null)
+          || (this.getMapId() == null && MappingUtils.isSupportedMap(actualType) && getSrcHintContainer() == null)) {
+        String setMethod = MappingUtils.isSupportedMap(actualType) ? "put" : getSrcFieldMapSetMethod();
+        String getMethod = MappingUtils.isSupportedMap(actualType) ? "get" : getSrcFieldMapGetMethod();
+        String key = getSrcFieldKey() != null ? getSrcFieldKey() : getDestFieldName();
+
+        result = new SrcDescriptor(true, new MapPropertyDescriptor(actualType, getSrcFieldName(), isSrcFieldIndexed(),
+            getDestFieldIndex(), setMethod, getMethod, key, getSrcDeepIndexHintContainer(), getDestDeepIndexHintContainer()));
+      } else {
+        result = new SrcDescriptor(false, super.getSrcPropertyDescriptor(srcClass));
+      }
+      srcDescriptors.putIfAbsent(srcClass, result);
+    }
+    return result;
+  }
+
   private PrepareTargetObjectResult prepareTargetObject(Object destObj) {
     //  Need to dig out actual destination Map object and use map property descriptor to set the value on that target object....
-    DozerPropertyDescriptor pd;
-    if (isDestFieldAccessible()) {
-      pd = new FieldPropertyDescriptor(destObj.getClass(), getDestFieldName(), isDestFieldIndexed(), getDestFieldIndex(),
-          getSrcDeepIndexHintContainer(), getDestDeepIndexHintContainer());
-    } else {
-      pd = new JavaBeanPropertyDescriptor(destObj.getClass(), getDestFieldName(), isDestFieldIndexed(), getDestFieldIndex(),
-          getSrcDeepIndexHintContainer(), getDestDeepIndexHintContainer());
-    }
+    DozerPropertyDescriptor pd = getHolderDescriptor(destObj.getClass(), true);
 
     Class<?> c = pd.getPropertyType();
     Object targetObject = pd.getPropertyValue(destObj);
@@ -149,25 +177,54 @@ public class MapFieldMap extends FieldMap {
       pd.setPropertyValue(destObj, targetObject, this);
     }
 
-    return new PrepareTargetObjectResult(targetObject, new MapPropertyDescriptor(c, getDestFieldName(), isDestFieldIndexed(),
-        getDestFieldIndex(), MappingUtils.isSupportedMap(c) ? "put" : getDestFieldMapSetMethod(),
-        MappingUtils.isSupportedMap(c) ? "get" : getDestFieldMapGetMethod(), getDestFieldKey() != null ? getDestFieldKey()
-            : getSrcFieldName(), getSrcDeepIndexHintContainer(), getDestDeepIndexHintContainer()));
+    return new PrepareTargetObjectResult(targetObject, getDestMapDescriptor(c));
+  }
 
+  private MapPropertyDescriptor getDestMapDescriptor(Class<?> mapClass) {
+    MapPropertyDescriptor result = destMapDescriptors.get(mapClass);
+    if (result == null) {
+      result = new MapPropertyDescriptor(mapClass, getDestFieldName(), isDestFieldIndexed(),
+          getDestFieldIndex(), MappingUtils.isSupportedMap(mapClass) ? "put" : getDestFieldMapSetMethod(),
+          MappingUtils.isSupportedMap(mapClass) ? "get" : getDestFieldMapGetMethod(), getDestFieldKey() != null ? getDestFieldKey()
+              : getSrcFieldName(), getSrcDeepIndexHintContainer(), getDestDeepIndexHintContainer());
+      destMapDescriptors.putIfAbsent(mapClass, result);
+    }
+    return result;
   }
 
-  private Class<?> determineActualPropertyType(String fieldName, boolean isIndexed, int index, Object targetObj, boolean isDestObj) {
-    // Dig out actual Map object by calling getter on top level object    
-    DozerPropertyDescriptor pd;
-    if ((isDestObj && isDestFieldAccessible()) || (!isDestObj && isSrcFieldAccessible())) {
-      pd = new FieldPropertyDescriptor(targetObj.getClass(), fieldName, isIndexed, index, getSrcDeepIndexHintContainer(),
-          getDestDeepIndexHintContainer());
-    } else {
-      pd = new JavaBeanPropertyDescriptor(targetObj.getClass(), fieldName, isIndexed, index, getSrcDeepIndexHintContainer(),
-          getDestDeepIndexHintContainer());
+  private Class<?> determineActualPropertyType(Object targetObj, boolean isDestObj) {
+    return getHolderDescriptor(targetObj.getClass(), isDestObj).getPropertyType();
+  }
+
+  /**
+   * Descriptor of the field holding actual Map object on top level object
+   */
+  private DozerPropertyDescriptor getHolderDescriptor(Class<?> targetClass, boolean isDestObj) {
+    ConcurrentMap<Class<?>, DozerPropertyDescriptor> descriptors = isDestObj ? destHolderDescriptors : srcHolderDescriptors;
+    DozerPropertyDescriptor result = descriptors.get(targetClass);
+    if (result == null) {
+      String fieldName = isDestObj ? getDestFieldName() : getSrcFieldName();
+      boolean isIndexed = isDestObj ? isDestFieldIndexed() : isSrcFieldIndexed();
+      int index = isDestObj ? getDestFieldIndex() : getSrcFieldIndex();
+      if ((isDestObj && isDestFieldAccessible()) || (!isDestObj && isSrcFieldAccessible())) {
+        result = new FieldPropertyDescriptor(targetClass, fieldName, isIndexed, index, getSrcDeepIndexHintContainer(),
+            getDestDeepIndexHintContainer());
+      } else {
+        result = new JavaBeanPropertyDescriptor(targetClass, fieldName, isIndexed, index, getSrcDeepIndexHintContainer(),
+            getDestDeepIndexHintContainer());
+      }
+      descriptors.putIfAbsent(targetClass, result);
     }
+    return result;
+  }
 
-    return pd.getPropertyType();
+  private static class SrcDescriptor {
+    private final boolean mapBacked;
+    private final DozerPropertyDescriptor propDescriptor;
+    public SrcDescriptor(boolean mapBacked, DozerPropertyDescriptor propDescriptor) {
+      this.mapBacked = mapBacked;
+      this.propDescriptor = propDescriptor;
+    }
   }
 
   private static class PrepareTargetObjectResult {
@@ -98,6 +98,10 @@ public class DozerStatisticsController implements DozerStatisticsControllerMBean
     return getStatisticValue(StatisticType.CUSTOM_CONVERTER_TIME);
   }
 
+  public long getLazyLoadsAvoidedCount() {
+    return getStatisticValue(StatisticType.LAZY_LOADS_AVOIDED_COUNT);
+  }
+
   public double getMappingAverageTimeInMillis() {
     double totalTime = getStatisticValue(StatisticType.MAPPING_TIME);
     double totalCount = getStatisticValue(StatisticType.MAPPING_SUCCESS_COUNT);
@@ -39,6 +39,7 @@ public interface DozerStatisticsControllerMBean {
   public long getCustomConverterSuccessCount();
   public double getCustomConverterPercentageOfMappingTime();
   public double getCustomConverterAverageTimeInMillis();
+  public long getLazyLoadsAvoidedCount();
   public String dumpStatistics();
   public void clearAll();
   public boolean isStatisticsEnabled();
@@ -44,6 +44,8 @@ public class CustomMappingsLoader {
 
   private static final MappingsParser mappingsParser = MappingsParser.getInstance();
 
+  static final List<CustomConverterDescription> pluggedDefaultConverters = new ArrayList<CustomConverterDescription>();
+
   public LoadMappingsResult load(List<MappingFileData> mappings) {
 
     Configuration globalConfiguration = findConfiguration(mappings);
@@ -60,6 +62,8 @@ public class CustomMappingsLoader {
     // is true. The addDefaultFieldMappings will check the wildcard policy of each classmap
     ClassMapBuilder.addDefaultFieldMappings(customMappings, globalConfiguration);
 
+    addDefaultCustomConverters(globalConfiguration);
+
     Set<CustomConverterDescription> customConverterDescriptions = new LinkedHashSet<CustomConverterDescription>();
 
     // build up custom converter description objects
@@ -80,8 +84,6 @@ public class CustomMappingsLoader {
       }
     }
 
-    addDefaultCustomConverters(globalConfiguration);
-
     return new LoadMappingsResult(customMappings, globalConfiguration);
   }
 
@@ -117,6 +119,24 @@ public class CustomMappingsLoader {
           defaultUUIDConverter.setType(ByReferenceConverter.class);
           globalConfiguration.getCustomConverters().addConverter(defaultUUIDConverter);
       }
+      // added after converters of mapping files, so that those take precedence
+      for (CustomConverterDescription pluggedConverter : pluggedDefaultConverters) {
+        if (globalConfiguration.getCustomConverters() != null &&
+                globalConfiguration.getCustomConverters().findConverter(pluggedConverter.getClassA(), pluggedConverter.getClassB()) == null) {
+          globalConfiguration.getCustomConverters().addConverter(pluggedConverter);
+        }
+      }
+  }
+
+  /**
+   * Registers converter used for given pair of classes unless mapping files configure another one.
+   */
+  public static void addPluggedDefaultConverter(Class<?> classA, Class<?> classB, Class<? extends CustomConverter> type) {
+    CustomConverterDescription converter = new CustomConverterDescription();
+    converter.setClassA(classA);
+    converter.setClassB(classB);
+    converter.setType(type);
+    pluggedDefaultConverters.add(converter);
   }
 
   /**
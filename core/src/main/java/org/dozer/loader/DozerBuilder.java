@@ -25,9 +25,12 @@ import org.dozer.classmap.ClassMap;
 import org.dozer.classmap.Configuration;
 import org.dozer.classmap.CopyByReference;
 import org.dozer.classmap.DozerClass;
+import org.dozer.classmap.LazyLoadPolicy;
 import org.dozer.classmap.MappingDirection;
 import org.dozer.classmap.MappingFileData;
 import org.dozer.classmap.RelationshipType;
+import org.dozer.classmap.ResultCachePolicy;
+import org.dozer.classmap.WritePolicy;
 import org.dozer.converters.CustomConverterDescription;
 import org.dozer.fieldmap.CustomGetSetMethodFieldMap;
 import org.dozer.fieldmap.DozerField;
@@ -112,6 +115,21 @@ public class DozerBuilder {
       return this;
     }
 
+    public MappingBuilder writePolicy(WritePolicy policy) {
+      classMap.setWritePolicy(policy);
+      return this;
+    }
+
+    public MappingBuilder lazyLoadPolicy(LazyLoadPolicy policy) {
+      classMap.setLazyLoadPolicy(policy);
+      return this;
+    }
+
+    public MappingBuilder resultCachePolicy(ResultCachePolicy policy) {
+      classMap.setResultCachePolicy(policy);
+      return this;
+    }
+
     public MappingBuilder wildcard(Boolean value) {
       classMap.setWildcard(value);
       return this;
@@ -240,6 +258,7 @@ public class DozerBuilder {
     private String customConverterId;
     private String customConverterParam;
     private boolean copyByReferenceSet;
+    private LazyLoadPolicy lazyLoadPolicy;
 
     public FieldMappingBuilder(ClassMap classMap) {
       this.classMap = classMap;
@@ -310,6 +329,10 @@ public class DozerBuilder {
       this.mapId = attribute;
     }
 
+    public void lazyLoadPolicy(LazyLoadPolicy policy) {
+      this.lazyLoadPolicy = policy;
+    }
+
     public void customConverter(Class<? extends CustomConverter> type) {
       customConverter(type.getName());
     }
@@ -353,6 +376,7 @@ public class DozerBuilder {
         result.setCopyByReference(copyByReference);
       }
       result.setMapId(mapId);
+      result.setLazyLoadPolicy(lazyLoadPolicy);
 
       result.setCustomConverter(customConverter);
       result.setCustomConverterId(customConverterId);
@@ -530,6 +554,14 @@ public class DozerBuilder {
       }
     }
 
+    public void writePolicy(WritePolicy value) {
+      configuration.setWritePolicy(value);
+    }
+
+    public void lazyLoadPolicy(LazyLoadPolicy value) {
+      configuration.setLazyLoadPolicy(value);
+    }
+
     public void beanFactory(String name) {
       configuration.setBeanFactory(name);
     }
@@ -17,6 +17,7 @@ package org.dozer.loader.api;
 
 import org.apache.commons.lang3.StringUtils;
 import org.dozer.CustomConverter;
+import org.dozer.classmap.LazyLoadPolicy;
 import org.dozer.classmap.MappingDirection;
 import org.dozer.classmap.RelationshipType;
 import org.dozer.loader.DozerBuilder;
@@ -146,6 +147,14 @@ public final class FieldsMappingOptions {
     };
   }
 
+  public static FieldsMappingOption lazyLoadPolicy(final LazyLoadPolicy lazyLoadPolicy) {
+    return new FieldsMappingOption() {
+      public void apply(DozerBuilder.FieldMappingBuilder fieldMappingBuilder) {
+        fieldMappingBuilder.lazyLoadPolicy(lazyLoadPolicy);
+      }
+    };
+  }
+
   public static FieldsMappingOption collectionStrategy(final boolean removeOrphans, final RelationshipType relationshipType) {
     return new FieldsMappingOption() {
       public void apply(DozerBuilder.FieldMappingBuilder fieldMappingBuilder) {
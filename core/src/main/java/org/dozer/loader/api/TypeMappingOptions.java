@@ -15,8 +15,11 @@
  */
 package org.dozer.loader.api;
 
+import org.dozer.classmap.LazyLoadPolicy;
 import org.dozer.classmap.MappingDirection;
 import org.dozer.classmap.RelationshipType;
+import org.dozer.classmap.ResultCachePolicy;
+import org.dozer.classmap.WritePolicy;
 import org.dozer.loader.DozerBuilder;
 
 /**
@@ -82,6 +85,30 @@ public final class TypeMappingOptions {
     };
   }
 
+  public static TypeMappingOption writePolicy(final WritePolicy value) {
+    return new TypeMappingOption() {
+      public void apply(DozerBuilder.MappingBuilder fieldMappingBuilder) {
+        fieldMappingBuilder.writePolicy(value);
+      }
+    };
+  }
+
+  public static TypeMappingOption lazyLoadPolicy(final LazyLoadPolicy value) {
+    return new TypeMappingOption() {
+      public void apply(DozerBuilder.MappingBuilder fieldMappingBuilder) {
+        fieldMappingBuilder.lazyLoadPolicy(value);
+      }
+    };
+  }
+
+  public static TypeMappingOption resultCachePolicy(final ResultCachePolicy value) {
+    return new TypeMappingOption() {
+      public void apply(DozerBuilder.MappingBuilder fieldMappingBuilder) {
+        fieldMappingBuilder.resultCachePolicy(value);
+      }
+    };
+  }
+
   public static TypeMappingOption stopOnErrors() {
     return stopOnErrors(true);
   }
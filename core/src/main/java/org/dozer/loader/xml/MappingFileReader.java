@@ -18,6 +18,20 @@ package org.dozer.loader.xml;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+import javax.xml.parsers.DocumentBuilder;
+
+import org.w3c.dom.Document;
+import org.xml.sax.SAXException;
 
 import org.dozer.classmap.MappingFileData;
 import org.dozer.config.BeanContainer;
@@ -39,9 +53,26 @@ public class MappingFileReader implements MappingsSource<URL> {
   private final Logger log = LoggerFactory.getLogger(MappingFileReader.class);
 
   private final MappingStreamReader streamReader;
+  private final Executor executor;
 
   public MappingFileReader(XMLParserFactory parserFactory) {
-    streamReader = new MappingStreamReader(parserFactory);
+    this(parserFactory, true);
+  }
+
+  /**
+   * @param validating false to skip validation against Dozer XML Schema, f.e. if mappings were validated at build time
+   */
+  public MappingFileReader(XMLParserFactory parserFactory, boolean validating) {
+    this(parserFactory, validating, null);
+  }
+
+  /**
+   * @param validating false to skip validation against Dozer XML Schema, f.e. if mappings were validated at build time
+   * @param executor   executor parsing several mapping files concurrently, null to parse them on the calling thread
+   */
+  public MappingFileReader(XMLParserFactory parserFactory, boolean validating, Executor executor) {
+    this.streamReader = new MappingStreamReader(parserFactory, validating);
+    this.executor = executor;
   }
 
   public MappingFileData read(String fileName) {
@@ -71,4 +102,98 @@ public class MappingFileReader implements MappingsSource<URL> {
     return result;
   }
 
+  /**
+   * Reads several mapping files. Parsers are reused across the files of one call. If an executor was given, files are
+   * parsed concurrently on it, while mapping definitions are always built sequentially on the calling thread, so the
+   * result has the same order as given urls.
+   *
+   * @param urls mapping files to read
+   * @return mappings in the order of urls
+   */
+  public List<MappingFileData> read(List<URL> urls) {
+    Queue<DocumentBuilder> parsers = new ConcurrentLinkedQueue<DocumentBuilder>();
+    List<MappingFileData> result = new ArrayList<MappingFileData>(urls.size());
+    if (executor == null || urls.size() < 2) {
+      for (URL url : urls) {
+        result.add(streamReader.build(parse(url, parsers)));
+      }
+      return result;
+    }
+
+    List<Future<Document>> documents = new ArrayList<Future<Document>>(urls.size());
+    try {
+      for (URL url : urls) {
+        FutureTask<Document> document = new FutureTask<Document>(new ParseTask(url, parsers));
+        documents.add(document);
+        executor.execute(document);
+      }
+      for (int i = 0; i < urls.size(); i++) {
+        result.add(streamReader.build(getDocument(documents.get(i), urls.get(i))));
+      }
+      return result;
+    } finally {
+      // no more parsing needed if mappings of some file could not be read
+      for (Future<Document> document : documents) {
+        document.cancel(true);
+      }
+    }
+  }
+
+  /**
+   * Parses mapping file with a parser taken from given pool, which gets the parser back afterwards.
+   */
+  private Document parse(URL url, Queue<DocumentBuilder> parsers) {
+    DocumentBuilder parser = parsers.poll();
+    if (parser == null) {
+      parser = streamReader.createParser();
+    }
+    InputStream stream = null;
+    try {
+      stream = url.openStream();
+      return streamReader.parse(stream, parser);
+    } catch (Exception e) {
+      log.error("Error while loading dozer mapping file url: [" + url + "]", e);
+      MappingUtils.throwMappingException(e);
+    } finally {
+      streamReader.resetParser(parser);
+      parsers.offer(parser);
+      try {
+        if (stream != null) {
+          stream.close();
+        }
+      } catch (IOException e) {
+        MappingUtils.throwMappingException(e);
+      }
+    }
+    return null;
+  }
+
+  private Document getDocument(Future<Document> document, URL url) {
+    try {
+      return document.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      MappingUtils.throwMappingException(e);
+    } catch (ExecutionException e) {
+      // parse failure was logged by the parsing thread already
+      MappingUtils.throwMappingException(e.getCause());
+    }
+    return null;
+  }
+
+  private final class ParseTask implements Callable<Document> {
+
+    private final URL url;
+    private final Queue<DocumentBuilder> parsers;
+
+    ParseTask(URL url, Queue<DocumentBuilder> parsers) {
+      this.url = url;
+      this.parsers = parsers;
+    }
+
+    public Document call() {
+      return parse(url, parsers);
+    }
+  }
+
 }
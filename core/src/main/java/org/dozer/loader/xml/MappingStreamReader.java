@@ -15,11 +15,13 @@
  */
 package org.dozer.loader.xml;
 
+import java.io.IOException;
 import java.io.InputStream;
 
 import javax.xml.parsers.DocumentBuilder;
 
 import org.w3c.dom.Document;
+import org.xml.sax.SAXException;
 
 import org.dozer.classmap.MappingFileData;
 import org.dozer.loader.MappingsSource;
@@ -38,19 +40,27 @@ public class MappingStreamReader implements MappingsSource<InputStream> {
 	private static final Logger log = LoggerFactory
 			.getLogger(MappingStreamReader.class);
 
-	private final DocumentBuilder documentBuilder;
+	private final XMLParserFactory parserFactory;
+	private final boolean validating;
   private final MappingsSource<Document> parser;
 
 	public MappingStreamReader(XMLParserFactory parserFactory) {
-    this.documentBuilder = parserFactory.createParser();
+		this(parserFactory, true);
+	}
+
+	/**
+	 * @param validating false to skip validation against Dozer XML Schema, f.e. if mappings were validated at build time
+	 */
+	public MappingStreamReader(XMLParserFactory parserFactory, boolean validating) {
+		this.parserFactory = parserFactory;
+		this.validating = validating;
     this.parser = new XMLParser();
 	}
 
 	public MappingFileData read(InputStream xmlStream) {
 		MappingFileData result = null;
 		try {
-			Document document = documentBuilder.parse(xmlStream);
-			result = parser.read(document);
+			result = build(parse(xmlStream, createParser()));
 		} catch (Throwable e) {
 			log.error("Error while loading dozer mapping InputStream: ["
 					+ xmlStream + "]", e);
@@ -59,4 +69,27 @@ public class MappingStreamReader implements MappingsSource<InputStream> {
 		return result;
 	}
 
+	DocumentBuilder createParser() {
+		return parserFactory.createParser(validating);
+	}
+
+	void resetParser(DocumentBuilder documentBuilder) {
+		parserFactory.resetParser(documentBuilder);
+	}
+
+	/**
+	 * Parses XML stream with given parser, could be called concurrently with different parsers.
+	 */
+	Document parse(InputStream xmlStream, DocumentBuilder documentBuilder) throws SAXException, IOException {
+		return documentBuilder.parse(xmlStream);
+	}
+
+	/**
+	 * Builds mappings from already parsed document. Element readers are not thread safe, so this should not be
+	 * called concurrently.
+	 */
+	MappingFileData build(Document document) {
+		return parser.read(document);
+	}
+
 }
@@ -22,9 +22,12 @@ import org.w3c.dom.NodeList;
 
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.dozer.classmap.LazyLoadPolicy;
 import org.dozer.classmap.MappingDirection;
 import org.dozer.classmap.MappingFileData;
 import org.dozer.classmap.RelationshipType;
+import org.dozer.classmap.ResultCachePolicy;
+import org.dozer.classmap.WritePolicy;
 import org.dozer.config.BeanContainer;
 import org.dozer.loader.DozerBuilder;
 import org.dozer.loader.MappingsSource;
@@ -51,6 +54,9 @@ public class XMLParser implements MappingsSource<Document> {
   private static final String DATE_FORMAT = "date-format";
   private static final String RELATIONSHIP_TYPE = "relationship-type";
   private static final String REMOVE_ORPHANS = "remove-orphans";
+  private static final String WRITE_POLICY = "write-policy";
+  private static final String LAZY_LOAD_POLICY = "lazy-load-policy";
+  private static final String RESULT_CACHE = "result-cache";
   private static final String MAP_NULL = "map-null";
   private static final String MAP_EMPTY_STRING = "map-empty-string";
 
@@ -162,6 +168,15 @@ public class XMLParser implements MappingsSource<Document> {
       RelationshipType relationshipType = RelationshipType.valueOf(relationshipTypeValue);
       definitionBuilder.relationshipType(relationshipType);
     }
+    if (StringUtils.isNotEmpty(getAttribute(ele, WRITE_POLICY))) {
+      definitionBuilder.writePolicy(WritePolicy.valueOf(getAttribute(ele, WRITE_POLICY)));
+    }
+    if (StringUtils.isNotEmpty(getAttribute(ele, LAZY_LOAD_POLICY))) {
+      definitionBuilder.lazyLoadPolicy(LazyLoadPolicy.valueOf(getAttribute(ele, LAZY_LOAD_POLICY)));
+    }
+    if (StringUtils.isNotEmpty(getAttribute(ele, RESULT_CACHE))) {
+      definitionBuilder.resultCachePolicy(ResultCachePolicy.valueOf(getAttribute(ele, RESULT_CACHE)));
+    }
     if (StringUtils.isNotEmpty(getAttribute(ele, WILDCARD))) {
       definitionBuilder.wildcard(Boolean.valueOf(getAttribute(ele, WILDCARD)));
     }
@@ -287,6 +302,9 @@ public class XMLParser implements MappingsSource<Document> {
     if (StringUtils.isNotEmpty(getAttribute(ele, CUSTOM_CONVERTER_PARAM_ATTRIBUTE))) {
       fieldMapBuilder.customConverterParam(getAttribute(ele, CUSTOM_CONVERTER_PARAM_ATTRIBUTE));
     }
+    if (StringUtils.isNotEmpty(getAttribute(ele, LAZY_LOAD_POLICY))) {
+      fieldMapBuilder.lazyLoadPolicy(LazyLoadPolicy.valueOf(getAttribute(ele, LAZY_LOAD_POLICY)));
+    }
 
     parseFieldMap(ele, fieldMapBuilder);
   }
@@ -417,6 +435,10 @@ public class XMLParser implements MappingsSource<Document> {
         } else if (RELATIONSHIP_TYPE.equals(element.getNodeName())) {
           RelationshipType relationshipType = RelationshipType.valueOf(nodeValue);
           configBuilder.relationshipType(relationshipType);
+        } else if (WRITE_POLICY.equals(element.getNodeName())) {
+          configBuilder.writePolicy(WritePolicy.valueOf(nodeValue));
+        } else if (LAZY_LOAD_POLICY.equals(element.getNodeName())) {
+          configBuilder.lazyLoadPolicy(LazyLoadPolicy.valueOf(nodeValue));
         } else if (BEAN_FACTORY.equals(element.getNodeName())) {
           configBuilder.beanFactory(nodeValue);
         } else if (CUSTOM_CONVERTERS_ELEMENT.equals(element.getNodeName())) {
@@ -15,9 +15,14 @@
  */
 package org.dozer.loader.xml;
 
+import java.net.URL;
+
+import javax.xml.XMLConstants;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.validation.Schema;
+import javax.xml.validation.SchemaFactory;
 
 import org.xml.sax.Attributes;
 import org.xml.sax.SAXException;
@@ -25,6 +30,9 @@ import org.xml.sax.SAXParseException;
 import org.xml.sax.helpers.DefaultHandler;
 
 import org.dozer.MappingException;
+import org.dozer.config.BeanContainer;
+import org.dozer.util.DozerClassLoader;
+import org.dozer.util.DozerConstants;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -36,26 +44,46 @@ import org.slf4j.LoggerFactory;
  */
 public final class XMLParserFactory {
 
-  private static final String SCHEMA_FEATURE = "http://apache.org/xml/features/validation/schema";
-
   private static final XMLParserFactory instance = new XMLParserFactory();
 
   public static XMLParserFactory getInstance() {
     return instance;
   }
 
+  private volatile Schema schema;
+
   private XMLParserFactory() {
   }
 
   public DocumentBuilder createParser() {
+    return createParser(true);
+  }
+
+  /**
+   * Creates new parser.
+   *
+   * @param validating true if documents should be validated against Dozer XML Schema
+   * @return new parser
+   */
+  public DocumentBuilder createParser(boolean validating) {
     try {
-      DocumentBuilderFactory factory = createDocumentBuilderFactory();
+      DocumentBuilderFactory factory = createDocumentBuilderFactory(validating);
       return createDocumentBuilder(factory);
     } catch (ParserConfigurationException e) {
       throw new MappingException("Failed to create XML Parser !", e);
     }
   }
 
+  /**
+   * Prepares parser created by this factory for parsing another document.
+   *
+   * @param docBuilder parser to reset
+   */
+  public void resetParser(DocumentBuilder docBuilder) {
+    docBuilder.reset();
+    initDocumentBuilder(docBuilder);
+  }
+
   /**
    * Create a JAXP DocumentBuilderFactory that this bean definition reader will use for parsing XML documents. Can be
    * overridden in subclasses, adding further initialization of the factory.
@@ -64,12 +92,13 @@ public final class XMLParserFactory {
    * @throws javax.xml.parsers.ParserConfigurationException
    *          if thrown by JAXP methods
    */
-  private DocumentBuilderFactory createDocumentBuilderFactory() throws ParserConfigurationException {
+  private DocumentBuilderFactory createDocumentBuilderFactory(boolean validating) throws ParserConfigurationException {
     DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-    factory.setValidating(true);
     factory.setNamespaceAware(true);
-    factory.setIgnoringElementContentWhitespace(true);
-    factory.setAttribute(SCHEMA_FEATURE, true); // For Xerces implementation
+    if (validating) {
+      factory.setSchema(getSchema());
+      factory.setIgnoringElementContentWhitespace(true);
+    }
     return factory;
   }
 
@@ -84,9 +113,34 @@ public final class XMLParserFactory {
    */
   private DocumentBuilder createDocumentBuilder(DocumentBuilderFactory factory) throws ParserConfigurationException {
     DocumentBuilder docBuilder = factory.newDocumentBuilder();
+    initDocumentBuilder(docBuilder);
+    return docBuilder;
+  }
+
+  private void initDocumentBuilder(DocumentBuilder docBuilder) {
     docBuilder.setErrorHandler(new DozerDefaultHandler());
     docBuilder.setEntityResolver(new DozerResolver());
-    return docBuilder;
+  }
+
+  /**
+   * Dozer XML Schema is compiled once and shared by all validating parsers. Schema is thread safe.
+   */
+  private Schema getSchema() {
+    Schema result = schema;
+    if (result == null) {
+      DozerClassLoader classLoader = BeanContainer.getInstance().getClassLoader();
+      URL url = classLoader.loadResource(DozerConstants.XSD_NAME);
+      if (url == null) {
+        throw new MappingException("Could not find " + DozerConstants.XSD_NAME + " in classpath");
+      }
+      try {
+        result = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI).newSchema(url);
+      } catch (SAXException e) {
+        throw new MappingException("Failed to compile " + DozerConstants.XSD_NAME, e);
+      }
+      schema = result;
+    }
+    return result;
   }
 
   private static class DozerDefaultHandler extends DefaultHandler {
@@ -15,7 +15,10 @@
  */
 package org.dozer.propertydescriptor;
 
+import org.dozer.classmap.WritePolicy;
+import org.dozer.fieldmap.FieldMap;
 import org.dozer.fieldmap.HintContainer;
+import org.dozer.util.DozerConstants;
 
 /**
  * Internal abstract property descriptor containing common property descriptor logic. Only intended for internal use.
@@ -42,4 +45,34 @@ public abstract class AbstractPropertyDescriptor implements DozerPropertyDescrip
     this.destDeepIndexHintContainer = destDeepIndexHintContainer;
   }  
 
+  /**
+   * Marks previous property value which could not be read
+   */
+  public static final Object UNREAD_VALUE = new Object();
+
+  /**
+   * Writes value as {@link #setPropertyValue(Object, Object, FieldMap)} and returns the value held before. Descriptors
+   * reading the value before write return the value they have read.
+   *
+   * @return previous value or {@link #UNREAD_VALUE} if it could not be read
+   */
+  public Object replacePropertyValue(Object bean, Object value, FieldMap fieldMap) {
+    Object previousValue = readPreviousValue(bean);
+    setPropertyValue(bean, value, fieldMap);
+    return previousValue;
+  }
+
+  protected Object readPreviousValue(Object bean) {
+    try {
+      return getPropertyValue(bean);
+    } catch (Exception e) {
+      return UNREAD_VALUE;
+    }
+  }
+
+  protected static WritePolicy getWritePolicy(FieldMap fieldMap) {
+    WritePolicy writePolicy = fieldMap != null ? fieldMap.getWritePolicy() : null;
+    return writePolicy != null ? writePolicy : DozerConstants.DEFAULT_WRITE_POLICY;
+  }
+
 }
@@ -18,6 +18,7 @@ package org.dozer.propertydescriptor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Type;
 
+import org.dozer.classmap.WritePolicy;
 import org.dozer.factory.DestBeanCreator;
 import org.dozer.fieldmap.FieldMap;
 import org.dozer.fieldmap.HintContainer;
@@ -36,14 +37,14 @@ import org.dozer.util.ReflectionUtils;
  */
 public class FieldPropertyDescriptor extends AbstractPropertyDescriptor implements DozerPropertyDescriptor {
 
-  private final DozerPropertyDescriptor[] descriptorChain;
+  private final ChainedPropertyDescriptor[] descriptorChain;
 
   public FieldPropertyDescriptor(Class<?> clazz, String fieldName, boolean isIndexed, int index,
                                  HintContainer srcDeepIndexHintContainer, HintContainer destDeepIndexHintContainer) {
     super(clazz, fieldName, isIndexed, index, srcDeepIndexHintContainer, destDeepIndexHintContainer);
 
     String[] tokens = fieldName.split(DozerConstants.DEEP_FIELD_DELIMITER_REGEXP);
-    descriptorChain = new DozerPropertyDescriptor[tokens.length];
+    descriptorChain = new ChainedPropertyDescriptor[tokens.length];
 
     Class<?> currentType = clazz;
     for (int i = 0, tokensLength = tokens.length; i < tokensLength; i++) {
@@ -76,20 +77,27 @@ public class FieldPropertyDescriptor extends AbstractPropertyDescriptor implemen
   }
 
   public void setPropertyValue(Object bean, Object value, FieldMap fieldMap) {
+    writePropertyValue(bean, value, fieldMap, false);
+  }
+
+  @Override
+  public Object replacePropertyValue(Object bean, Object value, FieldMap fieldMap) {
+    return writePropertyValue(bean, value, fieldMap, true);
+  }
+
+  private Object writePropertyValue(Object bean, Object value, FieldMap fieldMap, boolean readPrevious) {
     Object intermediateResult = bean;
-    for (int i = 0; i < descriptorChain.length; i++) {
-      DozerPropertyDescriptor descriptor = descriptorChain[i];
-      if (i != descriptorChain.length - 1) {
-        Object currentValue = descriptor.getPropertyValue(intermediateResult);
-        if (currentValue == null) {
-          currentValue = DestBeanCreator.create(descriptor.getPropertyType());
-          descriptor.setPropertyValue(intermediateResult, currentValue, fieldMap);          
-        }
-        intermediateResult = currentValue;
-      } else { // last one
-        descriptor.setPropertyValue(intermediateResult, value, fieldMap);
+    for (int i = 0; i < descriptorChain.length - 1; i++) {
+      ChainedPropertyDescriptor descriptor = descriptorChain[i];
+      Object currentValue = descriptor.getPropertyValue(intermediateResult);
+      if (currentValue == null) {
+        currentValue = DestBeanCreator.create(descriptor.getPropertyType());
+        descriptor.setPropertyValue(intermediateResult, currentValue, fieldMap);
       }
+      intermediateResult = currentValue;
     }
+    // last one
+    return descriptorChain[descriptorChain.length - 1].writePropertyValue(intermediateResult, value, fieldMap, readPrevious);
   }
 
   static class ChainedPropertyDescriptor implements DozerPropertyDescriptor {
@@ -125,13 +133,19 @@ public class FieldPropertyDescriptor extends AbstractPropertyDescriptor implemen
     }
 
     public void setPropertyValue(Object bean, Object value, FieldMap fieldMap) {
+      writePropertyValue(bean, value, fieldMap, false);
+    }
+
+    Object writePropertyValue(Object bean, Object value, FieldMap fieldMap, boolean readPrevious) {
       if (value == null && getPropertyType().isPrimitive()) {
-        return; // do nothing
+        return UNREAD_VALUE; // do nothing
       }
 
       // Check if dest value is already set and is equal to src value. If true, no need to rewrite the dest value
-      if (getPropertyValue(bean) == value) {
-        return;
+      WritePolicy writePolicy = getWritePolicy(fieldMap);
+      Object previousValue = readPrevious || writePolicy.isReadBeforeWrite() ? getPropertyValue(bean) : UNREAD_VALUE;
+      if (writePolicy.isReadBeforeWrite() && writePolicy.isSkipWrite(previousValue, value)) {
+        return previousValue;
       }
 
       try {
@@ -145,6 +159,7 @@ public class FieldPropertyDescriptor extends AbstractPropertyDescriptor implemen
       } catch (IllegalAccessException e) {
         MappingUtils.throwMappingException(e);
       }
+      return previousValue;
     }
 
     public Class<?> genericType() {
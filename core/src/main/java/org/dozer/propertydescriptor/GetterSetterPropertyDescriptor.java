@@ -21,12 +21,14 @@ import java.lang.reflect.Method;
 import java.util.Collection;
 
 import org.dozer.MappingException;
+import org.dozer.classmap.WritePolicy;
 import org.dozer.factory.BeanCreationDirective;
 import org.dozer.factory.DestBeanCreator;
 import org.dozer.fieldmap.FieldMap;
 import org.dozer.fieldmap.HintContainer;
 import org.dozer.util.BridgedMethodFinder;
 import org.dozer.util.CollectionUtils;
+import org.dozer.util.IntrospectionCache;
 import org.dozer.util.MappingUtils;
 import org.dozer.util.ReflectionUtils;
 import org.dozer.util.TypeResolver;
@@ -92,6 +94,16 @@ public abstract class GetterSetterPropertyDescriptor extends AbstractPropertyDes
   }
 
   public void setPropertyValue(Object bean, Object value, FieldMap fieldMap) {
+    writePropertyValue(bean, value, fieldMap, false);
+  }
+
+  @Override
+  public Object replacePropertyValue(Object bean, Object value, FieldMap fieldMap) {
+    return writePropertyValue(bean, value, fieldMap, true);
+  }
+
+  private Object writePropertyValue(Object bean, Object value, FieldMap fieldMap, boolean readPrevious) {
+    Object previousValue = readPrevious ? readPreviousValue(bean) : UNREAD_VALUE;
     if (MappingUtils.isDeepMapping(fieldName)) {
       writeDeepDestinationValue(bean, value, fieldMap);
     } else {
@@ -101,34 +113,39 @@ public abstract class GetterSetterPropertyDescriptor extends AbstractPropertyDes
           writeIndexedValue(bean, value);
         } else {
           // Check if dest value is already set and is equal to src value. If true, no need to rewrite the dest value
-          try {
-            if (getPropertyValue(bean) == value && !isIndexed) {
-              return;
+          WritePolicy writePolicy = getWritePolicy(fieldMap);
+          if (writePolicy.isReadBeforeWrite()) {
+            if (!readPrevious) {
+              previousValue = readPreviousValue(bean);
             }
-          } catch (Exception e) {
             // if we failed to read the value, assume we must write, and continue...
+            if (previousValue != UNREAD_VALUE && writePolicy.isSkipWrite(previousValue, value)) {
+              return previousValue;
+            }
           }
           invokeWriteMethod(bean, value);
         }
       }
     }
+    return previousValue;
   }
 
   private Object getDeepSrcFieldValue(Object srcObj) {
     // follow deep field hierarchy. If any values are null along the way, then return null
     Object parentObj = srcObj;
     Object hierarchyValue = parentObj;
-    DeepHierarchyElement[] hierarchy = getDeepFieldHierarchy(srcObj, srcDeepIndexHintContainer);
+    DeepHierarchyElement[] hierarchy = ReflectionUtils.getDeepFieldHierarchy(srcObj.getClass(), fieldName,
+        srcDeepIndexHintContainer);
     int size = hierarchy.length;
     for (int i = 0; i < size; i++) {
       DeepHierarchyElement hierarchyElement = hierarchy[i];
-      PropertyDescriptor pd = hierarchyElement.getPropDescriptor();
+      Method readMethod = getDeepReadMethod(srcObj.getClass(), hierarchy, i, srcDeepIndexHintContainer);
       // If any fields in the deep hierarchy are indexed, get actual value within the collection at the specified index
       if (hierarchyElement.getIndex() > -1) {
-        hierarchyValue = MappingUtils.getIndexedValue(ReflectionUtils.invoke(pd.getReadMethod(), hierarchyValue, null),
+        hierarchyValue = MappingUtils.getIndexedValue(ReflectionUtils.invoke(readMethod, hierarchyValue, null),
                 hierarchyElement.getIndex());
       } else {
-        hierarchyValue = ReflectionUtils.invoke(pd.getReadMethod(), parentObj, null);
+        hierarchyValue = ReflectionUtils.invoke(readMethod, parentObj, null);
       }
       parentObj = hierarchyValue;
       if (hierarchyValue == null) {
@@ -146,7 +163,8 @@ public abstract class GetterSetterPropertyDescriptor extends AbstractPropertyDes
 
   protected void writeDeepDestinationValue(Object destObj, Object destFieldValue, FieldMap fieldMap) {
     // follow deep field hierarchy. If any values are null along the way, then create a new instance
-    DeepHierarchyElement[] hierarchy = getDeepFieldHierarchy(destObj, fieldMap.getDestDeepIndexHintContainer());
+    DeepHierarchyElement[] hierarchy = ReflectionUtils.getDeepFieldHierarchy(destObj.getClass(), fieldName,
+        fieldMap.getDestDeepIndexHintContainer());
     // first, iteratate through hierarchy and instantiate any objects that are null
     Object parentObj = destObj;
     int hierarchyLength = hierarchy.length - 1;
@@ -154,7 +172,8 @@ public abstract class GetterSetterPropertyDescriptor extends AbstractPropertyDes
     for (int i = 0; i < hierarchyLength; i++) {
       DeepHierarchyElement hierarchyElement = hierarchy[i];
       PropertyDescriptor pd = hierarchyElement.getPropDescriptor();
-      Object value = ReflectionUtils.invoke(pd.getReadMethod(), parentObj, null);
+      Method readMethod = getDeepReadMethod(destObj.getClass(), hierarchy, i, fieldMap.getDestDeepIndexHintContainer());
+      Object value = ReflectionUtils.invoke(readMethod, parentObj, null);
       Class<?> clazz;
       Class<?> collectionEntryType;
       if (value == null) {
@@ -196,7 +215,7 @@ public abstract class GetterSetterPropertyDescriptor extends AbstractPropertyDes
         }
 
         ReflectionUtils.invoke(pd.getWriteMethod(), parentObj, new Object[]{o});
-        value = ReflectionUtils.invoke(pd.getReadMethod(), parentObj, null);
+        value = ReflectionUtils.invoke(readMethod, parentObj, null);
       }
 
       //Check to see if collection needs to be resized
@@ -290,8 +309,16 @@ public abstract class GetterSetterPropertyDescriptor extends AbstractPropertyDes
     }
   }
 
-  private DeepHierarchyElement[] getDeepFieldHierarchy(Object obj, HintContainer deepIndexHintContainer) {
-    return ReflectionUtils.getDeepFieldHierarchy(obj.getClass(), fieldName, deepIndexHintContainer);
+  private Method getDeepReadMethod(Class<?> rootClass, DeepHierarchyElement[] hierarchy, int level,
+                                   HintContainer deepIndexHintContainer) {
+    Method result = hierarchy[level].getPropDescriptor().getReadMethod();
+    if (result == null) {
+      // cached descriptors may lose their methods during garbage collection, rebuild the whole path once
+      IntrospectionCache.invalidate(rootClass, fieldName, deepIndexHintContainer);
+      result = ReflectionUtils.getDeepFieldHierarchy(rootClass, fieldName, deepIndexHintContainer)[level]
+          .getPropDescriptor().getReadMethod();
+    }
+    return result;
   }
 
   private void writeIndexedValue(Object destObj, Object destFieldValue) {
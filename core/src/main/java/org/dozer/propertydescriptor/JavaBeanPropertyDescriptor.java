@@ -18,8 +18,8 @@ package org.dozer.propertydescriptor;
 import java.beans.PropertyDescriptor;
 import java.lang.reflect.Method;
 
-import org.apache.commons.beanutils.PropertyUtils;
 import org.dozer.fieldmap.HintContainer;
+import org.dozer.util.IntrospectionCache;
 import org.dozer.util.MappingUtils;
 import org.dozer.util.ReflectionUtils;
 
@@ -92,18 +92,22 @@ public class JavaBeanPropertyDescriptor extends GetterSetterPropertyDescriptor {
               "Unable to determine " + (writeMethod ? "write" : "read") +
               " method for Field: '" + fieldName + "' in Class: " + clazz);
     } else {
-      refreshPropertyDescriptors();
+      refreshPropertyDescriptors(writeMethod ? destDeepIndexHintContainer : srcDeepIndexHintContainer);
       return writeMethod ? getWriteMethod() : getReadMethod();
     }
   }
 
   /**
-   * Cleans out the {@link PropertyDescriptor} cache; when suspecting that
+   * Cleans out the {@link PropertyDescriptor} cache of the classes involved; when suspecting that
    * our PropertyDescriptor has lost its references, we want it to be re-built
    * (instead of getting the same instance from the cache).
    */
-  private void refreshPropertyDescriptors() {
-    PropertyUtils.clearDescriptors();
+  private void refreshPropertyDescriptors(HintContainer deepIndexHintContainer) {
+    if (MappingUtils.isDeepMapping(fieldName)) {
+      IntrospectionCache.invalidate(clazz, fieldName, deepIndexHintContainer);
+    } else {
+      IntrospectionCache.invalidate(clazz);
+    }
     pd = null;
     propertyDescriptorsRefreshed = true;
   }
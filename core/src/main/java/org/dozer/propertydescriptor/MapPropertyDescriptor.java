@@ -17,8 +17,10 @@ package org.dozer.propertydescriptor;
 
 import java.lang.ref.SoftReference;
 import java.lang.reflect.Method;
+import java.util.Map;
 
 import org.dozer.MappingException;
+import org.dozer.classmap.WritePolicy;
 import org.dozer.fieldmap.FieldMap;
 import org.dozer.fieldmap.HintContainer;
 import org.dozer.util.MappingUtils;
@@ -45,6 +47,8 @@ public class MapPropertyDescriptor extends GetterSetterPropertyDescriptor {
   private final String setMethodName;
   private final String getMethodName;
   private final String key;
+  // java.util.Map accessed with plain get/put, no need for reflective invocation
+  private final boolean directMapAccess;
 
   private SoftReference<Method> writeMethod;
   private SoftReference<Method> readMethod;
@@ -55,6 +59,7 @@ public class MapPropertyDescriptor extends GetterSetterPropertyDescriptor {
     this.setMethodName = setMethod;
     this.getMethodName = getMethod;
     this.key = key;
+    this.directMapAccess = Map.class.isAssignableFrom(clazz) && "put".equals(setMethod) && "get".equals(getMethod);
   }
 
   @Override
@@ -82,22 +87,36 @@ public class MapPropertyDescriptor extends GetterSetterPropertyDescriptor {
 
   @Override
   public void setPropertyValue(Object bean, Object value, FieldMap fieldMap) {
+    writePropertyValue(bean, value, fieldMap, false);
+  }
+
+  @Override
+  public Object replacePropertyValue(Object bean, Object value, FieldMap fieldMap) {
+    return writePropertyValue(bean, value, fieldMap, true);
+  }
+
+  private Object writePropertyValue(Object bean, Object value, FieldMap fieldMap, boolean readPrevious) {
+    Object previousValue = readPrevious ? readPreviousValue(bean) : UNREAD_VALUE;
     if (MappingUtils.isDeepMapping(fieldName)) {
       writeDeepDestinationValue(bean, value, fieldMap);
     } else {
       if (!getPropertyType().isPrimitive() || value != null) {
         // Check if dest value is already set and is equal to src value. If true, no need to rewrite the dest value
-        try {
-          // We should map null values to create a new key in the map
-          if (value != null && getPropertyValue(bean) == value) {
-            return;
+        WritePolicy writePolicy = getWritePolicy(fieldMap);
+        // We should map null values to create a new key in the map
+        if (value != null && writePolicy.isReadBeforeWrite()) {
+          if (!readPrevious) {
+            previousValue = readPreviousValue(bean);
           }
-        } catch (Exception e) {
           // if we failed to read the value, assume we must write, and continue...
+          if (previousValue != UNREAD_VALUE && writePolicy.isSkipWrite(previousValue, value)) {
+            return previousValue;
+          }
         }
         invokeWriteMethod(bean, value);
       }
     }
+    return previousValue;
   }
 
   @Override
@@ -124,10 +143,15 @@ public class MapPropertyDescriptor extends GetterSetterPropertyDescriptor {
   }
 
   @Override
+  @SuppressWarnings("unchecked")
   protected void invokeWriteMethod(Object target, Object value) {
     if (key == null) {
       throw new MappingException("key must be specified");
     }
+    if (directMapAccess && target instanceof Map) {
+      ((Map<Object, Object>) target).put(key, value);
+      return;
+    }
     try {
       ReflectionUtils.invoke(getWriteMethod(), target, new Object[]{key, value});
     } catch (NoSuchMethodException e) {
@@ -140,6 +164,9 @@ public class MapPropertyDescriptor extends GetterSetterPropertyDescriptor {
     if (key == null) {
       throw new MappingException("key must be specified");
     }
+    if (directMapAccess && target instanceof Map) {
+      return ((Map<?, ?>) target).get(key);
+    }
     Object result = null;
     try {
       result = ReflectionUtils.invoke(getReadMethod(), target, new Object[]{key});
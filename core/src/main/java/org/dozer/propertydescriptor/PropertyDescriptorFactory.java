@@ -33,6 +33,7 @@ public class PropertyDescriptorFactory {
 
   private static final List<PropertyDescriptorCreationStrategy> pluggedDescriptorCreationStrategies =
           new ArrayList<PropertyDescriptorCreationStrategy>();
+  private static volatile int strategiesVersion;
 
   private PropertyDescriptorFactory() {
   }
@@ -94,5 +95,13 @@ public class PropertyDescriptorFactory {
 
   public static void addPluggedPropertyDescriptorCreationStrategy(PropertyDescriptorCreationStrategy strategy) {
     pluggedDescriptorCreationStrategies.add(strategy);
+    strategiesVersion++;
+  }
+
+  /**
+   * @return number incremented on every plugged strategy registration, allows callers to detect stale descriptors
+   */
+  public static int getStrategiesVersion() {
+    return strategiesVersion;
   }
 }
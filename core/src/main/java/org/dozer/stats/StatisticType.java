@@ -34,6 +34,7 @@ public enum StatisticType {
   CUSTOM_CONVERTER_SUCCESS_COUNT,
   CUSTOM_CONVERTER_TIME,
   CACHE_HIT_COUNT,
-  CACHE_MISS_COUNT
+  CACHE_MISS_COUNT,
+  LAZY_LOADS_AVOIDED_COUNT
   
 }
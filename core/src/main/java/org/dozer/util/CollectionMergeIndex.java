@@ -0,0 +1,117 @@
+/**
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.util;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.dozer.CollectionKeyExtractor;
+
+/**
+ * Internal class used to look up existing destination collection elements while merging non-cumulative
+ * collections. Only the first element registered for a given key is retained, which matches indexOf() semantics.
+ * <p>
+ * Elements are matched by a hash lookup of their keys. Without key extractor an element is its own key, so element
+ * types are expected to implement equals() and hashCode() consistently, as required by the Object contract. Elements
+ * updated in place should be passed to {@link #update(Object)} as their key may change. Not intended for direct use
+ * by application code.
+ */
+public final class CollectionMergeIndex {
+
+  private final CollectionKeyExtractor keyExtractor;
+  private final Map<Object, Object> elementsByKey;
+  private final Map<Object, Object> keysByElement;
+
+  public CollectionMergeIndex(Collection<?> elements, CollectionKeyExtractor keyExtractor) {
+    this.keyExtractor = keyExtractor;
+    int capacity = Math.max(16, (int) (elements.size() / 0.75f) + 1);
+    this.elementsByKey = new HashMap<Object, Object>(capacity);
+    this.keysByElement = new IdentityHashMap<Object, Object>(capacity);
+    for (Object element : elements) {
+      add(element);
+    }
+  }
+
+  public boolean contains(Object element) {
+    return elementsByKey.containsKey(keyOf(element));
+  }
+
+  public Object get(Object element) {
+    return elementsByKey.get(keyOf(element));
+  }
+
+  public void add(Object element) {
+    Object key = keyOf(element);
+    if (!elementsByKey.containsKey(key)) {
+      elementsByKey.put(key, element);
+      if (element != null) {
+        keysByElement.put(element, key);
+      }
+    }
+  }
+
+  /**
+   * Registers element under its current key after it has been updated in place
+   *
+   * @param element element of the index
+   */
+  public void update(Object element) {
+    if (element == null || !keysByElement.containsKey(element)) {
+      return;
+    }
+    Object previousKey = keysByElement.remove(element);
+    if (elementsByKey.get(previousKey) == element) {
+      elementsByKey.remove(previousKey);
+    }
+    add(element);
+  }
+
+  private Object keyOf(Object element) {
+    if (element == null) {
+      return null;
+    }
+    Object key = keyExtractor != null ? keyExtractor.getKey(element) : null;
+    return key != null ? key : new ElementKey(element);
+  }
+
+  /**
+   * Element used as its own key. Hash code is taken once, so the key could still be removed after the element has
+   * been updated in place.
+   */
+  private static final class ElementKey {
+
+    private final Object element;
+    private final int hashCode;
+
+    ElementKey(Object element) {
+      this.element = element;
+      this.hashCode = element.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return this == o || o instanceof ElementKey && element.equals(((ElementKey) o).element);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+
+}
@@ -19,7 +19,9 @@ import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
@@ -66,8 +68,48 @@ public final class CollectionUtils {
   public static Object getValueFromCollection(Object collection, int index) {
     if (isArray(collection.getClass())) {
       return Array.get(collection, index);
+    } else if (collection instanceof List) {
+      return ((List<?>) collection).get(index);
     } else {
-      return ((Collection<?>) collection).toArray()[index];
+      Iterator<?> iterator = ((Collection<?>) collection).iterator();
+      for (int i = 0; i < index; i++) {
+        iterator.next();
+      }
+      return iterator.next();
+    }
+  }
+
+  /**
+   * Single pass iterator over elements of an array, collection or iterator, without copying them.
+   *
+   * @param value array, {@link Collection} or {@link Iterator}
+   * @return iterator over elements
+   */
+  public static Iterator<?> iterator(final Object value) {
+    if (value instanceof Iterator) {
+      return (Iterator<?>) value;
+    } else if (isArray(value.getClass())) {
+      return new Iterator<Object>() {
+        private final int length = Array.getLength(value);
+        private int index;
+
+        public boolean hasNext() {
+          return index < length;
+        }
+
+        public Object next() {
+          if (index >= length) {
+            throw new NoSuchElementException();
+          }
+          return Array.get(value, index++);
+        }
+
+        public void remove() {
+          throw new UnsupportedOperationException();
+        }
+      };
+    } else {
+      return ((Collection<?>) value).iterator();
     }
   }
 
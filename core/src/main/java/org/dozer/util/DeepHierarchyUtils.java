@@ -48,6 +48,28 @@ public class DeepHierarchyUtils {
     return hierarchyValue;
   }
 
+  /**
+   * Follows deep field hierarchy up to the parent of the field and returns the first value on the way which is not
+   * loaded yet, see {@link MappingUtils#isUninitialized(Object)}.
+   *
+   * @return uninitialized parent or null if all parents are initialized or one of them is null
+   */
+  public static Object getUninitializedParent(Object srcObj, String fieldName, HintContainer srcDeepIndexHintContainer) {
+    Object parentObj = srcObj;
+    DozerPropertyDescriptor[] hierarchy = getDeepFieldHierarchy(srcObj.getClass(), fieldName, srcDeepIndexHintContainer);
+
+    for (int i = 0; i < hierarchy.length - 1; i++) {
+      parentObj = hierarchy[i].getPropertyValue(parentObj);
+      if (parentObj == null) {
+        return null;
+      }
+      if (MappingUtils.isUninitialized(parentObj)) {
+        return parentObj;
+      }
+    }
+    return null;
+  }
+
   public static Class<?> getDeepFieldType(Class<?> clazz, String fieldName, HintContainer deepIndexHintContainer) {
     // follow deep field hierarchy. If any values are null along the way, then return null
     DozerPropertyDescriptor[] hierarchy = getDeepFieldHierarchy(clazz, fieldName, deepIndexHintContainer);
@@ -61,6 +83,10 @@ public class DeepHierarchyUtils {
   }
 
   private static DozerPropertyDescriptor[] getDeepFieldHierarchy(Class<?> parentClass, String field, HintContainer deepIndexHintContainer) {
+    return IntrospectionCache.get(parentClass).getDeepFieldDescriptors(field, deepIndexHintContainer);
+  }
+
+  static DozerPropertyDescriptor[] compileDeepFieldHierarchy(Class<?> parentClass, String field, HintContainer deepIndexHintContainer) {
     if (!MappingUtils.isDeepMapping(field)) {
       MappingUtils.throwMappingException("Field does not contain deep field delimiter");
     }
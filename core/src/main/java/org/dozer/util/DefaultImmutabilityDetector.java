@@ -0,0 +1,68 @@
+/**
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.util;
+
+import java.io.File;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.InetAddress;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Currency;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import org.dozer.ImmutabilityDetector;
+
+/**
+ * Internal class that recognizes well known immutable JDK types. Optional is not included as it may hold a mutable
+ * value, neither is URL as its equals() resolves host names. Only intended for internal use.
+ */
+public final class DefaultImmutabilityDetector implements ImmutabilityDetector {
+
+  private static final String JAVA_TIME_PACKAGE = "java.time";
+
+  private static final Set<Class<?>> IMMUTABLE_TYPES = new HashSet<Class<?>>(Arrays.<Class<?>>asList(
+      BigDecimal.class, BigInteger.class, Currency.class, Locale.class, URI.class, File.class, UUID.class,
+      Pattern.class, OptionalInt.class, OptionalLong.class, OptionalDouble.class, Class.class));
+
+  private static final Set<Class<?>> IMMUTABLE_SUPER_TYPES = new HashSet<Class<?>>(Arrays.<Class<?>>asList(
+      InetAddress.class, Charset.class));
+
+  public boolean isImmutable(Class<?> type) {
+    if (IMMUTABLE_TYPES.contains(type)) {
+      return true;
+    }
+    // value types, zones and clocks of java.time are all immutable and thread-safe
+    if (type.getPackage() != null && JAVA_TIME_PACKAGE.equals(type.getPackage().getName())) {
+      return true;
+    }
+    for (Class<?> superType : IMMUTABLE_SUPER_TYPES) {
+      if (superType.isAssignableFrom(type)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+}
@@ -15,7 +15,10 @@
  */
 package org.dozer.util;
 
+import org.dozer.classmap.LazyLoadPolicy;
 import org.dozer.classmap.RelationshipType;
+import org.dozer.classmap.ResultCachePolicy;
+import org.dozer.classmap.WritePolicy;
 import org.dozer.factory.XMLBeanFactory;
 import org.dozer.fieldmap.DozerField;
 
@@ -42,7 +45,13 @@ public final class DozerConstants {
   public static final boolean DEFAULT_TRIM_STRINGS_POLICY = false;
   public static final int DEFAULT_CONVERTER_BY_DEST_TYPE_CACHE_MAX_SIZE = 10000;
   public static final int DEFAULT_SUPER_TYPE_CHECK_CACHE_MAX_SIZE = 10000;
+  public static final int DEFAULT_MAPPING_RESULT_CACHE_MAX_SIZE = 10000;
+  public static final int DEFAULT_FIELD_MASK_SELECTION_CACHE_MAX_SIZE = 10000;
   public static final RelationshipType DEFAULT_RELATIONSHIP_TYPE_POLICY = RelationshipType.CUMULATIVE;
+  public static final WritePolicy DEFAULT_WRITE_POLICY = WritePolicy.SKIP_IF_SAME_REFERENCE;
+  public static final LazyLoadPolicy DEFAULT_LAZY_LOAD_POLICY = LazyLoadPolicy.INITIALIZE;
+  public static final String IDENTIFIER_PROPERTY = "id";
+  public static final ResultCachePolicy DEFAULT_RESULT_CACHE_POLICY = ResultCachePolicy.NONE;
   public static final String DEFAULT_CONFIG_FILE = "dozer.properties";
   public static final String DEFAULT_MAPPING_FILE = "dozerBeanMapping.xml";
   public static final boolean DEFAULT_AUTOREGISTER_JMX_BEANS = true;
@@ -15,17 +15,18 @@
  */
 package org.dozer.util;
 
+import org.hibernate.Hibernate;
 import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.proxy.LazyInitializer;
 
 /**
  *
  * Hibernate specific implementation. Checks for HibernateProxy interface and uses Hibernate internal API
- * to unwrap proxies. 
+ * to unwrap proxies and to recognize proxies and collections which have not been initialized yet.
  *
  * @author Dmitry Buzdin
  */
-public class HibernateProxyResolver extends DefaultProxyResolver {
+public class HibernateProxyResolver extends DefaultProxyResolver implements LazyLoadingResolver {
 
   @Override
   public boolean isProxy(Class<?> clazz) {
@@ -43,4 +44,15 @@ public class HibernateProxyResolver extends DefaultProxyResolver {
     return object;
   }
 
+  public boolean isInitialized(Object object) {
+    return Hibernate.isInitialized(object);
+  }
+
+  public Object getIdentifier(Object object) {
+    if (object instanceof HibernateProxy) {
+      return ((HibernateProxy) object).getHibernateLazyInitializer().getIdentifier();
+    }
+    return null;
+  }
+
 }
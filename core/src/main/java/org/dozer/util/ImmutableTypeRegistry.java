@@ -0,0 +1,57 @@
+/**
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.dozer.ImmutabilityDetector;
+
+/**
+ * Internal class that combines built-in and custom immutability detectors and caches their decision per type.
+ * Only intended for internal use.
+ */
+public final class ImmutableTypeRegistry {
+
+  private final List<ImmutabilityDetector> detectors = new ArrayList<ImmutabilityDetector>();
+  private final ConcurrentMap<Class<?>, Boolean> immutableTypes = new ConcurrentHashMap<Class<?>, Boolean>();
+
+  public ImmutableTypeRegistry(List<? extends ImmutabilityDetector> customDetectors) {
+    detectors.add(new DefaultImmutabilityDetector());
+    detectors.addAll(customDetectors);
+  }
+
+  public boolean isImmutable(Class<?> type) {
+    Boolean result = immutableTypes.get(type);
+    if (result == null) {
+      result = detect(type);
+      immutableTypes.putIfAbsent(type, result);
+    }
+    return result;
+  }
+
+  private boolean detect(Class<?> type) {
+    for (ImmutabilityDetector detector : detectors) {
+      if (detector.isImmutable(type)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+}
@@ -0,0 +1,301 @@
+/**
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.util;
+
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.commons.beanutils.BeanUtilsBean;
+import org.apache.commons.beanutils.PropertyUtils;
+import org.apache.commons.beanutils.PropertyUtilsBean;
+import org.dozer.fieldmap.HintContainer;
+import org.dozer.propertydescriptor.DeepHierarchyElement;
+import org.dozer.propertydescriptor.DozerPropertyDescriptor;
+import org.dozer.propertydescriptor.PropertyDescriptorFactory;
+
+/**
+ * Internal per class cache of introspection results. Holds property descriptors, resolved generic descriptors,
+ * non-standard setters, generic collection types and resolved deep field paths of each introspected class.
+ * <p>
+ * Entries could be invalidated for a single class. Unlike {@link PropertyUtils#clearDescriptors()} this does not
+ * affect introspection caches of other classes or other libraries. Only intended for internal use.
+ */
+public final class IntrospectionCache {
+
+  // ConcurrentHashMap does not allow null values, so misses are recorded with a marker
+  private static final Object NOT_FOUND = new Object();
+
+  private static final ClassValue<ClassIntrospection> CLASS_INTROSPECTIONS = new ClassValue<ClassIntrospection>() {
+    @Override
+    protected ClassIntrospection computeValue(Class<?> type) {
+      return new ClassIntrospection(type);
+    }
+  };
+
+  // versions of introspections consulted by the deep field path being compiled on the current thread
+  private static final ThreadLocal<Map<ClassIntrospection, Integer>> PATH_DEPENDENCIES =
+      new ThreadLocal<Map<ClassIntrospection, Integer>>();
+
+  private IntrospectionCache() {
+  }
+
+  static ClassIntrospection get(Class<?> type) {
+    return CLASS_INTROSPECTIONS.get(type);
+  }
+
+  /**
+   * Discards cached introspection results of given class, so that properties are introspected from scratch
+   * on next access. Cached deep field paths of any class passing through given class are discarded as well.
+   *
+   * @param type class to invalidate
+   */
+  public static void invalidate(Class<?> type) {
+    CLASS_INTROSPECTIONS.get(type).refresh();
+  }
+
+  /**
+   * Discards cached introspection results of given class and of all classes along given deep field path. Classes are
+   * invalidated from the root down, each path level is resolved from descriptors refreshed by the previous step.
+   *
+   * @param type                   root class of the path
+   * @param field                  deep field path
+   * @param deepIndexHintContainer hints of indexed path elements
+   */
+  public static void invalidate(Class<?> type, String field, HintContainer deepIndexHintContainer) {
+    invalidate(type);
+    Set<Class<?>> invalidated = new HashSet<Class<?>>();
+    invalidated.add(type);
+    for (int level = 0; ; level++) {
+      DeepHierarchyElement[] hierarchy = ReflectionUtils.compileDeepFieldHierarchy(type, field, deepIndexHintContainer);
+      if (level >= hierarchy.length) {
+        break;
+      }
+      Class<?> elementType = hierarchy[level].getPropDescriptor().getPropertyType();
+      if (invalidated.add(elementType)) {
+        invalidate(elementType);
+      }
+    }
+  }
+
+  static final class ClassIntrospection {
+
+    private final Class<?> type;
+    // replaced as a whole on refresh, so lookups never mix results of old and new descriptors
+    private volatile Descriptors descriptors;
+    // bumped by every refresh, after descriptors are replaced
+    private volatile int version;
+    private final ConcurrentMap<DeepFieldKey, DeepPath> hierarchies = new ConcurrentHashMap<DeepFieldKey, DeepPath>();
+    private final ConcurrentMap<DeepFieldKey, DeepPath> deepDescriptors = new ConcurrentHashMap<DeepFieldKey, DeepPath>();
+
+    ClassIntrospection(Class<?> type) {
+      this.type = type;
+      this.descriptors = new Descriptors(type, BeanUtilsBean.getInstance().getPropertyUtils());
+    }
+
+    PropertyDescriptor[] getPropertyDescriptors() {
+      return descriptors.propertyDescriptors;
+    }
+
+    PropertyDescriptor findPropertyDescriptor(String fieldName) {
+      recordPathDependency(this);
+      Descriptors current = descriptors;
+      Object result = current.propertyDescriptorsByName.get(fieldName);
+      if (result == null) {
+        result = ReflectionUtils.findPropertyDescriptor(type, current.propertyDescriptors, fieldName);
+        current.propertyDescriptorsByName.putIfAbsent(fieldName, result == null ? NOT_FOUND : result);
+      }
+      return result == NOT_FOUND ? null : (PropertyDescriptor) result;
+    }
+
+    Method getNonStandardSetter(String fieldName) {
+      Descriptors current = descriptors;
+      Object result = current.nonStandardSetters.get(fieldName);
+      if (result == null) {
+        result = ReflectionUtils.findNonStandardSetter(type, fieldName);
+        current.nonStandardSetters.putIfAbsent(fieldName, result == null ? NOT_FOUND : result);
+      }
+      return result == NOT_FOUND ? null : (Method) result;
+    }
+
+    Class<?> determineGenericsType(PropertyDescriptor propDescriptor) {
+      recordPathDependency(this);
+      Descriptors current = descriptors;
+      Object result = current.genericTypes.get(propDescriptor);
+      if (result == null) {
+        result = ReflectionUtils.resolveGenericsType(type, propDescriptor);
+        current.genericTypes.putIfAbsent(propDescriptor, result == null ? NOT_FOUND : result);
+      }
+      return result == NOT_FOUND ? null : (Class<?>) result;
+    }
+
+    DeepHierarchyElement[] getDeepFieldHierarchy(String field, HintContainer deepIndexHintContainer) {
+      DeepFieldKey key = new DeepFieldKey(field, deepIndexHintContainer, 0);
+      DeepPath result = hierarchies.get(key);
+      if (result == null || !result.isCurrent()) {
+        Map<ClassIntrospection, Integer> previousDependencies = startPathCompilation();
+        try {
+          result = new DeepPath(ReflectionUtils.compileDeepFieldHierarchy(type, field, deepIndexHintContainer),
+              PATH_DEPENDENCIES.get());
+        } finally {
+          finishPathCompilation(previousDependencies);
+        }
+        hierarchies.put(key, result);
+      }
+      return (DeepHierarchyElement[]) result.value;
+    }
+
+    DozerPropertyDescriptor[] getDeepFieldDescriptors(String field, HintContainer deepIndexHintContainer) {
+      // descriptors depend on plugged creation strategies, so registering one makes older entries unreachable
+      DeepFieldKey key = new DeepFieldKey(field, deepIndexHintContainer, PropertyDescriptorFactory.getStrategiesVersion());
+      DeepPath result = deepDescriptors.get(key);
+      if (result == null || !result.isCurrent()) {
+        Map<ClassIntrospection, Integer> previousDependencies = startPathCompilation();
+        try {
+          result = new DeepPath(DeepHierarchyUtils.compileDeepFieldHierarchy(type, field, deepIndexHintContainer),
+              PATH_DEPENDENCIES.get());
+        } finally {
+          finishPathCompilation(previousDependencies);
+        }
+        deepDescriptors.put(key, result);
+      }
+      return (DozerPropertyDescriptor[]) result.value;
+    }
+
+    void refresh() {
+      Introspector.flushFromCaches(type);
+      // private beanutils instance, as the shared one could only be cleared for all classes at once
+      descriptors = new Descriptors(type, new PropertyUtilsBean());
+      version++;
+    }
+
+  }
+
+  private static final class Descriptors {
+
+    private final PropertyDescriptor[] propertyDescriptors;
+    private final ConcurrentMap<String, Object> propertyDescriptorsByName = new ConcurrentHashMap<String, Object>();
+    private final ConcurrentMap<String, Object> nonStandardSetters = new ConcurrentHashMap<String, Object>();
+    private final ConcurrentMap<PropertyDescriptor, Object> genericTypes = new ConcurrentHashMap<PropertyDescriptor, Object>();
+
+    Descriptors(Class<?> type, PropertyUtilsBean propertyUtils) {
+      this.propertyDescriptors = ReflectionUtils.introspectPropertyDescriptors(type, propertyUtils);
+    }
+
+  }
+
+  /**
+   * Records versions of introspections consulted by the deep field path compiled on the current thread, the first
+   * version seen is kept, so that refreshes made during compilation make the path outdated
+   */
+  private static void recordPathDependency(ClassIntrospection introspection) {
+    Map<ClassIntrospection, Integer> dependencies = PATH_DEPENDENCIES.get();
+    if (dependencies != null && !dependencies.containsKey(introspection)) {
+      dependencies.put(introspection, introspection.version);
+    }
+  }
+
+  private static Map<ClassIntrospection, Integer> startPathCompilation() {
+    Map<ClassIntrospection, Integer> previousDependencies = PATH_DEPENDENCIES.get();
+    PATH_DEPENDENCIES.set(new IdentityHashMap<ClassIntrospection, Integer>());
+    return previousDependencies;
+  }
+
+  private static void finishPathCompilation(Map<ClassIntrospection, Integer> previousDependencies) {
+    Map<ClassIntrospection, Integer> dependencies = PATH_DEPENDENCIES.get();
+    if (previousDependencies != null) {
+      // paths compiled within another path are its dependencies as well
+      for (Map.Entry<ClassIntrospection, Integer> dependency : dependencies.entrySet()) {
+        if (!previousDependencies.containsKey(dependency.getKey())) {
+          previousDependencies.put(dependency.getKey(), dependency.getValue());
+        }
+      }
+      PATH_DEPENDENCIES.set(previousDependencies);
+    } else {
+      PATH_DEPENDENCIES.remove();
+    }
+  }
+
+  /**
+   * Compiled deep field path along with versions of introspections it was resolved from
+   */
+  private static final class DeepPath {
+
+    private final Object value;
+    private final ClassIntrospection[] dependencies;
+    private final int[] versions;
+
+    DeepPath(Object value, Map<ClassIntrospection, Integer> dependencies) {
+      this.value = value;
+      this.dependencies = dependencies.keySet().toArray(new ClassIntrospection[dependencies.size()]);
+      this.versions = new int[this.dependencies.length];
+      for (int i = 0; i < versions.length; i++) {
+        versions[i] = dependencies.get(this.dependencies[i]);
+      }
+    }
+
+    boolean isCurrent() {
+      for (int i = 0; i < dependencies.length; i++) {
+        if (dependencies[i].version != versions[i]) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+  }
+
+  private static final class DeepFieldKey {
+
+    private final String field;
+    private final String hintName;
+    private final int version;
+
+    DeepFieldKey(String field, HintContainer hintContainer, int version) {
+      this.field = field;
+      this.hintName = hintContainer == null ? null : hintContainer.getHintName();
+      this.version = version;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof DeepFieldKey)) {
+        return false;
+      }
+      DeepFieldKey other = (DeepFieldKey) o;
+      return version == other.version && field.equals(other.field)
+          && (hintName == null ? other.hintName == null : hintName.equals(other.hintName));
+    }
+
+    @Override
+    public int hashCode() {
+      int result = field.hashCode();
+      result = 31 * result + (hintName == null ? 0 : hintName.hashCode());
+      return 31 * result + version;
+    }
+
+  }
+
+}
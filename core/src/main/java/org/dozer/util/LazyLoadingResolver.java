@@ -0,0 +1,37 @@
+/**
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.util;
+
+/**
+ * Optional extension of {@link DozerProxyResolver} for persistence frameworks which load associations lazily.
+ * Lets the mapper recognize values which have not been loaded yet, so that they can be mapped according to
+ * the configured {@link org.dozer.classmap.LazyLoadPolicy} instead of being initialized.
+ */
+public interface LazyLoadingResolver {
+
+  /**
+   * @param object proxy or collection read from the source object, never null
+   * @return false if accessing the object would trigger loading it
+   */
+  boolean isInitialized(Object object);
+
+  /**
+   * @param object uninitialized proxy
+   * @return identifier of the proxied entity or null if it is not known without loading the object
+   */
+  Object getIdentifier(Object object);
+
+}
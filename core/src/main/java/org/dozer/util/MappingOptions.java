@@ -56,4 +56,9 @@ public @interface MappingOptions {
    * The date format for the class mapping.
    */
   String dateFormat() default "";
+
+  /**
+   * The result cache policy for the class mapping: none, share or copy.
+   */
+  String resultCache() default "";
 }
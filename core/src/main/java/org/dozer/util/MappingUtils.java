@@ -19,12 +19,14 @@ import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.ConcurrentModificationException;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.RandomAccess;
 import java.util.Set;
 
 import org.apache.commons.lang3.StringUtils;
@@ -156,6 +158,7 @@ public final class MappingUtils {
     reversed.setMapId(source.getMapId());
     reversed.setRelationshipType(source.getRelationshipType());
     reversed.setRemoveOrphans(source.isRemoveOrphans());
+    reversed.setLazyLoadPolicy(source.getDeclaredLazyLoadPolicy());
     reversed.setSrcHintContainer(source.getDestHintContainer());
     reversed.setDestHintContainer(source.getSrcHintContainer());
     reversed.setSrcDeepIndexHintContainer(source.getDestDeepIndexHintContainer());
@@ -177,6 +180,8 @@ public final class MappingUtils {
     destination.setTrimStrings(source.isTrimStrings());
     destination.setDateFormat(source.getDateFormat());
     destination.setRelationshipType(source.getRelationshipType());
+    destination.setWritePolicy(source.getWritePolicy());
+    destination.setLazyLoadPolicy(source.getDeclaredLazyLoadPolicy());
     destination.setStopOnErrors(source.isStopOnErrors());
     destination.setAllowedExceptions(source.getAllowedExceptions());
     destination.setSrcClassCreateMethod(source.getDestClassCreateMethod());
@@ -187,25 +192,86 @@ public final class MappingUtils {
   }
 
   public static Object getIndexedValue(Object collection, int index) {
+    return getIndexedValue(collection, index, null);
+  }
+
+  /**
+   * Same as {@link #getIndexedValue(Object, int)}, but continues iteration of collections without random access from
+   * the position remembered by the cursor when the same collection is read again at a higher index.
+   *
+   * @param collection array or collection
+   * @param index index of the element
+   * @param cursor cursor of the current mapping call or null to iterate from the start
+   * @return element at the index or null if there is no such element
+   */
+  public static Object getIndexedValue(Object collection, int index, IndexedCursor cursor) {
     Object result = null;
     if (collection instanceof Object[]) {
       Object[] x = (Object[]) collection;
       if (index < x.length) {
         return x[index];
       }
+    } else if (collection instanceof List && collection instanceof RandomAccess) {
+      List<?> x = (List<?>) collection;
+      if (index < x.size()) {
+        result = x.get(index);
+      }
     } else if (collection instanceof Collection) {
       Collection<?> x = (Collection<?>) collection;
       if (index < x.size()) {
-        Iterator<?> iter = x.iterator();
-        for (int i = 0; i < index; i++) {
-          iter.next();
-        }
-        result = iter.next();
+        result = (cursor != null ? cursor : new IndexedCursor()).get(x, index);
       }
     }
     return result;
   }
 
+  /**
+   * Remembers position of the last indexed read on a collection without random access, so reading the next indexes
+   * of the same collection continues from there instead of iterating from the start. Not thread safe, an instance
+   * is meant to be owned by a single mapping call and dropped with it.
+   */
+  public static final class IndexedCursor {
+
+    private Collection<?> collection;
+    private int size;
+    private Iterator<?> iterator;
+    private int position;
+
+    Object get(Collection<?> collection, int index) {
+      if (this.collection != collection || size != collection.size() || position >= index) {
+        reset(collection);
+      }
+      Object result;
+      try {
+        result = moveTo(index);
+      } catch (ConcurrentModificationException e) {
+        reset(collection);
+        result = moveTo(index);
+      }
+      // Do not hold on collection once its last element was read
+      if (position >= size - 1) {
+        reset(null);
+      }
+      return result;
+    }
+
+    private void reset(Collection<?> collection) {
+      this.collection = collection;
+      this.size = collection != null ? collection.size() : 0;
+      this.iterator = collection != null ? collection.iterator() : null;
+      this.position = -1;
+    }
+
+    private Object moveTo(int index) {
+      Object result = null;
+      while (position < index) {
+        result = iterator.next();
+        position++;
+      }
+      return result;
+    }
+  }
+
   public static void applyGlobalCopyByReference(Configuration globalConfig, FieldMap fieldMap, ClassMap classMap) {
     CopyByReferenceContainer copyByReferenceContainer = globalConfig.getCopyByReferences();    
     String destFieldTypeName = null;
@@ -242,6 +308,19 @@ public final class MappingUtils {
     return proxyResolver.isProxy(clazz);
   }
 
+  public static boolean isUninitialized(Object object) {
+    BeanContainer container = BeanContainer.getInstance();
+    DozerProxyResolver proxyResolver = container.getProxyResolver();
+    return object != null && proxyResolver instanceof LazyLoadingResolver
+        && !((LazyLoadingResolver) proxyResolver).isInitialized(object);
+  }
+
+  public static Object getUninitializedIdentifier(Object object) {
+    BeanContainer container = BeanContainer.getInstance();
+    DozerProxyResolver proxyResolver = container.getProxyResolver();
+    return proxyResolver instanceof LazyLoadingResolver ? ((LazyLoadingResolver) proxyResolver).getIdentifier(object) : null;
+  }
+
   public static Object prepareIndexedCollection(Class<?> collectionType, Object existingCollection, Object collectionEntry,
       int index) {
     Object result = null;
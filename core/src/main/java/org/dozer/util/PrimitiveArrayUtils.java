@@ -0,0 +1,365 @@
+/**
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.util;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.apache.commons.lang3.ClassUtils;
+
+/**
+ * Internal class that converts numeric primitive arrays without boxing individual elements. Conversions follow the
+ * semantics of the default primitive converters: widening is always exact, while narrowing is only performed when
+ * every value fits into the destination type. Not intended for direct use by application code.
+ */
+public final class PrimitiveArrayUtils {
+
+  private PrimitiveArrayUtils() {}
+
+  public static boolean isNumericPrimitive(Class<?> aClass) {
+    return aClass == byte.class || aClass == short.class || aClass == int.class
+        || aClass == long.class || aClass == float.class || aClass == double.class;
+  }
+
+  /**
+   * Copies all elements of the source array into the destination array starting at the given position, converting
+   * each of them to the destination component type.
+   *
+   * @param src     numeric primitive array
+   * @param dest    numeric primitive array large enough to hold all source elements
+   * @param destPos start position in destination array
+   * @return false if arrays are not numeric primitive arrays or if a value does not fit into the destination type,
+   * contents of destination array are undefined in the latter case
+   */
+  public static boolean copy(Object src, Object dest, int destPos) {
+    Class<?> destType = dest.getClass().getComponentType();
+    if (destType == src.getClass().getComponentType()) {
+      System.arraycopy(src, 0, dest, destPos, Array.getLength(src));
+      return true;
+    } else if (destType == byte.class) {
+      return copyToByteArray(src, (byte[]) dest, destPos);
+    } else if (destType == short.class) {
+      return copyToShortArray(src, (short[]) dest, destPos);
+    } else if (destType == int.class) {
+      return copyToIntArray(src, (int[]) dest, destPos);
+    } else if (destType == long.class) {
+      return copyToLongArray(src, (long[]) dest, destPos);
+    } else if (destType == float.class) {
+      return copyToFloatArray(src, (float[]) dest, destPos);
+    } else if (destType == double.class) {
+      return copyToDoubleArray(src, (double[]) dest, destPos);
+    }
+    return false;
+  }
+
+  /**
+   * Converts numeric primitive array into a list of wrappers of the requested type, boxing each element once.
+   *
+   * @param src         numeric primitive array
+   * @param wrapperType wrapper type of resulting list elements
+   * @return list of wrappers or null if conversion is not possible without a converter
+   */
+  public static List<Object> toWrapperList(Object src, Class<?> wrapperType) {
+    Class<?> primitiveType = ClassUtils.wrapperToPrimitive(wrapperType);
+    if (primitiveType == null || !isNumericPrimitive(primitiveType)
+        || !isNumericPrimitive(src.getClass().getComponentType())) {
+      return null;
+    }
+    int length = Array.getLength(src);
+    Object converted = src;
+    if (primitiveType != src.getClass().getComponentType()) {
+      converted = Array.newInstance(primitiveType, length);
+      if (!copy(src, converted, 0)) {
+        return null;
+      }
+    }
+    List<Object> result = new ArrayList<Object>(length);
+    for (int i = 0; i < length; i++) {
+      result.add(Array.get(converted, i));
+    }
+    return result;
+  }
+
+  /**
+   * Converts collection of wrappers into numeric primitive array, unboxing each element without conversion.
+   *
+   * @param src           collection of wrappers
+   * @param primitiveType numeric primitive type of resulting array elements
+   * @return primitive array or null if an element is not a wrapper of the requested primitive type
+   */
+  public static Object fromWrappers(Collection<?> src, Class<?> primitiveType) {
+    if (!isNumericPrimitive(primitiveType)) {
+      return null;
+    }
+    Class<?> wrapperType = ClassUtils.primitiveToWrapper(primitiveType);
+    Object result = Array.newInstance(primitiveType, src.size());
+    int i = 0;
+    for (Object element : src) {
+      if (element == null || element.getClass() != wrapperType) {
+        return null;
+      }
+      Array.set(result, i++, element);
+    }
+    return result;
+  }
+
+  private static boolean copyToByteArray(Object src, byte[] dest, int destPos) {
+    if (src instanceof short[]) {
+      short[] values = (short[]) src;
+      for (int i = 0; i < values.length; i++) {
+        long value = values[i];
+        if (value < Byte.MIN_VALUE || value > Byte.MAX_VALUE) {
+          return false;
+        }
+        dest[destPos + i] = (byte) value;
+      }
+    } else if (src instanceof int[]) {
+      int[] values = (int[]) src;
+      for (int i = 0; i < values.length; i++) {
+        long value = values[i];
+        if (value < Byte.MIN_VALUE || value > Byte.MAX_VALUE) {
+          return false;
+        }
+        dest[destPos + i] = (byte) value;
+      }
+    } else if (src instanceof long[]) {
+      long[] values = (long[]) src;
+      for (int i = 0; i < values.length; i++) {
+        long value = values[i];
+        if (value < Byte.MIN_VALUE || value > Byte.MAX_VALUE) {
+          return false;
+        }
+        dest[destPos + i] = (byte) value;
+      }
+    } else if (src instanceof float[]) {
+      float[] values = (float[]) src;
+      for (int i = 0; i < values.length; i++) {
+        long value = (long) values[i];
+        if (value < Byte.MIN_VALUE || value > Byte.MAX_VALUE) {
+          return false;
+        }
+        dest[destPos + i] = (byte) value;
+      }
+    } else if (src instanceof double[]) {
+      double[] values = (double[]) src;
+      for (int i = 0; i < values.length; i++) {
+        long value = (long) values[i];
+        if (value < Byte.MIN_VALUE || value > Byte.MAX_VALUE) {
+          return false;
+        }
+        dest[destPos + i] = (byte) value;
+      }
+    } else {
+      return false;
+    }
+    return true;
+  }
+
+  private static boolean copyToShortArray(Object src, short[] dest, int destPos) {
+    if (src instanceof byte[]) {
+      byte[] values = (byte[]) src;
+      for (int i = 0; i < values.length; i++) {
+        dest[destPos + i] = values[i];
+      }
+    } else if (src instanceof int[]) {
+      int[] values = (int[]) src;
+      for (int i = 0; i < values.length; i++) {
+        long value = values[i];
+        if (value < Short.MIN_VALUE || value > Short.MAX_VALUE) {
+          return false;
+        }
+        dest[destPos + i] = (short) value;
+      }
+    } else if (src instanceof long[]) {
+      long[] values = (long[]) src;
+      for (int i = 0; i < values.length; i++) {
+        long value = values[i];
+        if (value < Short.MIN_VALUE || value > Short.MAX_VALUE) {
+          return false;
+        }
+        dest[destPos + i] = (short) value;
+      }
+    } else if (src instanceof float[]) {
+      float[] values = (float[]) src;
+      for (int i = 0; i < values.length; i++) {
+        long value = (long) values[i];
+        if (value < Short.MIN_VALUE || value > Short.MAX_VALUE) {
+          return false;
+        }
+        dest[destPos + i] = (short) value;
+      }
+    } else if (src instanceof double[]) {
+      double[] values = (double[]) src;
+      for (int i = 0; i < values.length; i++) {
+        long value = (long) values[i];
+        if (value < Short.MIN_VALUE || value > Short.MAX_VALUE) {
+          return false;
+        }
+        dest[destPos + i] = (short) value;
+      }
+    } else {
+      return false;
+    }
+    return true;
+  }
+
+  private static boolean copyToIntArray(Object src, int[] dest, int destPos) {
+    if (src instanceof byte[]) {
+      byte[] values = (byte[]) src;
+      for (int i = 0; i < values.length; i++) {
+        dest[destPos + i] = values[i];
+      }
+    } else if (src instanceof short[]) {
+      short[] values = (short[]) src;
+      for (int i = 0; i < values.length; i++) {
+        dest[destPos + i] = values[i];
+      }
+    } else if (src instanceof long[]) {
+      long[] values = (long[]) src;
+      for (int i = 0; i < values.length; i++) {
+        long value = values[i];
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+          return false;
+        }
+        dest[destPos + i] = (int) value;
+      }
+    } else if (src instanceof float[]) {
+      float[] values = (float[]) src;
+      for (int i = 0; i < values.length; i++) {
+        long value = (long) values[i];
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+          return false;
+        }
+        dest[destPos + i] = (int) value;
+      }
+    } else if (src instanceof double[]) {
+      double[] values = (double[]) src;
+      for (int i = 0; i < values.length; i++) {
+        long value = (long) values[i];
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+          return false;
+        }
+        dest[destPos + i] = (int) value;
+      }
+    } else {
+      return false;
+    }
+    return true;
+  }
+
+  private static boolean copyToLongArray(Object src, long[] dest, int destPos) {
+    if (src instanceof byte[]) {
+      byte[] values = (byte[]) src;
+      for (int i = 0; i < values.length; i++) {
+        dest[destPos + i] = values[i];
+      }
+    } else if (src instanceof short[]) {
+      short[] values = (short[]) src;
+      for (int i = 0; i < values.length; i++) {
+        dest[destPos + i] = values[i];
+      }
+    } else if (src instanceof int[]) {
+      int[] values = (int[]) src;
+      for (int i = 0; i < values.length; i++) {
+        dest[destPos + i] = values[i];
+      }
+    } else if (src instanceof float[]) {
+      float[] values = (float[]) src;
+      for (int i = 0; i < values.length; i++) {
+        dest[destPos + i] = (long) values[i];
+      }
+    } else if (src instanceof double[]) {
+      double[] values = (double[]) src;
+      for (int i = 0; i < values.length; i++) {
+        dest[destPos + i] = (long) values[i];
+      }
+    } else {
+      return false;
+    }
+    return true;
+  }
+
+  private static boolean copyToFloatArray(Object src, float[] dest, int destPos) {
+    if (src instanceof byte[]) {
+      byte[] values = (byte[]) src;
+      for (int i = 0; i < values.length; i++) {
+        dest[destPos + i] = values[i];
+      }
+    } else if (src instanceof short[]) {
+      short[] values = (short[]) src;
+      for (int i = 0; i < values.length; i++) {
+        dest[destPos + i] = values[i];
+      }
+    } else if (src instanceof int[]) {
+      int[] values = (int[]) src;
+      for (int i = 0; i < values.length; i++) {
+        dest[destPos + i] = values[i];
+      }
+    } else if (src instanceof long[]) {
+      long[] values = (long[]) src;
+      for (int i = 0; i < values.length; i++) {
+        dest[destPos + i] = values[i];
+      }
+    } else if (src instanceof double[]) {
+      double[] values = (double[]) src;
+      for (int i = 0; i < values.length; i++) {
+        double value = values[i];
+        if (value > Float.MAX_VALUE || value < -Float.MAX_VALUE) {
+          return false;
+        }
+        dest[destPos + i] = (float) value;
+      }
+    } else {
+      return false;
+    }
+    return true;
+  }
+
+  private static boolean copyToDoubleArray(Object src, double[] dest, int destPos) {
+    if (src instanceof byte[]) {
+      byte[] values = (byte[]) src;
+      for (int i = 0; i < values.length; i++) {
+        dest[destPos + i] = values[i];
+      }
+    } else if (src instanceof short[]) {
+      short[] values = (short[]) src;
+      for (int i = 0; i < values.length; i++) {
+        dest[destPos + i] = values[i];
+      }
+    } else if (src instanceof int[]) {
+      int[] values = (int[]) src;
+      for (int i = 0; i < values.length; i++) {
+        dest[destPos + i] = values[i];
+      }
+    } else if (src instanceof long[]) {
+      long[] values = (long[]) src;
+      for (int i = 0; i < values.length; i++) {
+        dest[destPos + i] = values[i];
+      }
+    } else if (src instanceof float[]) {
+      float[] values = (float[]) src;
+      for (int i = 0; i < values.length; i++) {
+        dest[destPos + i] = values[i];
+      }
+    } else {
+      return false;
+    }
+    return true;
+  }
+
+}
@@ -29,7 +29,9 @@ import java.util.Collection;
 import java.util.List;
 import java.util.StringTokenizer;
 
+import org.apache.commons.beanutils.BeanUtilsBean;
 import org.apache.commons.beanutils.PropertyUtils;
+import org.apache.commons.beanutils.PropertyUtilsBean;
 import org.apache.commons.lang3.ClassUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.dozer.MappingException;
@@ -57,35 +59,40 @@ public final class ReflectionUtils {
       DeepHierarchyElement[] hierarchy = getDeepFieldHierarchy(objectClass, fieldName, deepIndexHintContainer);
       result = hierarchy[hierarchy.length - 1].getPropDescriptor();
     } else {
-      PropertyDescriptor[] descriptors = getPropertyDescriptors(objectClass);
-
-      if (descriptors != null) {
-        int size = descriptors.length;
-        for (int i = 0; i < size; i++) {
-
-          /*
-            Bugfix #2826468.
-            if object class has methods, f.e, getValue() and getValue(int index) in this case
-            could happen that this field couldn't be mapped, because getValue(int index) becomes first
-            and PropertyDescriptor.getReadMethod() returns null. We need to exclude IndexedPropertyDescriptor from
-            search. At this time dozer dosen't support mappings from indexed fields from POJO.
-
-            See KnownFailures.testIndexedGetFailure()
-          */
-          // TODO Disables for now as it breaks indexed array mapping
-          //          if (descriptors[i] instanceof IndexedPropertyDescriptor) {
-          //            continue;
-          //          }
-
-          String propertyName = descriptors[i].getName();
-          Method readMethod = descriptors[i].getReadMethod();
-          if (fieldName.equals(propertyName)) {
-            return fixGenericDescriptor(objectClass, descriptors[i]);
-          }
+      result = IntrospectionCache.get(objectClass).findPropertyDescriptor(fieldName);
+    }
 
-          if (fieldName.equalsIgnoreCase(propertyName)) {
-            result = descriptors[i];
-          }
+    return result;
+  }
+
+  static PropertyDescriptor findPropertyDescriptor(Class<?> objectClass, PropertyDescriptor[] descriptors, String fieldName) {
+    PropertyDescriptor result = null;
+    if (descriptors != null) {
+      int size = descriptors.length;
+      for (int i = 0; i < size; i++) {
+
+        /*
+          Bugfix #2826468.
+          if object class has methods, f.e, getValue() and getValue(int index) in this case
+          could happen that this field couldn't be mapped, because getValue(int index) becomes first
+          and PropertyDescriptor.getReadMethod() returns null. We need to exclude IndexedPropertyDescriptor from
+          search. At this time dozer dosen't support mappings from indexed fields from POJO.
+
+          See KnownFailures.testIndexedGetFailure()
+        */
+        // TODO Disables for now as it breaks indexed array mapping
+        //          if (descriptors[i] instanceof IndexedPropertyDescriptor) {
+        //            continue;
+        //          }
+
+        String propertyName = descriptors[i].getName();
+        Method readMethod = descriptors[i].getReadMethod();
+        if (fieldName.equals(propertyName)) {
+          return fixGenericDescriptor(objectClass, descriptors[i]);
+        }
+
+        if (fieldName.equalsIgnoreCase(propertyName)) {
+          result = descriptors[i];
         }
       }
     }
@@ -130,7 +137,16 @@ public final class ReflectionUtils {
       return null;
     }
 
-    public static DeepHierarchyElement[] getDeepFieldHierarchy(Class<?> parentClass, String field,
+  /**
+   * Resolves property descriptors along a deep field path. Result is cached per parent class, path and hint and
+   * must not be modified by callers.
+   */
+  public static DeepHierarchyElement[] getDeepFieldHierarchy(Class<?> parentClass, String field,
+      HintContainer deepIndexHintContainer) {
+    return IntrospectionCache.get(parentClass).getDeepFieldHierarchy(field, deepIndexHintContainer);
+  }
+
+  static DeepHierarchyElement[] compileDeepFieldHierarchy(Class<?> parentClass, String field,
       HintContainer deepIndexHintContainer) {
     if (!MappingUtils.isDeepMapping(field)) {
       MappingUtils.throwMappingException("Field does not contain deep field delimitor");
@@ -252,20 +268,28 @@ public final class ReflectionUtils {
   }
 
   public static PropertyDescriptor[] getPropertyDescriptors(Class<?> objectClass) {
+    return IntrospectionCache.get(objectClass).getPropertyDescriptors();
+  }
+
+  static PropertyDescriptor[] introspectPropertyDescriptors(Class<?> objectClass, PropertyUtilsBean propertyUtils) {
     // If the class is an interface, use custom method to get all prop descriptors in the inheritance hierarchy.
     // PropertyUtils.getPropertyDescriptors() does not work correctly for interface inheritance. It finds props in the
     // actual interface ok, but does not find props in the inheritance hierarchy.
     if (objectClass.isInterface()) {
-      return getInterfacePropertyDescriptors(objectClass);
+      return getInterfacePropertyDescriptors(objectClass, propertyUtils);
     } else {
-      return PropertyUtils.getPropertyDescriptors(objectClass);
+      return propertyUtils.getPropertyDescriptors(objectClass);
     }
   }
 
   static PropertyDescriptor[] getInterfacePropertyDescriptors(Class<?> interfaceClass) {
+    return getInterfacePropertyDescriptors(interfaceClass, BeanUtilsBean.getInstance().getPropertyUtils());
+  }
+
+  private static PropertyDescriptor[] getInterfacePropertyDescriptors(Class<?> interfaceClass, PropertyUtilsBean propertyUtils) {
     List<PropertyDescriptor> propDescriptors = new ArrayList<PropertyDescriptor>();
     // Add prop descriptors for interface passed in
-    propDescriptors.addAll(Arrays.asList(PropertyUtils.getPropertyDescriptors(interfaceClass)));
+    propDescriptors.addAll(Arrays.asList(propertyUtils.getPropertyDescriptors(interfaceClass)));
 
     // Look for interface inheritance. If super interfaces are found, recurse up the hierarchy tree and add prop
     // descriptors for each interface found.
@@ -274,7 +298,7 @@ public final class ReflectionUtils {
     if (interfaces != null) {
       for (Class<?> superInterfaceClass : interfaces) {
         List<PropertyDescriptor> superInterfacePropertyDescriptors = Arrays
-            .asList(getInterfacePropertyDescriptors(superInterfaceClass));
+            .asList(getInterfacePropertyDescriptors(superInterfaceClass, propertyUtils));
         /*
          * #1814758
          * Check for existing descriptor with the same name to prevent 2 property descriptors with the same name being added
@@ -382,6 +406,10 @@ public final class ReflectionUtils {
   }
 
   public static Class<?> determineGenericsType(Class<?> parentClazz, PropertyDescriptor propDescriptor) {
+    return IntrospectionCache.get(parentClazz).determineGenericsType(propDescriptor);
+  }
+
+  static Class<?> resolveGenericsType(Class<?> parentClazz, PropertyDescriptor propDescriptor) {
     Class<?> result = null;
     //Try getter and setter to determine the Generics type in case one does not exist
     if (propDescriptor.getWriteMethod() != null) {
@@ -448,6 +476,10 @@ public final class ReflectionUtils {
   * @return The non-standard setter or {@code null}
   */
   public static Method getNonStandardSetter(Class<?> clazz, String fieldName) {
+    return IntrospectionCache.get(clazz).getNonStandardSetter(fieldName);
+  }
+
+  static Method findNonStandardSetter(Class<?> clazz, String fieldName) {
     Field field;
 
     try {
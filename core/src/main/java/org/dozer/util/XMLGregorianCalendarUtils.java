@@ -0,0 +1,116 @@
+/**
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.util;
+
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
+
+import javax.xml.datatype.DatatypeConfigurationException;
+import javax.xml.datatype.DatatypeConstants;
+import javax.xml.datatype.DatatypeFactory;
+import javax.xml.datatype.XMLGregorianCalendar;
+
+import org.dozer.MappingException;
+
+/**
+ * Internal helper for {@link XMLGregorianCalendar} conversions. Holds the shared {@link DatatypeFactory} and converts
+ * fully specified calendars to and from epoch millis without building intermediate {@link GregorianCalendar}
+ * instances. Only intended for internal use.
+ */
+public final class XMLGregorianCalendarUtils {
+
+  // GregorianCalendar switches to Julian rules before 1582, java.time does not, so only later instants take the fast path
+  private static final long MIN_FAST_PATH_MILLIS = -11676096000000L; // 1600-01-01T00:00:00Z
+
+  private XMLGregorianCalendarUtils() {
+  }
+
+  /**
+   * Lazily creates the factory, {@link DatatypeFactory#newInstance()} performs service lookup on each call.
+   */
+  private static final class DatatypeFactoryHolder {
+
+    private static final DatatypeFactory INSTANCE = newDatatypeFactory();
+
+    private static DatatypeFactory newDatatypeFactory() {
+      try {
+        return DatatypeFactory.newInstance();
+      } catch (DatatypeConfigurationException e) {
+        throw new MappingException(e);
+      }
+    }
+  }
+
+  public static DatatypeFactory getDatatypeFactory() {
+    return DatatypeFactoryHolder.INSTANCE;
+  }
+
+  /**
+   * Same result as {@code calendar.toGregorianCalendar().getTimeInMillis()}.
+   */
+  public static long toMillis(XMLGregorianCalendar calendar) {
+    if (!isFullySpecified(calendar)) {
+      return calendar.toGregorianCalendar().getTimeInMillis();
+    }
+    long millis;
+    try {
+      LocalDateTime dateTime = LocalDateTime.of(calendar.getYear(), calendar.getMonth(), calendar.getDay(),
+          calendar.getHour(), calendar.getMinute(), calendar.getSecond());
+      millis = dateTime.toInstant(ZoneOffset.ofTotalSeconds(calendar.getTimezone() * 60)).toEpochMilli();
+    } catch (DateTimeException e) {
+      // leave values which java.time does not accept to the calendar implementation
+      return calendar.toGregorianCalendar().getTimeInMillis();
+    }
+    int millisecond = calendar.getMillisecond();
+    long result = millisecond == DatatypeConstants.FIELD_UNDEFINED ? millis : millis + millisecond;
+    if (result < MIN_FAST_PATH_MILLIS) {
+      return calendar.toGregorianCalendar().getTimeInMillis();
+    }
+    return result;
+  }
+
+  /**
+   * Same result as {@code newXMLGregorianCalendar(gregorianCalendar)} for a calendar with given time and zone.
+   */
+  public static XMLGregorianCalendar fromMillis(long millis, TimeZone timeZone) {
+    if (millis < MIN_FAST_PATH_MILLIS) {
+      GregorianCalendar calendar = new GregorianCalendar(timeZone);
+      calendar.setTimeInMillis(millis);
+      return getDatatypeFactory().newXMLGregorianCalendar(calendar);
+    }
+    int offsetMillis = timeZone.getOffset(millis);
+    LocalDateTime dateTime = LocalDateTime.ofEpochSecond(Math.floorDiv(millis + offsetMillis, 1000L),
+        (int) Math.floorMod(millis + offsetMillis, 1000L) * 1000000, ZoneOffset.UTC);
+    return getDatatypeFactory().newXMLGregorianCalendar(dateTime.getYear(), dateTime.getMonthValue(),
+        dateTime.getDayOfMonth(), dateTime.getHour(), dateTime.getMinute(), dateTime.getSecond(),
+        dateTime.getNano() / 1000000, offsetMillis / 60000);
+  }
+
+  private static boolean isFullySpecified(XMLGregorianCalendar calendar) {
+    return calendar.getEon() == null
+        && calendar.getYear() != DatatypeConstants.FIELD_UNDEFINED
+        && calendar.getMonth() != DatatypeConstants.FIELD_UNDEFINED
+        && calendar.getDay() != DatatypeConstants.FIELD_UNDEFINED
+        && calendar.getHour() != DatatypeConstants.FIELD_UNDEFINED && calendar.getHour() < 24
+        && calendar.getMinute() != DatatypeConstants.FIELD_UNDEFINED
+        && calendar.getSecond() != DatatypeConstants.FIELD_UNDEFINED && calendar.getSecond() < 60
+        && calendar.getTimezone() != DatatypeConstants.FIELD_UNDEFINED;
+  }
+
+}
@@ -0,0 +1,92 @@
+/**
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+
+import org.dozer.classmap.ClassMap;
+import org.dozer.classmap.Configuration;
+import org.dozer.fieldmap.DozerField;
+import org.dozer.fieldmap.FieldMap;
+import org.dozer.fieldmap.GenericFieldMap;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ChangeSetTest extends AbstractDozerTest {
+
+  private ClassMap classMap;
+  private ChangeSet changeSet;
+
+  @Before
+  public void setUp() {
+    classMap = new ClassMap(new Configuration());
+    changeSet = new ChangeSet();
+  }
+
+  @Test
+  public void testReportsFieldsOfClassMap() {
+    FieldMap first = addFieldMap("first");
+    FieldMap second = addFieldMap("second");
+    Object destObj = new Object();
+
+    changeSet.add(destObj, second);
+    changeSet.add(destObj, first);
+
+    assertEquals(new LinkedHashSet<String>(Arrays.asList("first", "second")), changeSet.getChangedFields(destObj));
+    assertTrue(changeSet.isChanged(destObj, "second"));
+  }
+
+  @Test
+  public void testReportsFieldsNotBelongingToClassMap() {
+    addFieldMap("first");
+    FieldMap other = newFieldMap("other");
+    Object destObj = new Object();
+
+    changeSet.add(destObj, other);
+
+    assertTrue(changeSet.isChanged(destObj));
+    assertEquals(1, changeSet.getChangedFields(destObj).size());
+    assertTrue(changeSet.isChanged(destObj, "other"));
+    assertFalse(changeSet.isChanged(destObj, "first"));
+  }
+
+  @Test
+  public void testReportsFieldsAddedAfterFirstChange() {
+    FieldMap first = addFieldMap("first");
+    Object destObj = new Object();
+    changeSet.add(destObj, first);
+
+    FieldMap second = addFieldMap("second");
+    changeSet.add(destObj, second);
+
+    assertTrue(changeSet.isChanged(destObj, "second"));
+  }
+
+  private FieldMap addFieldMap(String fieldName) {
+    FieldMap fieldMap = newFieldMap(fieldName);
+    classMap.addFieldMapping(fieldMap);
+    return fieldMap;
+  }
+
+  private FieldMap newFieldMap(String fieldName) {
+    GenericFieldMap fieldMap = new GenericFieldMap(classMap);
+    fieldMap.setSrcField(new DozerField(fieldName, null));
+    fieldMap.setDestField(new DozerField(fieldName, null));
+    return fieldMap;
+  }
+
+}
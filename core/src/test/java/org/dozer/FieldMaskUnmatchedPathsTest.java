@@ -0,0 +1,59 @@
+/**
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import org.dozer.classmap.ClassMap;
+import org.dozer.functional_tests.FieldMaskTest.Address;
+import org.dozer.functional_tests.FieldMaskTest.Person;
+import org.junit.Test;
+
+public class FieldMaskUnmatchedPathsTest extends AbstractDozerTest {
+
+  private final DozerBeanMapper mapper = new DozerBeanMapper();
+
+  @Test
+  public void testMatchedPaths() {
+    FieldMask mask = FieldMask.of("id", "address", "address.city", "previousAddresses[0].street");
+
+    assertEquals(Collections.<String>emptySet(), mask.getUnmatchedPaths(classMaps(Person.class)));
+  }
+
+  @Test
+  public void testUnmatchedPaths() {
+    FieldMask mask = FieldMask.of("id", "adress.city", "nickname");
+
+    assertEquals(new LinkedHashSet<String>(Arrays.asList("adress.city", "nickname")),
+        mask.getUnmatchedPaths(classMaps(Person.class)));
+  }
+
+  @Test
+  public void testNestedMaskCheckedAgainstNestedClass() {
+    FieldMask mask = FieldMask.of("address.city", "address.zip");
+    FieldMask nested = mask.select(mapper.getStandaloneClassMap(Person.class, Person.class, null)).get(0).getNestedMask();
+
+    assertEquals(Collections.singleton("zip"), nested.getUnmatchedPaths(classMaps(Address.class)));
+  }
+
+  private List<ClassMap> classMaps(Class<?> type) {
+    return Collections.singletonList(mapper.getStandaloneClassMap(type, type, null));
+  }
+
+}
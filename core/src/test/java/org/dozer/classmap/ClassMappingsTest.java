@@ -70,6 +70,19 @@ public class ClassMappingsTest extends AbstractDozerTest{
     assertEquals(2, result.size());
   }
 
+  @Test
+  public void shouldDetectSharedResults() {
+    ClassMap classMap = mock(ClassMap.class);
+    when(classMap.getResultCachePolicy()).thenReturn(ResultCachePolicy.COPY);
+    classMappings.add(String.class, Integer.class, classMap);
+    assertFalse(classMappings.hasSharedResults());
+
+    ClassMap sharedClassMap = mock(ClassMap.class);
+    when(sharedClassMap.getResultCachePolicy()).thenReturn(ResultCachePolicy.SHARE);
+    classMappings.addDefault(Integer.class, String.class, sharedClassMap);
+    assertTrue(classMappings.hasSharedResults());
+  }
+
   @Test(expected = IllegalArgumentException.class)
   public void shouldFailOnDuplicate() {
     ClassMap classMap = mock(ClassMap.class);
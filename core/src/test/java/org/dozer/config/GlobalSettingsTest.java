@@ -50,6 +50,10 @@ public class GlobalSettingsTest extends AbstractDozerTest {
         globalSettings.getConverterByDestTypeCacheMaxSize());
     assertEquals("invalid super type cache max size value", DozerConstants.DEFAULT_SUPER_TYPE_CHECK_CACHE_MAX_SIZE, globalSettings
         .getSuperTypesCacheMaxSize());
+    assertEquals("invalid mapping result cache max size value", DozerConstants.DEFAULT_MAPPING_RESULT_CACHE_MAX_SIZE,
+        globalSettings.getMappingResultCacheMaxSize());
+    assertEquals("invalid field mask selection cache max size value", DozerConstants.DEFAULT_FIELD_MASK_SELECTION_CACHE_MAX_SIZE,
+        globalSettings.getFieldMaskSelectionCacheMaxSize());
     assertEquals("invalid autoregister jmx beans", DozerConstants.DEFAULT_AUTOREGISTER_JMX_BEANS, globalSettings
         .isAutoregisterJMXBeans());
     assertEquals(DozerConstants.DEFAULT_PROXY_RESOLVER_BEAN, globalSettings.getProxyResolverName());
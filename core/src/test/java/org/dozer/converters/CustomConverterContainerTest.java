@@ -19,6 +19,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.dozer.AbstractDozerTest;
+import org.dozer.BatchCustomConverter;
 import org.dozer.cache.CacheKeyFactory;
 import org.dozer.cache.DozerCache;
 import org.junit.Before;
@@ -53,6 +54,19 @@ public class CustomConverterContainerTest extends AbstractDozerTest {
     assertEquals(ccc.getConverters().get(0), converters.get(0));
   }
 
+  @Test
+  public void testHasBatchConverters() {
+    CustomConverterDescription description = new CustomConverterDescription();
+    description.setType(StringConstructorConverter.class);
+    ccc.addConverter(description);
+    assertFalse(ccc.hasBatchConverters());
+
+    CustomConverterDescription batchDescription = new CustomConverterDescription();
+    batchDescription.setType(BatchConverter.class);
+    ccc.addConverter(batchDescription);
+    assertTrue(ccc.hasBatchConverters());
+  }
+
   @Test
   public void testGetCustomConverter_Cached() {
     CustomConverterDescription description = new CustomConverterDescription();
@@ -114,4 +128,7 @@ public class CustomConverterContainerTest extends AbstractDozerTest {
     assertEquals(1, cache.getSize());
   }
 
+  private abstract static class BatchConverter implements BatchCustomConverter {
+  }
+
 }
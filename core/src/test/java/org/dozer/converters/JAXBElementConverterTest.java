@@ -117,6 +117,30 @@ public class JAXBElementConverterTest extends AbstractDozerTest {
 		assertEquals("01.02.2001", JAXBElement.class.cast(conversion).getValue());
 	}
 
+	@Test
+	public void alternatingDestinationClassesConversion() throws Exception {
+		JAXBElementConverter birthDateConverter = new JAXBElementConverter(EmployeeType.class.getCanonicalName(), "birthDate", new SimpleDateFormat("dd.MM.yyyy"));
+		JAXBElementConverter parentNameConverter = new JAXBElementConverter(EmployeeWithInnerClass.class.getCanonicalName(), "parentName", new SimpleDateFormat("dd.MM.yyyy"));
+		Calendar calendar = new GregorianCalendar(2001, 1, 1);
+		for (int i = 0; i < 2; i++) {
+			Object birthDate = birthDateConverter.convert(JAXBElement.class, calendar);
+			Object parentName = parentNameConverter.convert(JAXBElement.class, calendar);
+			assertEquals("javax.xml.datatype.XMLGregorianCalendar", JAXBElement.class.cast(birthDate).getDeclaredType().getCanonicalName());
+			assertEquals("01.02.2001", JAXBElement.class.cast(parentName).getValue());
+		}
+	}
+
+	@Test
+	public void destinationClassConversionWithoutDateFormat() throws Exception {
+		converter = new JAXBElementConverter(EmployeeType.class, "birthDate", null);
+		Calendar calendar = new GregorianCalendar(2001, 1, 1);
+		XMLGregorianCalendar expected = DatatypeFactory.newInstance().newXMLGregorianCalendar(new GregorianCalendar(2001, 1, 1));
+		for (int i = 0; i < 2; i++) {
+			Object conversion = converter.convert(JAXBElement.class, calendar);
+			assertEquals(expected.toString(), JAXBElement.class.cast(conversion).getValue().toString());
+		}
+	}
+
 	@Test(expected = MappingException.class)
 	public void createFieldNotFoundException() throws Exception {
 		converter = new JAXBElementConverter(EmployeeWithInnerClass.class.getCanonicalName(), "vds", new SimpleDateFormat("dd.MM.yyyy"));
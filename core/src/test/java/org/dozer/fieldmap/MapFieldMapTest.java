@@ -15,12 +15,19 @@
  */
 package org.dozer.fieldmap;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.dozer.AbstractDozerTest;
+import org.dozer.classmap.ClassMap;
+import org.dozer.classmap.LazyLoadPolicy;
 import org.dozer.classmap.MappingDirection;
 import org.dozer.classmap.RelationshipType;
+import org.dozer.classmap.WritePolicy;
 import org.junit.Test;
 
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 /**
  * @author dmitry.buzdin
@@ -42,6 +49,7 @@ public class MapFieldMapTest extends AbstractDozerTest {
     source.setMapId("mapId");
     source.setRelationshipType(RelationshipType.NON_CUMULATIVE);
     source.setRemoveOrphans(true);
+    source.setLazyLoadPolicy(LazyLoadPolicy.SKIP);
     source.setSrcField(new DozerField("name", "type"));
     source.setSrcHintContainer(new HintContainer());
     source.setSrcDeepIndexHintContainer(new HintContainer());
@@ -58,6 +66,7 @@ public class MapFieldMapTest extends AbstractDozerTest {
     assertEquals(source.getDestDeepIndexHintContainer(), result.getDestDeepIndexHintContainer());
     assertEquals(source.getMapId(), result.getMapId());
     assertEquals(source.getRelationshipType(), result.getRelationshipType());
+    assertEquals(source.getLazyLoadPolicy(), result.getLazyLoadPolicy());
     assertEquals(source.isRemoveOrphans(), result.isRemoveOrphans());
     assertEquals(source.getSrcField(), result.getSrcField());
     assertEquals(source.getSrcHintContainer(), result.getSrcHintContainer());
@@ -65,4 +74,60 @@ public class MapFieldMapTest extends AbstractDozerTest {
     assertEquals(source.getType(), result.getType());
   }
 
+  @Test
+  public void testMapBackedFields() {
+    ClassMap classMap = mock(ClassMap.class);
+    when(classMap.getWritePolicy()).thenReturn(WritePolicy.ALWAYS_WRITE);
+    MapFieldMap fieldMap = new MapFieldMap(classMap);
+    fieldMap.setSrcField(newMapField("a"));
+    fieldMap.setDestField(newMapField("b"));
+
+    MapHolder src = new MapHolder();
+    MapHolder dest = new MapHolder();
+    for (String value : new String[] {"value1", "value2"}) {
+      src.getValues().put("a", value);
+      assertEquals(value, fieldMap.getSrcFieldValue(src));
+      fieldMap.writeDestValue(dest, value);
+      assertEquals(value, dest.getValues().get("b"));
+    }
+  }
+
+  @Test
+  public void testClone_ResolvesOwnDescriptors() {
+    ClassMap classMap = mock(ClassMap.class);
+    MapFieldMap fieldMap = new MapFieldMap(classMap);
+    fieldMap.setSrcField(newMapField("a"));
+    fieldMap.setDestField(newMapField("b"));
+
+    MapHolder src = new MapHolder();
+    src.getValues().put("a", "valueA");
+    src.getValues().put("c", "valueC");
+    assertEquals("valueA", fieldMap.getSrcFieldValue(src));
+
+    MapFieldMap clone = (MapFieldMap) fieldMap.clone();
+    clone.setSrcField(newMapField("c"));
+
+    assertEquals("valueC", clone.getSrcFieldValue(src));
+    assertEquals("valueA", fieldMap.getSrcFieldValue(src));
+  }
+
+  private DozerField newMapField(String key) {
+    DozerField field = new DozerField("values", null);
+    field.setKey(key);
+    field.setAccessible(Boolean.FALSE);
+    return field;
+  }
+
+  public static class MapHolder {
+    private Map<String, Object> values = new HashMap<String, Object>();
+
+    public Map<String, Object> getValues() {
+      return values;
+    }
+
+    public void setValues(Map<String, Object> values) {
+      this.values = values;
+    }
+  }
+
 }
@@ -0,0 +1,196 @@
+/**
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.functional_tests;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.dozer.ChangeSet;
+import org.dozer.DozerBeanMapper;
+import org.dozer.classmap.RelationshipType;
+import org.dozer.loader.api.BeanMappingBuilder;
+import org.dozer.loader.api.FieldsMappingOptions;
+import org.dozer.stats.GlobalStatistics;
+import org.dozer.stats.StatisticType;
+import org.dozer.stats.StatisticsManager;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ChangeTrackingTest extends AbstractFunctionalTest {
+
+  @Override
+  public void setUp() throws Exception {
+    super.setUp();
+    // cumulative mapping would append the same tags again
+    ((DozerBeanMapper) mapper).addMapping(new BeanMappingBuilder() {
+      @Override
+      protected void configure() {
+        mapping(Order.class, Order.class)
+            .fields("tags", "tags", FieldsMappingOptions.relationshipType(RelationshipType.NON_CUMULATIVE));
+      }
+    });
+  }
+
+  @Test
+  public void testNoChanges() {
+    Order src = newOrder();
+    Order dest = mapper.map(src, Order.class);
+
+    ChangeSet changes = ((DozerBeanMapper) mapper).mapAndTrack(src, dest);
+
+    assertFalse(changes.hasChanges());
+    assertEquals(0, changes.getChangedObjectCount());
+  }
+
+  @Test
+  public void testRecordsChangedField() {
+    Order src = newOrder();
+    Order dest = mapper.map(src, Order.class);
+    src.setStatus("shipped");
+
+    ChangeSet changes = ((DozerBeanMapper) mapper).mapAndTrack(src, dest);
+
+    assertTrue(changes.hasChanges());
+    assertTrue(changes.isChanged(dest, "status"));
+    assertEquals(Collections.singleton("status"), changes.getChangedFields(dest));
+    assertEquals("shipped", dest.getStatus());
+  }
+
+  @Test
+  public void testRecordsChangesOfNestedObject() {
+    Order src = newOrder();
+    Order dest = mapper.map(src, Order.class);
+    src.getCustomer().setName("Jane");
+
+    ChangeSet changes = ((DozerBeanMapper) mapper).mapAndTrack(src, dest);
+
+    assertFalse(changes.isChanged(dest));
+    assertTrue(changes.isChanged(dest.getCustomer(), "name"));
+    assertEquals(1, changes.getChangedObjectCount());
+  }
+
+  @Test
+  public void testRecordsNewNestedObject() {
+    Order src = newOrder();
+    Order dest = mapper.map(src, Order.class);
+    dest.setCustomer(null);
+
+    ChangeSet changes = ((DozerBeanMapper) mapper).mapAndTrack(src, dest);
+
+    assertEquals(Collections.singleton("customer"), changes.getChangedFields(dest));
+  }
+
+  @Test
+  public void testRecordsCollectionUpdatedInPlace() {
+    Order src = newOrder();
+    Order dest = mapper.map(src, Order.class);
+    List<String> destTags = dest.getTags();
+    src.getTags().add("gift");
+
+    ChangeSet changes = ((DozerBeanMapper) mapper).mapAndTrack(src, dest);
+
+    assertTrue(changes.isChanged(dest, "tags"));
+    assertTrue(dest.getTags().contains("gift"));
+    assertEquals(destTags, dest.getTags());
+  }
+
+  @Test
+  public void testRecordsElementReplacedInPlace() {
+    Order src = newOrder();
+    Order dest = mapper.map(src, Order.class);
+    src.getTags().set(1, "oversized");
+
+    ChangeSet changes = ((DozerBeanMapper) mapper).mapAndTrack(src, dest);
+
+    assertTrue(changes.isChanged(dest, "tags"));
+    assertTrue(dest.getTags().contains("oversized"));
+  }
+
+  @Test
+  public void testCountsStatistics() {
+    StatisticsManager statsMgr = GlobalStatistics.getInstance().getStatsMgr();
+    boolean statisticsEnabled = statsMgr.isStatisticsEnabled();
+    statsMgr.setStatisticsEnabled(true);
+    try {
+      statsMgr.clearAll();
+      Order src = newOrder();
+
+      ((DozerBeanMapper) mapper).mapAndTrack(src, new Order());
+
+      assertEquals(1, statsMgr.getStatisticValue(StatisticType.MAPPING_SUCCESS_COUNT));
+    } finally {
+      statsMgr.clearAll();
+      statsMgr.setStatisticsEnabled(statisticsEnabled);
+    }
+  }
+
+  private Order newOrder() {
+    Order order = new Order();
+    order.setStatus("new");
+    order.setCustomer(new Customer());
+    order.getCustomer().setName("John");
+    order.setTags(new ArrayList<String>(Arrays.asList("urgent", "fragile")));
+    return order;
+  }
+
+  public static class Order {
+    private String status;
+    private Customer customer;
+    private List<String> tags;
+
+    public String getStatus() {
+      return status;
+    }
+
+    public void setStatus(String status) {
+      this.status = status;
+    }
+
+    public Customer getCustomer() {
+      return customer;
+    }
+
+    public void setCustomer(Customer customer) {
+      this.customer = customer;
+    }
+
+    public List<String> getTags() {
+      return tags;
+    }
+
+    public void setTags(List<String> tags) {
+      this.tags = tags;
+    }
+  }
+
+  public static class Customer {
+    private String name;
+
+    public String getName() {
+      return name;
+    }
+
+    public void setName(String name) {
+      this.name = name;
+    }
+  }
+
+}
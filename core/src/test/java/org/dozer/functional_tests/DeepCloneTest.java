@@ -0,0 +1,296 @@
+/**
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.functional_tests;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.dozer.DozerBeanMapper;
+import org.dozer.loader.api.BeanMappingBuilder;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class DeepCloneTest extends AbstractFunctionalTest {
+
+  @Test
+  public void testDeepClone() {
+    Address home = new Address("Riga", "Brivibas");
+    Person person = new Person("John", 42);
+    person.setBirthDate(new Date(1000L));
+    person.setStatus(Status.ACTIVE);
+    person.setHome(home);
+    person.setAddresses(new ArrayList<Address>(Arrays.asList(home, new Address("Tallinn", "Narva"))));
+    person.getAddressesByType().put("home", home);
+    person.setScores(new int[] {1, 2});
+    person.setTags(Collections.unmodifiableList(Arrays.asList("a", "b")));
+    person.setFriend(person);
+
+    Person result = ((DozerBeanMapper) mapper).deepClone(person);
+
+    assertNotSame(person, result);
+    assertEquals("John", result.getName());
+    assertEquals(42, result.getAge());
+    assertEquals(Status.ACTIVE, result.getStatus());
+    assertEquals(person.getBirthDate(), result.getBirthDate());
+    assertNotSame(person.getBirthDate(), result.getBirthDate());
+    assertNotSame(home, result.getHome());
+    assertEquals("Riga", result.getHome().getCity());
+    assertEquals(2, result.getAddresses().size());
+    assertEquals("Tallinn", result.getAddresses().get(1).getCity());
+    assertArrayEquals(new int[] {1, 2}, result.getScores());
+    assertNotSame(person.getScores(), result.getScores());
+    assertEquals(Arrays.asList("a", "b"), result.getTags());
+  }
+
+  @Test
+  public void testDeepClone_EnumContainers() {
+    Containers containers = new Containers();
+    containers.statusNames = new EnumMap<Status, Address>(Status.class);
+    containers.statusNames.put(Status.ACTIVE, new Address("Riga", "Brivibas"));
+    containers.statuses = EnumSet.of(Status.INACTIVE);
+
+    Containers result = ((DozerBeanMapper) mapper).deepClone(containers);
+
+    assertNotSame(containers.statusNames, result.statusNames);
+    assertNotSame(containers.statusNames.get(Status.ACTIVE), result.statusNames.get(Status.ACTIVE));
+    assertEquals("Riga", result.statusNames.get(Status.ACTIVE).getCity());
+    assertNotSame(containers.statuses, result.statuses);
+    assertEquals(EnumSet.of(Status.INACTIVE), result.statuses);
+  }
+
+  @Test
+  public void testDeepClone_UnmodifiableContainers() {
+    Containers containers = new Containers();
+    containers.addresses = Collections.unmodifiableList(Arrays.asList(new Address("Riga", "Brivibas")));
+    containers.fixedAddresses = Arrays.asList(new Address("Tallinn", "Narva"));
+    containers.names = Collections.unmodifiableSortedMap(new TreeMap<String, String>(Collections.<String>reverseOrder()));
+
+    Containers result = ((DozerBeanMapper) mapper).deepClone(containers);
+
+    assertNotSame(containers.addresses.get(0), result.addresses.get(0));
+    assertEquals("Riga", result.addresses.get(0).getCity());
+    assertEquals(containers.addresses.getClass(), result.addresses.getClass());
+    assertNotSame(containers.fixedAddresses.get(0), result.fixedAddresses.get(0));
+    assertEquals(containers.fixedAddresses.getClass(), result.fixedAddresses.getClass());
+    assertNotSame(containers.names, result.names);
+    assertSame(Collections.reverseOrder(), result.names.comparator());
+    try {
+      result.names.put("a", "b");
+      fail();
+    } catch (UnsupportedOperationException e) {
+      // expected
+    }
+  }
+
+  @Test
+  public void testDeepClone_PreservesIdentity() {
+    Address home = new Address("Riga", "Brivibas");
+    Person person = new Person("John", 42);
+    person.setHome(home);
+    person.setAddresses(new ArrayList<Address>(Arrays.asList(home)));
+    person.getAddressesByType().put("home", home);
+    person.setFriend(person);
+
+    Person result = ((DozerBeanMapper) mapper).deepClone(person);
+
+    assertSame(result, result.getFriend());
+    assertSame(result.getHome(), result.getAddresses().get(0));
+    assertSame(result.getHome(), result.getAddressesByType().get("home"));
+  }
+
+  @Test
+  public void testDeepClone_SortedSetKeepsComparator() {
+    TreeSet<String> set = new TreeSet<String>(Collections.reverseOrder());
+    set.addAll(Arrays.asList("a", "b", "c"));
+
+    TreeSet<String> result = ((DozerBeanMapper) mapper).deepClone(set);
+
+    assertNotSame(set, result);
+    assertEquals(Arrays.asList("c", "b", "a"), new ArrayList<String>(result));
+  }
+
+  @Test
+  public void testDeepClone_CustomMapping() {
+    DozerBeanMapper mapper = new DozerBeanMapper();
+    mapper.addMapping(new BeanMappingBuilder() {
+      @Override
+      protected void configure() {
+        mapping(Address.class, Address.class).exclude("street");
+      }
+    });
+    Person person = new Person("John", 42);
+    person.setHome(new Address("Riga", "Brivibas"));
+
+    Person result = mapper.deepClone(person);
+
+    assertEquals("Riga", result.getHome().getCity());
+    assertNull(result.getHome().getStreet());
+  }
+
+  @Test
+  public void testDeepClone_Null() {
+    assertNull(((DozerBeanMapper) mapper).deepClone(null));
+    assertTrue(((DozerBeanMapper) mapper).deepClone("value") == "value");
+  }
+
+  public static class Containers {
+    private EnumMap<Status, Address> statusNames;
+    private EnumSet<Status> statuses;
+    private List<Address> addresses;
+    private List<Address> fixedAddresses;
+    private SortedMap<String, String> names;
+  }
+
+  public enum Status {
+    ACTIVE, INACTIVE
+  }
+
+  public static class Person {
+    private String name;
+    private int age;
+    private Date birthDate;
+    private Status status;
+    private Address home;
+    private List<Address> addresses;
+    private final Map<String, Address> addressesByType = new HashMap<String, Address>();
+    private int[] scores;
+    private List<String> tags;
+    private Person friend;
+
+    public Person() {
+    }
+
+    public Person(String name, int age) {
+      this.name = name;
+      this.age = age;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public int getAge() {
+      return age;
+    }
+
+    public Date getBirthDate() {
+      return birthDate;
+    }
+
+    public void setBirthDate(Date birthDate) {
+      this.birthDate = birthDate;
+    }
+
+    public Status getStatus() {
+      return status;
+    }
+
+    public void setStatus(Status status) {
+      this.status = status;
+    }
+
+    public Address getHome() {
+      return home;
+    }
+
+    public void setHome(Address home) {
+      this.home = home;
+    }
+
+    public List<Address> getAddresses() {
+      return addresses;
+    }
+
+    public void setAddresses(List<Address> addresses) {
+      this.addresses = addresses;
+    }
+
+    public Map<String, Address> getAddressesByType() {
+      return addressesByType;
+    }
+
+    public int[] getScores() {
+      return scores;
+    }
+
+    public void setScores(int[] scores) {
+      this.scores = scores;
+    }
+
+    public List<String> getTags() {
+      return tags;
+    }
+
+    public void setTags(List<String> tags) {
+      this.tags = tags;
+    }
+
+    public Person getFriend() {
+      return friend;
+    }
+
+    public void setFriend(Person friend) {
+      this.friend = friend;
+    }
+  }
+
+  public static class Address {
+    private String city;
+    private String street;
+
+    public Address() {
+    }
+
+    public Address(String city, String street) {
+      this.city = city;
+      this.street = street;
+    }
+
+    public String getCity() {
+      return city;
+    }
+
+    public void setCity(String city) {
+      this.city = city;
+    }
+
+    public String getStreet() {
+      return street;
+    }
+
+    public void setStreet(String street) {
+      this.street = street;
+    }
+  }
+
+}
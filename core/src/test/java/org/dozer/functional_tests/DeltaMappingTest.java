@@ -0,0 +1,332 @@
+/**
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.functional_tests;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.dozer.DeltaReport;
+import org.dozer.DozerBeanMapper;
+import org.dozer.MappingException;
+import org.dozer.loader.api.BeanMappingBuilder;
+import org.dozer.loader.api.TypeMappingOptions;
+import org.dozer.stats.GlobalStatistics;
+import org.dozer.stats.StatisticType;
+import org.dozer.stats.StatisticsManager;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+
+public class DeltaMappingTest extends AbstractFunctionalTest {
+
+  @Test
+  public void testMapsOnlyChangedProperties() {
+    Order previous = newOrder();
+    Order current = newOrder();
+    current.setStatus("shipped");
+    Order dest = mapper.map(previous, Order.class);
+    dest.setNote("edited");
+
+    DeltaReport report = ((DozerBeanMapper) mapper).mapDelta(previous, current, dest);
+
+    assertEquals(Collections.singletonList("status"), report.getChangedPaths());
+    assertEquals("shipped", dest.getStatus());
+    assertEquals("edited", dest.getNote());
+  }
+
+  @Test
+  public void testComparesNestedObjects() {
+    Order previous = newOrder();
+    Order current = newOrder();
+    current.getCustomer().setName("Jane");
+    Order dest = mapper.map(previous, Order.class);
+    Customer destCustomer = dest.getCustomer();
+
+    DeltaReport report = ((DozerBeanMapper) mapper).mapDelta(previous, current, dest);
+
+    assertEquals(Collections.singletonList("customer.name"), report.getChangedPaths());
+    assertSame(destCustomer, dest.getCustomer());
+    assertEquals("Jane", dest.getCustomer().getName());
+  }
+
+  @Test
+  public void testComparesListElements() {
+    Order previous = newOrder();
+    Order current = newOrder();
+    current.getLines().get(1).setQuantity(5);
+    Order dest = mapper.map(previous, Order.class);
+    dest.getLines().get(0).setProduct("edited");
+
+    DeltaReport report = ((DozerBeanMapper) mapper).mapDelta(previous, current, dest);
+
+    assertEquals(Collections.singletonList("lines[1].quantity"), report.getChangedPaths());
+    assertEquals(5, dest.getLines().get(1).getQuantity());
+    assertEquals("edited", dest.getLines().get(0).getProduct());
+  }
+
+  @Test
+  public void testMapsResizedListAsWhole() {
+    Order previous = newOrder();
+    Order current = newOrder();
+    current.getLines().add(new Line("pen", 3));
+    Order dest = mapper.map(previous, Order.class);
+
+    DeltaReport report = ((DozerBeanMapper) mapper).mapDelta(previous, current, dest);
+
+    assertEquals(Collections.singletonList("lines"), report.getChangedPaths());
+    assertEquals("pen", dest.getLines().get(dest.getLines().size() - 1).getProduct());
+  }
+
+  @Test
+  public void testMapsNewNestedObjectAsWhole() {
+    Order previous = newOrder();
+    previous.setCustomer(null);
+    Order current = newOrder();
+    Order dest = mapper.map(previous, Order.class);
+
+    DeltaReport report = ((DozerBeanMapper) mapper).mapDelta(previous, current, dest);
+
+    assertEquals(Collections.singletonList("customer"), report.getChangedPaths());
+    assertEquals("John", dest.getCustomer().getName());
+  }
+
+  @Test
+  public void testReportsNoChanges() {
+    Order previous = newOrder();
+    Order dest = mapper.map(previous, Order.class);
+    dest.setStatus("edited");
+
+    DeltaReport report = ((DozerBeanMapper) mapper).mapDelta(previous, newOrder(), dest);
+
+    assertFalse(report.hasChanges());
+    assertEquals("edited", dest.getStatus());
+  }
+
+  @Test
+  public void testComparesNestedObjectsWithIdentifierEquality() {
+    Order previous = newOrder();
+    previous.setContact(new Contact(1L, "john@example.com"));
+    Order current = newOrder();
+    current.setContact(new Contact(1L, "jane@example.com"));
+    Order dest = mapper.map(previous, Order.class);
+
+    DeltaReport report = ((DozerBeanMapper) mapper).mapDelta(previous, current, dest);
+
+    assertEquals(Collections.singletonList("contact.email"), report.getChangedPaths());
+    assertEquals("jane@example.com", dest.getContact().getEmail());
+  }
+
+  @Test
+  public void testIgnoresFieldErrorsUnlessStoppingOnErrors() {
+    DozerBeanMapper mapper = new DozerBeanMapper();
+    mapper.addMapping(new BeanMappingBuilder() {
+      @Override
+      protected void configure() {
+        mapping(BrokenOrder.class, Order.class, TypeMappingOptions.stopOnErrors(false));
+      }
+    });
+    BrokenOrder previous = new BrokenOrder();
+    BrokenOrder current = new BrokenOrder();
+    current.setStatus("shipped");
+    Order dest = new Order();
+
+    DeltaReport report = mapper.mapDelta(previous, current, dest);
+
+    assertEquals(Collections.singletonList("status"), report.getChangedPaths());
+    assertEquals("shipped", dest.getStatus());
+  }
+
+  @Test
+  public void testCountsStatistics() {
+    StatisticsManager statsMgr = GlobalStatistics.getInstance().getStatsMgr();
+    boolean statisticsEnabled = statsMgr.isStatisticsEnabled();
+    statsMgr.setStatisticsEnabled(true);
+    try {
+      statsMgr.clearAll();
+      Order previous = newOrder();
+      Order current = newOrder();
+      current.setStatus("shipped");
+
+      ((DozerBeanMapper) mapper).mapDelta(previous, current, new Order());
+
+      assertEquals(1, statsMgr.getStatisticValue(StatisticType.MAPPING_SUCCESS_COUNT));
+    } finally {
+      statsMgr.clearAll();
+      statsMgr.setStatisticsEnabled(statisticsEnabled);
+    }
+  }
+
+  @Test(expected = MappingException.class)
+  public void testRejectsSourcesOfDifferentClasses() {
+    ((DozerBeanMapper) mapper).mapDelta(new Customer("John"), newOrder(), new Order());
+  }
+
+  private Order newOrder() {
+    Order order = new Order();
+    order.setStatus("new");
+    order.setNote("fragile");
+    order.setCustomer(new Customer("John"));
+    order.setLines(new ArrayList<Line>(Arrays.asList(new Line("book", 1), new Line("lamp", 2))));
+    return order;
+  }
+
+  public static class Order {
+    private String status;
+    private String note;
+    private Customer customer;
+    private Contact contact;
+    private List<Line> lines;
+
+    public String getStatus() {
+      return status;
+    }
+
+    public void setStatus(String status) {
+      this.status = status;
+    }
+
+    public String getNote() {
+      return note;
+    }
+
+    public void setNote(String note) {
+      this.note = note;
+    }
+
+    public Customer getCustomer() {
+      return customer;
+    }
+
+    public void setCustomer(Customer customer) {
+      this.customer = customer;
+    }
+
+    public Contact getContact() {
+      return contact;
+    }
+
+    public void setContact(Contact contact) {
+      this.contact = contact;
+    }
+
+    public List<Line> getLines() {
+      return lines;
+    }
+
+    public void setLines(List<Line> lines) {
+      this.lines = lines;
+    }
+  }
+
+  public static class BrokenOrder extends Order {
+    @Override
+    public String getNote() {
+      throw new IllegalStateException("broken");
+    }
+  }
+
+  public static class Contact {
+    private Long id;
+    private String email;
+
+    public Contact() {
+    }
+
+    public Contact(Long id, String email) {
+      this.id = id;
+      this.email = email;
+    }
+
+    public Long getId() {
+      return id;
+    }
+
+    public void setId(Long id) {
+      this.id = id;
+    }
+
+    public String getEmail() {
+      return email;
+    }
+
+    public void setEmail(String email) {
+      this.email = email;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof Contact && id.equals(((Contact) o).id);
+    }
+
+    @Override
+    public int hashCode() {
+      return id.hashCode();
+    }
+  }
+
+  public static class Customer {
+    private String name;
+
+    public Customer() {
+    }
+
+    public Customer(String name) {
+      this.name = name;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public void setName(String name) {
+      this.name = name;
+    }
+  }
+
+  public static class Line {
+    private String product;
+    private int quantity;
+
+    public Line() {
+    }
+
+    public Line(String product, int quantity) {
+      this.product = product;
+      this.quantity = quantity;
+    }
+
+    public String getProduct() {
+      return product;
+    }
+
+    public void setProduct(String product) {
+      this.product = product;
+    }
+
+    public int getQuantity() {
+      return quantity;
+    }
+
+    public void setQuantity(int quantity) {
+      this.quantity = quantity;
+    }
+  }
+
+}
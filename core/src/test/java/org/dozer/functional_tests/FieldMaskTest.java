@@ -0,0 +1,220 @@
+/**
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.functional_tests;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import org.dozer.DozerBeanMapper;
+import org.dozer.FieldMask;
+import org.dozer.cache.DozerCacheType;
+import org.dozer.stats.GlobalStatistics;
+import org.dozer.stats.StatisticType;
+import org.dozer.stats.StatisticsManager;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class FieldMaskTest extends AbstractFunctionalTest {
+
+  @Test
+  public void testMapSelectedFields() {
+    Person src = newPerson();
+
+    Person result = ((DozerBeanMapper) mapper).map(src, Person.class, FieldMask.of("id", "address.city"));
+
+    assertEquals(Long.valueOf(1L), result.getId());
+    assertNull(result.getName());
+    assertEquals("Riga", result.getAddress().getCity());
+    assertNull(result.getAddress().getStreet());
+    assertNull(result.getPreviousAddresses());
+    assertEquals(new HashSet<String>(Arrays.asList("id", "address")), new HashSet<String>(src.getReadProperties()));
+  }
+
+  @Test
+  public void testMapNestedObjectCompletely() {
+    Person src = newPerson();
+
+    Person result = ((DozerBeanMapper) mapper).map(src, Person.class, FieldMask.of("address"));
+
+    assertNull(result.getId());
+    assertEquals("Riga", result.getAddress().getCity());
+    assertEquals("Brivibas", result.getAddress().getStreet());
+  }
+
+  @Test
+  public void testMapCollectionElements() {
+    Person src = newPerson();
+    FieldMask mask = FieldMask.of("previousAddresses.street");
+
+    Person result = ((DozerBeanMapper) mapper).map(src, Person.class, mask);
+    Person dest = new Person();
+    ((DozerBeanMapper) mapper).map(src, dest, mask);
+
+    for (Person person : Arrays.asList(result, dest)) {
+      assertNull(person.getAddress());
+      assertEquals(2, person.getPreviousAddresses().size());
+      assertNull(person.getPreviousAddresses().get(0).getCity());
+      assertEquals("Narva", person.getPreviousAddresses().get(1).getStreet());
+    }
+  }
+
+  @Test
+  public void testSharedObjectMappedWithEachNestedMask() {
+    Person src = newPerson();
+    src.getPreviousAddresses().set(0, src.getAddress());
+
+    Person result = ((DozerBeanMapper) mapper).map(src, Person.class,
+        FieldMask.of("address.city", "previousAddresses.street"));
+
+    assertEquals("Riga", result.getAddress().getCity());
+    assertNull(result.getAddress().getStreet());
+    assertNull(result.getPreviousAddresses().get(0).getCity());
+    assertEquals("Brivibas", result.getPreviousAddresses().get(0).getStreet());
+  }
+
+  @Test
+  public void testMaskDoesNotAffectOtherMappings() {
+    Person src = newPerson();
+    ((DozerBeanMapper) mapper).map(src, Person.class, FieldMask.of("id"));
+
+    Person result = mapper.map(src, Person.class);
+
+    assertEquals("John", result.getName());
+    assertEquals("Brivibas", result.getAddress().getStreet());
+  }
+
+  @Test
+  public void testSelectionCachedByMapper() {
+    StatisticsManager statsMgr = GlobalStatistics.getInstance().getStatsMgr();
+    boolean statisticsEnabled = statsMgr.isStatisticsEnabled();
+    statsMgr.setStatisticsEnabled(true);
+    try {
+      statsMgr.clearAll();
+      ((DozerBeanMapper) mapper).map(newPerson(), Person.class, FieldMask.of("id", "address.city"));
+      Person result = ((DozerBeanMapper) mapper).map(newPerson(), Person.class, FieldMask.of("id", "address.city"));
+
+      assertEquals("Riga", result.getAddress().getCity());
+      assertNull(result.getAddress().getStreet());
+      String cacheName = DozerCacheType.FIELD_MASK_SELECTION.name();
+      assertEquals(2, statsMgr.getStatisticValue(StatisticType.CACHE_HIT_COUNT, cacheName));
+      assertEquals(2, statsMgr.getStatisticValue(StatisticType.CACHE_MISS_COUNT, cacheName));
+    } finally {
+      statsMgr.clearAll();
+      statsMgr.setStatisticsEnabled(statisticsEnabled);
+    }
+  }
+
+  @Test
+  public void testUnmatchedPathIgnored() {
+    Person result = ((DozerBeanMapper) mapper).map(newPerson(), Person.class, FieldMask.of("id", "adress.city"));
+
+    assertEquals(Long.valueOf(1L), result.getId());
+    assertNull(result.getAddress());
+  }
+
+  private Person newPerson() {
+    Person person = new Person();
+    person.setId(1L);
+    person.setName("John");
+    person.setAddress(new Address("Riga", "Brivibas"));
+    person.setPreviousAddresses(new ArrayList<Address>(Arrays.asList(new Address("Riga", "Valnu"),
+        new Address("Tallinn", "Narva"))));
+    person.getReadProperties().clear();
+    return person;
+  }
+
+  public static class Person {
+    private final List<String> readProperties = new ArrayList<String>();
+    private Long id;
+    private String name;
+    private Address address;
+    private List<Address> previousAddresses;
+
+    public List<String> getReadProperties() {
+      return readProperties;
+    }
+
+    public Long getId() {
+      readProperties.add("id");
+      return id;
+    }
+
+    public void setId(Long id) {
+      this.id = id;
+    }
+
+    public String getName() {
+      readProperties.add("name");
+      return name;
+    }
+
+    public void setName(String name) {
+      this.name = name;
+    }
+
+    public Address getAddress() {
+      readProperties.add("address");
+      return address;
+    }
+
+    public void setAddress(Address address) {
+      this.address = address;
+    }
+
+    public List<Address> getPreviousAddresses() {
+      readProperties.add("previousAddresses");
+      return previousAddresses;
+    }
+
+    public void setPreviousAddresses(List<Address> previousAddresses) {
+      this.previousAddresses = previousAddresses;
+    }
+  }
+
+  public static class Address {
+    private String city;
+    private String street;
+
+    public Address() {
+    }
+
+    public Address(String city, String street) {
+      this.city = city;
+      this.street = street;
+    }
+
+    public String getCity() {
+      return city;
+    }
+
+    public void setCity(String city) {
+      this.city = city;
+    }
+
+    public String getStreet() {
+      return street;
+    }
+
+    public void setStreet(String street) {
+      this.street = street;
+    }
+  }
+
+}
@@ -0,0 +1,178 @@
+/**
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.functional_tests;
+
+import org.dozer.DozerBeanMapper;
+import org.dozer.MappingException;
+import org.dozer.MappingSession;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class MappingSessionTest extends AbstractFunctionalTest {
+
+  @Test
+  public void testSharedSourceMappedOnce() {
+    Customer customer = newCustomer("Ann");
+    MappingSession session = ((DozerBeanMapper) mapper).openSession();
+
+    OrderDto first = session.map(newOrder(1, customer), OrderDto.class);
+    OrderDto second = session.map(newOrder(2, customer), OrderDto.class);
+    session.close();
+
+    assertNotSame(first, second);
+    assertEquals("Ann", first.getCustomer().getName());
+    assertSame(first.getCustomer(), second.getCustomer());
+  }
+
+  @Test
+  public void testSharedSourceMappedPerCallWithoutSession() {
+    Customer customer = newCustomer("Ann");
+
+    OrderDto first = mapper.map(newOrder(1, customer), OrderDto.class);
+    OrderDto second = mapper.map(newOrder(2, customer), OrderDto.class);
+
+    assertNotSame(first.getCustomer(), second.getCustomer());
+  }
+
+  @Test
+  public void testSessionsAreIndependent() {
+    Customer customer = newCustomer("Ann");
+    MappingSession first = ((DozerBeanMapper) mapper).openSession();
+    MappingSession second = ((DozerBeanMapper) mapper).openSession();
+
+    OrderDto firstResult = first.map(newOrder(1, customer), OrderDto.class);
+    OrderDto secondResult = second.map(newOrder(1, customer), OrderDto.class);
+
+    assertNotSame(firstResult.getCustomer(), secondResult.getCustomer());
+  }
+
+  @Test
+  public void testSameSourceReturnsMappedInstance() {
+    Order order = newOrder(1, newCustomer("Ann"));
+    MappingSession session = ((DozerBeanMapper) mapper).openSession();
+
+    assertSame(session.map(order, OrderDto.class), session.map(order, OrderDto.class));
+  }
+
+  @Test
+  public void testMapIntoExistingDestinations() {
+    Customer customer = newCustomer("Ann");
+    MappingSession session = ((DozerBeanMapper) mapper).openSession();
+    OrderDto first = new OrderDto();
+    OrderDto second = new OrderDto();
+
+    session.map(newOrder(1, customer), first);
+    session.map(newOrder(2, customer), second);
+
+    assertEquals(2, second.getNumber());
+    assertSame(first.getCustomer(), second.getCustomer());
+  }
+
+  @Test(expected = MappingException.class)
+  public void testClosedSessionRejectsMapping() {
+    MappingSession session = ((DozerBeanMapper) mapper).openSession();
+    assertTrue(session.isOpen());
+    session.close();
+    assertFalse(session.isOpen());
+
+    session.map(newOrder(1, newCustomer("Ann")), OrderDto.class);
+  }
+
+  private Customer newCustomer(String name) {
+    Customer customer = newInstance(Customer.class);
+    customer.setName(name);
+    return customer;
+  }
+
+  private Order newOrder(int number, Customer customer) {
+    Order order = newInstance(Order.class);
+    order.setNumber(number);
+    order.setCustomer(customer);
+    return order;
+  }
+
+  public static class Customer {
+    private String name;
+
+    public String getName() {
+      return name;
+    }
+
+    public void setName(String name) {
+      this.name = name;
+    }
+  }
+
+  public static class CustomerDto {
+    private String name;
+
+    public String getName() {
+      return name;
+    }
+
+    public void setName(String name) {
+      this.name = name;
+    }
+  }
+
+  public static class Order {
+    private int number;
+    private Customer customer;
+
+    public int getNumber() {
+      return number;
+    }
+
+    public void setNumber(int number) {
+      this.number = number;
+    }
+
+    public Customer getCustomer() {
+      return customer;
+    }
+
+    public void setCustomer(Customer customer) {
+      this.customer = customer;
+    }
+  }
+
+  public static class OrderDto {
+    private int number;
+    private CustomerDto customer;
+
+    public int getNumber() {
+      return number;
+    }
+
+    public void setNumber(int number) {
+      this.number = number;
+    }
+
+    public CustomerDto getCustomer() {
+      return customer;
+    }
+
+    public void setCustomer(CustomerDto customer) {
+      this.customer = customer;
+    }
+  }
+
+}
@@ -0,0 +1,286 @@
+/**
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.functional_tests.builder;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.dozer.BatchCustomConverter;
+import org.dozer.CustomConverter;
+import org.dozer.DozerBeanMapper;
+import org.dozer.MappingException;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class BatchCustomConverterTest extends Assert {
+
+  private CountryConverter converter;
+  private DozerBeanMapper mapper;
+
+  @Before
+  public void setUp() {
+    converter = new CountryConverter();
+    mapper = new DozerBeanMapper(Collections.singletonList("batchCustomConverterMapping.xml"));
+    mapper.setCustomConverters(Collections.<CustomConverter>singletonList(converter));
+  }
+
+  @Test
+  public void shouldConvertListElementsInOneCall() {
+    Order order = new Order();
+    order.setCountries(Arrays.asList("de", "fr", "de", "it"));
+
+    OrderDto result = mapper.map(order, OrderDto.class);
+
+    assertEquals(1, converter.batchCalls.size());
+    assertEquals(Arrays.asList("de", "fr", "it"), converter.batchCalls.get(0));
+    assertEquals(0, converter.singleCalls);
+    assertEquals(4, result.getCountries().size());
+    assertEquals("FR", result.getCountries().get(1).getName());
+    assertEquals("IT", result.getCountries().get(3).getName());
+    assertSame(result.getCountries().get(0), result.getCountries().get(2));
+  }
+
+  @Test
+  public void shouldConvertSetElementsInOneCall() {
+    Order order = new Order();
+    order.setDestinations(new LinkedHashSet<String>(Arrays.asList("de", "fr")));
+
+    OrderDto result = mapper.map(order, OrderDto.class);
+
+    assertEquals(1, converter.batchCalls.size());
+    Set<String> names = new LinkedHashSet<String>();
+    for (Country country : result.getDestinations()) {
+      names.add(country.getName());
+    }
+    assertEquals(new LinkedHashSet<String>(Arrays.asList("DE", "FR")), names);
+  }
+
+  @Test
+  public void shouldConvertArrayElementsInOneCall() {
+    Order order = new Order();
+    order.setVia(new String[] {"at", "ch"});
+
+    OrderDto result = mapper.map(order, OrderDto.class);
+
+    assertEquals(1, converter.batchCalls.size());
+    assertEquals("AT", result.getVia().get(0).getName());
+    assertEquals("CH", result.getVia().get(1).getName());
+  }
+
+  @Test
+  public void shouldNotBatchNullElements() {
+    Order order = new Order();
+    order.setCountries(Arrays.asList("de", null));
+
+    OrderDto result = mapper.map(order, OrderDto.class);
+
+    assertEquals(Collections.singletonList(Collections.singletonList("de")), converter.batchCalls);
+    assertEquals(0, converter.singleCalls);
+    assertEquals("DE", result.getCountries().get(0).getName());
+    assertNull(result.getCountries().get(1));
+  }
+
+  @Test
+  public void shouldConvertSingleValue() {
+    Order order = new Order();
+    order.setOrigin("de");
+
+    OrderDto result = mapper.map(order, OrderDto.class);
+
+    assertEquals("DE", result.getOrigin().getName());
+    assertEquals(1, converter.singleCalls);
+    assertTrue(converter.batchCalls.isEmpty());
+  }
+
+  @Test
+  public void shouldConvertImmutableElementsInOneCall() {
+    Order order = new Order();
+    order.setAmounts(Arrays.asList(new BigDecimal("1.25"), new BigDecimal("2.5")));
+
+    OrderDto result = mapper.map(order, OrderDto.class);
+
+    assertEquals(Arrays.asList(new BigDecimal("1.3"), new BigDecimal("2.5")), result.getAmounts());
+  }
+
+  @Test(expected = MappingException.class)
+  public void shouldRejectIncompleteResult() {
+    converter.dropLast = true;
+    Order order = new Order();
+    order.setCountries(Arrays.asList("de", "fr"));
+
+    mapper.map(order, OrderDto.class);
+  }
+
+  public static class CountryConverter implements BatchCustomConverter {
+    private final List<List<Object>> batchCalls = new ArrayList<List<Object>>();
+    private int singleCalls;
+    private boolean dropLast;
+
+    public Object convert(Object existingDestinationFieldValue, Object sourceFieldValue, Class<?> destinationClass,
+                          Class<?> sourceClass) {
+      if (sourceFieldValue == null) {
+        return null;
+      }
+      singleCalls++;
+      return new Country(sourceFieldValue.toString().toUpperCase());
+    }
+
+    public List<?> convertAll(Collection<Object> sourceFieldValues, Class<?> destinationClass) {
+      batchCalls.add(new ArrayList<Object>(sourceFieldValues));
+      List<Country> result = new ArrayList<Country>();
+      for (Object value : sourceFieldValues) {
+        result.add(new Country(value.toString().toUpperCase()));
+      }
+      if (dropLast) {
+        result.remove(result.size() - 1);
+      }
+      return result;
+    }
+  }
+
+  public static class RoundingConverter implements BatchCustomConverter {
+
+    public Object convert(Object existingDestinationFieldValue, Object sourceFieldValue, Class<?> destinationClass,
+                          Class<?> sourceClass) {
+      throw new UnsupportedOperationException("elements are expected to be converted in one call");
+    }
+
+    public List<?> convertAll(Collection<Object> sourceFieldValues, Class<?> destinationClass) {
+      List<BigDecimal> result = new ArrayList<BigDecimal>();
+      for (Object value : sourceFieldValues) {
+        result.add(((BigDecimal) value).setScale(1, RoundingMode.HALF_UP));
+      }
+      return result;
+    }
+  }
+
+  public static class Country {
+    private final String name;
+
+    public Country(String name) {
+      this.name = name;
+    }
+
+    public String getName() {
+      return name;
+    }
+  }
+
+  public static class Order {
+    private String origin;
+    private List<String> countries;
+    private Set<String> destinations;
+    private String[] via;
+    private List<BigDecimal> amounts;
+
+    public String getOrigin() {
+      return origin;
+    }
+
+    public void setOrigin(String origin) {
+      this.origin = origin;
+    }
+
+    public List<String> getCountries() {
+      return countries;
+    }
+
+    public void setCountries(List<String> countries) {
+      this.countries = countries;
+    }
+
+    public Set<String> getDestinations() {
+      return destinations;
+    }
+
+    public void setDestinations(Set<String> destinations) {
+      this.destinations = destinations;
+    }
+
+    public String[] getVia() {
+      return via;
+    }
+
+    public void setVia(String[] via) {
+      this.via = via;
+    }
+
+    public List<BigDecimal> getAmounts() {
+      return amounts;
+    }
+
+    public void setAmounts(List<BigDecimal> amounts) {
+      this.amounts = amounts;
+    }
+  }
+
+  public static class OrderDto {
+    private Country origin;
+    private List<Country> countries;
+    private Set<Country> destinations;
+    private List<Country> via;
+    private List<BigDecimal> amounts;
+
+    public Country getOrigin() {
+      return origin;
+    }
+
+    public void setOrigin(Country origin) {
+      this.origin = origin;
+    }
+
+    public List<Country> getCountries() {
+      return countries;
+    }
+
+    public void setCountries(List<Country> countries) {
+      this.countries = countries;
+    }
+
+    public Set<Country> getDestinations() {
+      return destinations;
+    }
+
+    public void setDestinations(Set<Country> destinations) {
+      this.destinations = destinations;
+    }
+
+    public List<Country> getVia() {
+      return via;
+    }
+
+    public void setVia(List<Country> via) {
+      this.via = via;
+    }
+
+    public List<BigDecimal> getAmounts() {
+      return amounts;
+    }
+
+    public void setAmounts(List<BigDecimal> amounts) {
+      this.amounts = amounts;
+    }
+  }
+
+}
@@ -0,0 +1,198 @@
+/**
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.functional_tests.builder;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.dozer.CollectionKeyExtractor;
+import org.dozer.DozerBeanMapper;
+import org.dozer.loader.api.BeanMappingBuilder;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.dozer.classmap.RelationshipType.NON_CUMULATIVE;
+import static org.dozer.loader.api.FieldsMappingOptions.hintA;
+import static org.dozer.loader.api.FieldsMappingOptions.hintB;
+import static org.dozer.loader.api.FieldsMappingOptions.oneWay;
+import static org.dozer.loader.api.FieldsMappingOptions.relationshipType;
+import static org.dozer.loader.api.FieldsMappingOptions.removeOrphans;
+
+public class CollectionKeyExtractorTest extends Assert {
+
+  private DozerBeanMapper mapper;
+
+  @Before
+  public void setUp() {
+    mapper = new DozerBeanMapper();
+    mapper.addMapping(new BeanMappingBuilder() {
+      @Override
+      protected void configure() {
+        mapping(ParentDto.class, Parent.class)
+            .fields("children", "children", oneWay(), hintA(ChildDto.class), hintB(Child.class),
+                relationshipType(NON_CUMULATIVE), removeOrphans())
+            .fields("childSet", "childSet", oneWay(), hintA(ChildDto.class), hintB(Child.class),
+                relationshipType(NON_CUMULATIVE), removeOrphans());
+      }
+    });
+    mapper.setCollectionKeyExtractor(new CollectionKeyExtractor() {
+      public Object getKey(Object element) {
+        return element instanceof Child ? ((Child) element).getId() : null;
+      }
+    });
+  }
+
+  @Test
+  public void shouldUpdateListElementsMatchedByKey() {
+    ParentDto src = new ParentDto();
+    src.getChildren().add(new ChildDto(2L, "two-updated"));
+    src.getChildren().add(new ChildDto(3L, "three"));
+
+    Parent dest = new Parent();
+    Child one = new Child(1L, "one");
+    Child two = new Child(2L, "two");
+    dest.getChildren().add(one);
+    dest.getChildren().add(two);
+
+    mapper.map(src, dest);
+
+    assertEquals(2, dest.getChildren().size());
+    assertSame(two, dest.getChildren().get(0));
+    assertEquals("two-updated", two.getName());
+    assertEquals(Long.valueOf(3L), dest.getChildren().get(1).getId());
+  }
+
+  @Test
+  public void shouldUpdateSetElementsMatchedByKey() {
+    ParentDto src = new ParentDto();
+    src.getChildSet().add(new ChildDto(1L, "one-updated"));
+
+    Parent dest = new Parent();
+    Child one = new Child(1L, "one");
+    dest.getChildSet().add(one);
+    dest.getChildSet().add(new Child(2L, "two"));
+
+    mapper.map(src, dest);
+
+    assertEquals(1, dest.getChildSet().size());
+    assertSame(one, dest.getChildSet().iterator().next());
+    assertEquals("one-updated", one.getName());
+  }
+
+  public static class Parent {
+    private List<Child> children = new ArrayList<Child>();
+    private Set<Child> childSet = new LinkedHashSet<Child>();
+
+    public List<Child> getChildren() {
+      return children;
+    }
+
+    public void setChildren(List<Child> children) {
+      this.children = children;
+    }
+
+    public Set<Child> getChildSet() {
+      return childSet;
+    }
+
+    public void setChildSet(Set<Child> childSet) {
+      this.childSet = childSet;
+    }
+  }
+
+  public static class Child {
+    private Long id;
+    private String name;
+
+    public Child() {
+    }
+
+    public Child(Long id, String name) {
+      this.id = id;
+      this.name = name;
+    }
+
+    public Long getId() {
+      return id;
+    }
+
+    public void setId(Long id) {
+      this.id = id;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public void setName(String name) {
+      this.name = name;
+    }
+  }
+
+  public static class ParentDto {
+    private List<ChildDto> children = new ArrayList<ChildDto>();
+    private Set<ChildDto> childSet = new LinkedHashSet<ChildDto>();
+
+    public List<ChildDto> getChildren() {
+      return children;
+    }
+
+    public void setChildren(List<ChildDto> children) {
+      this.children = children;
+    }
+
+    public Set<ChildDto> getChildSet() {
+      return childSet;
+    }
+
+    public void setChildSet(Set<ChildDto> childSet) {
+      this.childSet = childSet;
+    }
+  }
+
+  public static class ChildDto {
+    private Long id;
+    private String name;
+
+    public ChildDto() {
+    }
+
+    public ChildDto(Long id, String name) {
+      this.id = id;
+      this.name = name;
+    }
+
+    public Long getId() {
+      return id;
+    }
+
+    public void setId(Long id) {
+      this.id = id;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public void setName(String name) {
+      this.name = name;
+    }
+  }
+
+}
@@ -0,0 +1,158 @@
+/**
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.functional_tests.builder;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Currency;
+import java.util.List;
+import java.util.Locale;
+
+import org.dozer.CustomConverter;
+import org.dozer.DozerBeanMapper;
+import org.dozer.ImmutabilityDetector;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ImmutableTypeMappingTest extends Assert {
+
+  @Test
+  public void shouldCopyKnownImmutableTypesByReference() {
+    DozerBeanMapper mapper = new DozerBeanMapper();
+    Holder src = new Holder();
+    src.setDate(LocalDate.of(2017, 1, 31));
+    src.setCurrency(Currency.getInstance("EUR"));
+    src.setLocales(Arrays.asList(Locale.GERMANY, Locale.JAPAN));
+
+    Holder dest = mapper.map(src, Holder.class);
+
+    assertSame(src.getDate(), dest.getDate());
+    assertSame(src.getCurrency(), dest.getCurrency());
+    assertNotSame(src.getLocales(), dest.getLocales());
+    assertSame(Locale.GERMANY, dest.getLocales().get(0));
+    assertSame(Locale.JAPAN, dest.getLocales().get(1));
+  }
+
+  @Test
+  public void shouldConsultCustomDetector() {
+    DozerBeanMapper mapper = new DozerBeanMapper();
+    mapper.setImmutabilityDetectors(Collections.singletonList(new ImmutabilityDetector() {
+      public boolean isImmutable(Class<?> type) {
+        return Money.class.equals(type);
+      }
+    }));
+    Holder src = new Holder();
+    src.setMoney(new Money());
+
+    Holder dest = mapper.map(src, Holder.class);
+
+    assertSame(src.getMoney(), dest.getMoney());
+  }
+
+  @Test
+  public void shouldMapMutableTypesByDefault() {
+    DozerBeanMapper mapper = new DozerBeanMapper();
+    Holder src = new Holder();
+    src.setMoney(new Money());
+
+    Holder dest = mapper.map(src, Holder.class);
+
+    assertNotNull(dest.getMoney());
+    assertNotSame(src.getMoney(), dest.getMoney());
+  }
+
+  @Test
+  public void shouldApplyCustomConverterToImmutableElements() {
+    DozerBeanMapper mapper = new DozerBeanMapper(Collections.singletonList("immutableTypeConverterMapping.xml"));
+    Holder src = new Holder();
+    src.setLocales(Arrays.asList(Locale.GERMANY));
+    src.setLocaleArray(new Locale[] {Locale.JAPAN});
+
+    Holder dest = mapper.map(src, Holder.class);
+
+    assertEquals(Collections.singletonList(Locale.GERMAN), dest.getLocales());
+    assertArrayEquals(new Locale[] {Locale.JAPANESE}, dest.getLocaleArray());
+  }
+
+  public static class LanguageConverter implements CustomConverter {
+    public Object convert(Object existingDestinationFieldValue, Object sourceFieldValue, Class<?> destinationClass,
+                          Class<?> sourceClass) {
+      return sourceFieldValue == null ? null : new Locale(((Locale) sourceFieldValue).getLanguage());
+    }
+  }
+
+  public static class Money {
+    private long amount;
+
+    public long getAmount() {
+      return amount;
+    }
+
+    public void setAmount(long amount) {
+      this.amount = amount;
+    }
+  }
+
+  public static class Holder {
+    private LocalDate date;
+    private Currency currency;
+    private List<Locale> locales;
+    private Locale[] localeArray;
+    private Money money;
+
+    public LocalDate getDate() {
+      return date;
+    }
+
+    public void setDate(LocalDate date) {
+      this.date = date;
+    }
+
+    public Currency getCurrency() {
+      return currency;
+    }
+
+    public void setCurrency(Currency currency) {
+      this.currency = currency;
+    }
+
+    public List<Locale> getLocales() {
+      return locales;
+    }
+
+    public void setLocales(List<Locale> locales) {
+      this.locales = locales;
+    }
+
+    public Locale[] getLocaleArray() {
+      return localeArray;
+    }
+
+    public void setLocaleArray(Locale[] localeArray) {
+      this.localeArray = localeArray;
+    }
+
+    public Money getMoney() {
+      return money;
+    }
+
+    public void setMoney(Money money) {
+      this.money = money;
+    }
+  }
+
+}
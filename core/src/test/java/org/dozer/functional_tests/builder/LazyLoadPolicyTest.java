@@ -0,0 +1,393 @@
+/**
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.functional_tests.builder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.dozer.DozerBeanMapper;
+import org.dozer.classmap.LazyLoadPolicy;
+import org.dozer.config.BeanContainer;
+import org.dozer.loader.api.BeanMappingBuilder;
+import org.dozer.loader.api.FieldsMappingOptions;
+import org.dozer.loader.api.TypeMappingOptions;
+import org.dozer.stats.GlobalStatistics;
+import org.dozer.stats.StatisticType;
+import org.dozer.stats.StatisticsManager;
+import org.dozer.util.DefaultProxyResolver;
+import org.dozer.util.DozerProxyResolver;
+import org.dozer.util.LazyLoadingResolver;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class LazyLoadPolicyTest extends Assert {
+
+  private DozerProxyResolver originalResolver;
+  private LazyOrder lazyOrder;
+  private Person person;
+
+  @Before
+  public void setUp() {
+    originalResolver = BeanContainer.getInstance().getProxyResolver();
+    BeanContainer.getInstance().setProxyResolver(new FakeLazyLoadingResolver());
+
+    lazyOrder = new LazyOrder(7L, "first");
+    person = new Person();
+    person.setName("Ann");
+    person.setOrder(lazyOrder);
+    person.setOrders(new LazyList());
+  }
+
+  @After
+  public void tearDown() {
+    BeanContainer.getInstance().setProxyResolver(originalResolver);
+  }
+
+  @Test
+  public void shouldInitializeByDefault() {
+    PersonDto result = new DozerBeanMapper().map(person, PersonDto.class);
+
+    assertTrue(lazyOrder.isLoaded());
+    assertEquals("first", result.getOrder().getName());
+    assertNotNull(result.getOrders());
+  }
+
+  @Test
+  public void shouldLeaveDestinationUntouchedWhenSkipping() {
+    OrderDto existingOrder = new OrderDto();
+    List<OrderDto> existingOrders = new ArrayList<OrderDto>();
+    PersonDto result = new PersonDto();
+    result.setOrder(existingOrder);
+    result.setOrders(existingOrders);
+
+    mapperWithPolicy(LazyLoadPolicy.SKIP).map(person, result);
+
+    assertFalse(lazyOrder.isLoaded());
+    assertEquals("Ann", result.getName());
+    assertSame(existingOrder, result.getOrder());
+    assertSame(existingOrders, result.getOrders());
+  }
+
+  @Test
+  public void shouldMapNull() {
+    PersonDto result = new PersonDto();
+    result.setOrder(new OrderDto());
+    result.setOrders(new ArrayList<OrderDto>());
+
+    mapperWithPolicy(LazyLoadPolicy.MAP_NULL).map(person, result);
+
+    assertFalse(lazyOrder.isLoaded());
+    assertNull(result.getOrder());
+    assertNull(result.getOrders());
+  }
+
+  @Test
+  public void shouldMapIdentifierOnly() {
+    PersonDto result = mapperWithPolicy(LazyLoadPolicy.ID_ONLY).map(person, PersonDto.class);
+
+    assertFalse(lazyOrder.isLoaded());
+    assertEquals("7", result.getOrder().getId());
+    assertNull(result.getOrder().getName());
+    assertNull(result.getOrders());
+  }
+
+  @Test
+  public void shouldApplyPolicyToCollectionElements() {
+    List<Order> orders = new ArrayList<Order>();
+    orders.add(lazyOrder);
+    orders.add(new Order(8L, "second"));
+    person.setOrders(orders);
+
+    PersonDto stubs = mapperWithPolicy(LazyLoadPolicy.ID_ONLY).map(person, PersonDto.class);
+    PersonDto nulls = mapperWithPolicy(LazyLoadPolicy.MAP_NULL).map(person, PersonDto.class);
+
+    assertFalse(lazyOrder.isLoaded());
+    assertEquals("7", stubs.getOrders().get(0).getId());
+    assertNull(stubs.getOrders().get(0).getName());
+    assertEquals("second", stubs.getOrders().get(1).getName());
+    assertNull(nulls.getOrders().get(0));
+    assertEquals("second", nulls.getOrders().get(1).getName());
+  }
+
+  @Test
+  public void shouldNotReadDeepFieldThroughUninitializedParent() {
+    DozerBeanMapper mapper = new DozerBeanMapper();
+    mapper.addMapping(new BeanMappingBuilder() {
+      @Override
+      protected void configure() {
+        mapping(Person.class, PersonDto.class, TypeMappingOptions.lazyLoadPolicy(LazyLoadPolicy.MAP_NULL))
+            .fields("order.name", "orderName");
+      }
+    });
+    PersonDto result = new PersonDto();
+    result.setOrderName("stale");
+
+    mapper.map(person, result);
+
+    assertFalse(lazyOrder.isLoaded());
+    assertNull(result.getOrderName());
+  }
+
+  @Test
+  public void shouldNotCompareUninitializedValuesWhenMappingDelta() {
+    Person previous = new Person();
+    previous.setName("Ann");
+    previous.setOrder(new Order(7L, "first"));
+    PersonDto result = new PersonDto();
+    result.setOrder(new OrderDto());
+
+    mapperWithPolicy(LazyLoadPolicy.MAP_NULL).mapDelta(previous, person, result);
+
+    assertFalse(lazyOrder.isLoaded());
+    assertNull(result.getOrder());
+  }
+
+  @Test
+  public void shouldMapInitializedValues() {
+    Order order = new Order(8L, "second");
+    person.setOrder(order);
+
+    PersonDto result = mapperWithPolicy(LazyLoadPolicy.MAP_NULL).map(person, PersonDto.class);
+
+    assertEquals("8", result.getOrder().getId());
+    assertEquals("second", result.getOrder().getName());
+  }
+
+  @Test
+  public void shouldOverridePolicyOnField() {
+    DozerBeanMapper mapper = new DozerBeanMapper();
+    mapper.addMapping(new BeanMappingBuilder() {
+      @Override
+      protected void configure() {
+        mapping(Person.class, PersonDto.class, TypeMappingOptions.lazyLoadPolicy(LazyLoadPolicy.SKIP))
+            .fields("order", "order", FieldsMappingOptions.lazyLoadPolicy(LazyLoadPolicy.MAP_NULL));
+      }
+    });
+    List<OrderDto> existingOrders = new ArrayList<OrderDto>();
+    PersonDto result = new PersonDto();
+    result.setOrder(new OrderDto());
+    result.setOrders(existingOrders);
+
+    mapper.map(person, result);
+
+    assertNull(result.getOrder());
+    assertSame(existingOrders, result.getOrders());
+  }
+
+  @Test
+  public void shouldReadPolicyFromXml() {
+    DozerBeanMapper mapper = new DozerBeanMapper(Collections.singletonList("lazyLoadPolicyMapping.xml"));
+    PersonDto result = new PersonDto();
+    result.setOrders(new ArrayList<OrderDto>());
+
+    mapper.map(person, result);
+
+    assertFalse(lazyOrder.isLoaded());
+    assertEquals("7", result.getOrder().getId());
+    assertNull(result.getOrders());
+  }
+
+  @Test
+  public void shouldCountLazyLoadsAvoided() {
+    StatisticsManager statsMgr = GlobalStatistics.getInstance().getStatsMgr();
+    boolean statisticsEnabled = statsMgr.isStatisticsEnabled();
+    statsMgr.setStatisticsEnabled(true);
+    try {
+      statsMgr.clearAll();
+      mapperWithPolicy(LazyLoadPolicy.SKIP).map(person, PersonDto.class);
+
+      assertEquals(2, statsMgr.getStatisticValue(StatisticType.LAZY_LOADS_AVOIDED_COUNT));
+    } finally {
+      statsMgr.clearAll();
+      statsMgr.setStatisticsEnabled(statisticsEnabled);
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void shouldRejectUnknownPolicy() {
+    LazyLoadPolicy.valueOf("eager");
+  }
+
+  private DozerBeanMapper mapperWithPolicy(final LazyLoadPolicy lazyLoadPolicy) {
+    DozerBeanMapper mapper = new DozerBeanMapper();
+    mapper.addMapping(new BeanMappingBuilder() {
+      @Override
+      protected void configure() {
+        mapping(Person.class, PersonDto.class, TypeMappingOptions.lazyLoadPolicy(lazyLoadPolicy));
+      }
+    });
+    return mapper;
+  }
+
+  private static class FakeLazyLoadingResolver extends DefaultProxyResolver implements LazyLoadingResolver {
+
+    public boolean isInitialized(Object object) {
+      return !(object instanceof LazyOrder || object instanceof LazyList);
+    }
+
+    public Object getIdentifier(Object object) {
+      return object instanceof LazyOrder ? ((LazyOrder) object).getId() : null;
+    }
+
+  }
+
+  public static class Person {
+    private String name;
+    private Order order;
+    private List<Order> orders;
+
+    public String getName() {
+      return name;
+    }
+
+    public void setName(String name) {
+      this.name = name;
+    }
+
+    public Order getOrder() {
+      return order;
+    }
+
+    public void setOrder(Order order) {
+      this.order = order;
+    }
+
+    public List<Order> getOrders() {
+      return orders;
+    }
+
+    public void setOrders(List<Order> orders) {
+      this.orders = orders;
+    }
+  }
+
+  public static class Order {
+    private Long id;
+    private String name;
+
+    public Order() {
+    }
+
+    public Order(Long id, String name) {
+      this.id = id;
+      this.name = name;
+    }
+
+    public Long getId() {
+      return id;
+    }
+
+    public void setId(Long id) {
+      this.id = id;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public void setName(String name) {
+      this.name = name;
+    }
+  }
+
+  public static class LazyOrder extends Order {
+    private boolean loaded;
+
+    public LazyOrder() {
+    }
+
+    public LazyOrder(Long id, String name) {
+      super(id, name);
+    }
+
+    @Override
+    public String getName() {
+      loaded = true;
+      return super.getName();
+    }
+
+    public boolean isLoaded() {
+      return loaded;
+    }
+  }
+
+  public static class LazyList extends ArrayList<Order> {
+  }
+
+  public static class PersonDto {
+    private String name;
+    private String orderName;
+    private OrderDto order;
+    private List<OrderDto> orders;
+
+    public String getName() {
+      return name;
+    }
+
+    public void setName(String name) {
+      this.name = name;
+    }
+
+    public String getOrderName() {
+      return orderName;
+    }
+
+    public void setOrderName(String orderName) {
+      this.orderName = orderName;
+    }
+
+    public OrderDto getOrder() {
+      return order;
+    }
+
+    public void setOrder(OrderDto order) {
+      this.order = order;
+    }
+
+    public List<OrderDto> getOrders() {
+      return orders;
+    }
+
+    public void setOrders(List<OrderDto> orders) {
+      this.orders = orders;
+    }
+  }
+
+  public static class OrderDto {
+    private String id;
+    private String name;
+
+    public String getId() {
+      return id;
+    }
+
+    public void setId(String id) {
+      this.id = id;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public void setName(String name) {
+      this.name = name;
+    }
+  }
+
+}
@@ -15,10 +15,12 @@
  */
 package org.dozer.functional_tests.builder;
 
+import java.lang.annotation.RetentionPolicy;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
@@ -35,6 +37,7 @@ import org.junit.Test;
 
 import static org.dozer.loader.api.FieldsMappingOptions.collectionStrategy;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 /**
  * @author Dmitry Buzdin
@@ -174,6 +177,30 @@ public class MapMappingTest extends AbstractFunctionalTest {
     assertEquals(new BigDecimal("0.00"), mapped.getMap().get("E"));
   }
 
+  @Test
+  public void shouldKeepImmutableValuesAndEntryOrder() {
+    ObjectMapContainer entry = new ObjectMapContainer();
+    entry.setMap(new LinkedHashMap<String, Object>());
+    String text = new String("text");
+    BigDecimal amount = new BigDecimal("1.50");
+    ListContainer container = new ListContainer();
+    container.getList().add("A");
+    entry.getMap().put("Z", text);
+    entry.getMap().put("Y", amount);
+    entry.getMap().put("X", RetentionPolicy.RUNTIME);
+    entry.getMap().put("W", container);
+
+    ObjectMapContainer mapped = beanMapper.map(entry, ObjectMapContainer.class);
+
+    assertEquals(LinkedHashMap.class, mapped.getMap().getClass());
+    assertEquals(new ArrayList<String>(entry.getMap().keySet()), new ArrayList<String>(mapped.getMap().keySet()));
+    assertSame(text, mapped.getMap().get("Z"));
+    assertSame(amount, mapped.getMap().get("Y"));
+    assertSame(RetentionPolicy.RUNTIME, mapped.getMap().get("X"));
+    assertNotSame(container, mapped.getMap().get("W"));
+    assertEquals(container.getList(), ((ListContainer) mapped.getMap().get("W")).getList());
+  }
+
   public static class DozerExampleEntry {
     /*
     * Explicitly using a sorted TreeMap here to force the visiting order of the entries in the
@@ -204,6 +231,18 @@ public class MapMappingTest extends AbstractFunctionalTest {
     }
   }
 
+  public static class ObjectMapContainer {
+    private Map<String, Object> map;
+
+    public Map<String, Object> getMap() {
+      return map;
+    }
+
+    public void setMap(Map<String, Object> map) {
+      this.map = map;
+    }
+  }
+
   public static class ListContainer {
     private List<String> list = new ArrayList<String>();
 
@@ -0,0 +1,172 @@
+/**
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.functional_tests.builder;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.dozer.DozerBeanMapper;
+import org.dozer.converters.ConversionException;
+import org.dozer.loader.api.BeanMappingBuilder;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.dozer.loader.api.FieldsMappingOptions.hintB;
+
+public class PrimitiveArrayMappingTest extends Assert {
+
+  private DozerBeanMapper mapper;
+
+  @Before
+  public void setUp() {
+    mapper = new DozerBeanMapper();
+    mapper.addMapping(new BeanMappingBuilder() {
+      @Override
+      protected void configure() {
+        mapping(Source.class, Destination.class)
+            .fields("samples", "longs")
+            .fields("samples", "bytes")
+            .fields("values", "floats")
+            .fields("samples", "list", hintB(Long.class))
+            .fields("counts", "counts");
+      }
+    });
+  }
+
+  @Test
+  public void shouldConvertPrimitiveArrays() {
+    Source src = new Source();
+    src.setSamples(new int[] {1, 2, 3});
+    src.setValues(new double[] {0.5, -1.25});
+
+    Destination dest = mapper.map(src, Destination.class);
+
+    assertTrue(Arrays.equals(new long[] {1L, 2L, 3L}, dest.getLongs()));
+    assertTrue(Arrays.equals(new byte[] {1, 2, 3}, dest.getBytes()));
+    assertTrue(Arrays.equals(new float[] {0.5f, -1.25f}, dest.getFloats()));
+    assertEquals(Arrays.asList(1L, 2L, 3L), dest.getList());
+  }
+
+  @Test
+  public void shouldAppendToExistingArray() {
+    Source src = new Source();
+    src.setSamples(new int[] {2});
+
+    Destination dest = new Destination();
+    dest.setLongs(new long[] {1L});
+    mapper.map(src, dest);
+
+    assertTrue(Arrays.equals(new long[] {1L, 2L}, dest.getLongs()));
+  }
+
+  @Test
+  public void shouldConvertWrapperListToPrimitiveArray() {
+    Source src = new Source();
+    src.setCounts(Arrays.asList(4, 5));
+
+    Destination dest = mapper.map(src, Destination.class);
+
+    assertTrue(Arrays.equals(new int[] {4, 5}, dest.getCounts()));
+  }
+
+  @Test(expected = ConversionException.class)
+  public void shouldFailOnOverflow() {
+    Source src = new Source();
+    src.setSamples(new int[] {1000});
+
+    mapper.map(src, Destination.class);
+  }
+
+  public static class Source {
+    private int[] samples;
+    private double[] values;
+    private List<Integer> counts;
+
+    public int[] getSamples() {
+      return samples;
+    }
+
+    public void setSamples(int[] samples) {
+      this.samples = samples;
+    }
+
+    public double[] getValues() {
+      return values;
+    }
+
+    public void setValues(double[] values) {
+      this.values = values;
+    }
+
+    public List<Integer> getCounts() {
+      return counts;
+    }
+
+    public void setCounts(List<Integer> counts) {
+      this.counts = counts;
+    }
+  }
+
+  public static class Destination {
+    private long[] longs;
+    private byte[] bytes;
+    private float[] floats;
+    private List<Long> list;
+    private int[] counts;
+
+    public long[] getLongs() {
+      return longs;
+    }
+
+    public void setLongs(long[] longs) {
+      this.longs = longs;
+    }
+
+    public byte[] getBytes() {
+      return bytes;
+    }
+
+    public void setBytes(byte[] bytes) {
+      this.bytes = bytes;
+    }
+
+    public float[] getFloats() {
+      return floats;
+    }
+
+    public void setFloats(float[] floats) {
+      this.floats = floats;
+    }
+
+    public List<Long> getList() {
+      return list;
+    }
+
+    public void setList(List<Long> list) {
+      this.list = list;
+    }
+
+    public int[] getCounts() {
+      return counts;
+    }
+
+    public void setCounts(int[] counts) {
+      this.counts = counts;
+    }
+  }
+
+}
@@ -0,0 +1,389 @@
+/**
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.functional_tests.builder;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.dozer.DozerBeanMapper;
+import org.dozer.ResultCacheKeyProvider;
+import org.dozer.cache.DozerCacheType;
+import org.dozer.classmap.ResultCachePolicy;
+import org.dozer.loader.api.BeanMappingBuilder;
+import org.dozer.loader.api.TypeMappingOptions;
+import org.dozer.stats.GlobalStatistics;
+import org.dozer.stats.StatisticType;
+import org.dozer.stats.StatisticsManager;
+import org.dozer.util.MappingOptions;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ResultCachePolicyTest extends Assert {
+
+  @Test
+  public void shouldNotCacheByDefault() {
+    DozerBeanMapper mapper = new DozerBeanMapper();
+    Currency currency = new Currency("EUR", 1);
+
+    assertNotSame(mapper.map(currency, CurrencyDto.class), mapper.map(currency, CurrencyDto.class));
+  }
+
+  @Test
+  public void shouldShareResultAcrossCalls() {
+    DozerBeanMapper mapper = mapperWithPolicy(ResultCachePolicy.SHARE);
+    Currency currency = new Currency("EUR", 1);
+
+    CurrencyDto first = mapper.map(currency, CurrencyDto.class);
+    CurrencyDto second = mapper.map(currency, CurrencyDto.class);
+
+    assertSame(first, second);
+    assertEquals("EUR", second.getCode());
+  }
+
+  @Test
+  public void shouldShareNestedResults() {
+    DozerBeanMapper mapper = mapperWithPolicy(ResultCachePolicy.SHARE);
+    Currency currency = new Currency("EUR", 1);
+
+    PriceDto first = mapper.map(new Price(currency), PriceDto.class);
+    PriceDto second = mapper.map(new Price(currency), PriceDto.class);
+
+    assertNotSame(first, second);
+    assertSame(first.getCurrency(), second.getCurrency());
+  }
+
+  @Test
+  public void shouldNotModifySharedResultWhenMappingIntoExistingParent() {
+    DozerBeanMapper mapper = mapperWithPolicy(ResultCachePolicy.SHARE);
+    Currency euro = new Currency("EUR", 1);
+    PriceDto price = mapper.map(new Price(euro), PriceDto.class);
+    CurrencyDto sharedEuro = price.getCurrency();
+
+    mapper.map(new Price(new Currency("USD", 2)), price);
+
+    assertEquals("USD", price.getCurrency().getCode());
+    assertNotSame(sharedEuro, price.getCurrency());
+    assertEquals("EUR", sharedEuro.getCode());
+    assertSame(sharedEuro, mapper.map(euro, CurrencyDto.class));
+  }
+
+  @Test
+  public void shouldNotCacheReverseMapping() {
+    DozerBeanMapper mapper = mapperWithPolicy(ResultCachePolicy.SHARE);
+    CurrencyDto dto = new CurrencyDto();
+    dto.setCode("EUR");
+
+    assertNotSame(mapper.map(dto, Currency.class), mapper.map(dto, Currency.class));
+  }
+
+  @Test
+  public void shouldCacheBySourceIdentity() {
+    DozerBeanMapper mapper = mapperWithPolicy(ResultCachePolicy.SHARE);
+
+    CurrencyDto first = mapper.map(new Currency("EUR", 1), CurrencyDto.class);
+    CurrencyDto second = mapper.map(new Currency("EUR", 1), CurrencyDto.class);
+
+    assertNotSame(first, second);
+  }
+
+  @Test
+  public void shouldReturnCopyOfCachedResult() {
+    DozerBeanMapper mapper = mapperWithPolicy(ResultCachePolicy.COPY);
+    Currency currency = new Currency("EUR", 1);
+
+    CurrencyDto first = mapper.map(currency, CurrencyDto.class);
+    first.setCode("USD");
+    CurrencyDto second = mapper.map(currency, CurrencyDto.class);
+
+    assertNotSame(first, second);
+    assertEquals("EUR", second.getCode());
+    assertEquals(Arrays.asList("EUR", "1"), second.getTags());
+  }
+
+  @Test
+  public void shouldShareCopyWithinOneMapping() {
+    DozerBeanMapper mapper = mapperWithPolicy(ResultCachePolicy.COPY);
+    Currency currency = new Currency("EUR", 1);
+
+    for (int i = 0; i < 2; i++) {
+      ExchangeDto exchange = mapper.map(new Exchange(currency, currency), ExchangeDto.class);
+
+      assertSame(exchange.getFrom(), exchange.getTo());
+      exchange.getFrom().setCode("USD");
+      assertEquals("EUR", mapper.map(currency, CurrencyDto.class).getCode());
+    }
+  }
+
+  @Test
+  public void shouldCacheByProvidedKey() {
+    DozerBeanMapper mapper = new DozerBeanMapper();
+    mapper.addMapping(new BeanMappingBuilder() {
+      @Override
+      protected void configure() {
+        mapping(VersionedCurrency.class, CurrencyDto.class, TypeMappingOptions.resultCachePolicy(ResultCachePolicy.SHARE));
+      }
+    });
+
+    CurrencyDto first = mapper.map(new VersionedCurrency("EUR", 1), CurrencyDto.class);
+    CurrencyDto second = mapper.map(new VersionedCurrency("EUR", 1), CurrencyDto.class);
+    CurrencyDto third = mapper.map(new VersionedCurrency("EUR", 2), CurrencyDto.class);
+
+    assertSame(first, second);
+    assertNotSame(first, third);
+    assertEquals(2, third.getVersion());
+  }
+
+  @Test
+  public void shouldCacheByMapId() {
+    DozerBeanMapper mapper = new DozerBeanMapper();
+    mapper.addMapping(new BeanMappingBuilder() {
+      @Override
+      protected void configure() {
+        mapping(Currency.class, CurrencyDto.class, TypeMappingOptions.resultCachePolicy(ResultCachePolicy.SHARE),
+            TypeMappingOptions.mapId("codeOnly"))
+            .exclude("version");
+      }
+    });
+    Currency currency = new Currency("EUR", 1);
+
+    CurrencyDto codeOnly = mapper.map(currency, CurrencyDto.class, "codeOnly");
+    CurrencyDto full = mapper.map(currency, CurrencyDto.class);
+
+    assertSame(codeOnly, mapper.map(currency, CurrencyDto.class, "codeOnly"));
+    assertNotSame(codeOnly, full);
+    assertEquals(0, codeOnly.getVersion());
+    assertEquals(1, full.getVersion());
+  }
+
+  @Test
+  public void shouldReadPolicyFromAnnotation() {
+    DozerBeanMapper mapper = new DozerBeanMapper();
+    AnnotatedCurrency currency = new AnnotatedCurrency();
+    currency.setCode("EUR");
+
+    assertSame(mapper.map(currency, CurrencyDto.class), mapper.map(currency, CurrencyDto.class));
+  }
+
+  @Test
+  public void shouldCountCacheHitsAndMisses() {
+    StatisticsManager statsMgr = GlobalStatistics.getInstance().getStatsMgr();
+    boolean statisticsEnabled = statsMgr.isStatisticsEnabled();
+    statsMgr.setStatisticsEnabled(true);
+    try {
+      statsMgr.clearAll();
+      DozerBeanMapper mapper = mapperWithPolicy(ResultCachePolicy.SHARE);
+      Currency currency = new Currency("EUR", 1);
+      mapper.map(currency, CurrencyDto.class);
+      mapper.map(currency, CurrencyDto.class);
+      mapper.map(currency, CurrencyDto.class);
+
+      String cacheName = DozerCacheType.MAPPING_RESULT.name();
+      assertEquals(2, statsMgr.getStatisticValue(StatisticType.CACHE_HIT_COUNT, cacheName));
+      assertEquals(1, statsMgr.getStatisticValue(StatisticType.CACHE_MISS_COUNT, cacheName));
+    } finally {
+      statsMgr.clearAll();
+      statsMgr.setStatisticsEnabled(statisticsEnabled);
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void shouldRejectUnknownPolicy() {
+    ResultCachePolicy.valueOf("always");
+  }
+
+  private DozerBeanMapper mapperWithPolicy(final ResultCachePolicy policy) {
+    DozerBeanMapper mapper = new DozerBeanMapper();
+    mapper.addMapping(new BeanMappingBuilder() {
+      @Override
+      protected void configure() {
+        mapping(Currency.class, CurrencyDto.class, TypeMappingOptions.resultCachePolicy(policy));
+      }
+    });
+    return mapper;
+  }
+
+  public static class Currency {
+    private String code;
+    private int version;
+
+    public Currency() {
+    }
+
+    public Currency(String code, int version) {
+      this.code = code;
+      this.version = version;
+    }
+
+    public String getCode() {
+      return code;
+    }
+
+    public void setCode(String code) {
+      this.code = code;
+    }
+
+    public int getVersion() {
+      return version;
+    }
+
+    public void setVersion(int version) {
+      this.version = version;
+    }
+
+    public String[] getTags() {
+      return new String[] {code, String.valueOf(version)};
+    }
+  }
+
+  public static class VersionedCurrency extends Currency implements ResultCacheKeyProvider {
+
+    public VersionedCurrency() {
+    }
+
+    public VersionedCurrency(String code, int version) {
+      super(code, version);
+    }
+
+    public Object getResultCacheKey() {
+      return getCode() + ":" + getVersion();
+    }
+  }
+
+  @MappingOptions(resultCache = "share")
+  public static class AnnotatedCurrency {
+    private String code;
+
+    public String getCode() {
+      return code;
+    }
+
+    public void setCode(String code) {
+      this.code = code;
+    }
+  }
+
+  public static class CurrencyDto {
+    private String code;
+    private int version;
+    private List<String> tags;
+
+    public String getCode() {
+      return code;
+    }
+
+    public void setCode(String code) {
+      this.code = code;
+    }
+
+    public int getVersion() {
+      return version;
+    }
+
+    public void setVersion(int version) {
+      this.version = version;
+    }
+
+    public List<String> getTags() {
+      return tags;
+    }
+
+    public void setTags(List<String> tags) {
+      this.tags = tags;
+    }
+  }
+
+  public static class Price {
+    private Currency currency;
+
+    public Price() {
+    }
+
+    public Price(Currency currency) {
+      this.currency = currency;
+    }
+
+    public Currency getCurrency() {
+      return currency;
+    }
+
+    public void setCurrency(Currency currency) {
+      this.currency = currency;
+    }
+  }
+
+  public static class Exchange {
+    private Currency from;
+    private Currency to;
+
+    public Exchange() {
+    }
+
+    public Exchange(Currency from, Currency to) {
+      this.from = from;
+      this.to = to;
+    }
+
+    public Currency getFrom() {
+      return from;
+    }
+
+    public void setFrom(Currency from) {
+      this.from = from;
+    }
+
+    public Currency getTo() {
+      return to;
+    }
+
+    public void setTo(Currency to) {
+      this.to = to;
+    }
+  }
+
+  public static class ExchangeDto {
+    private CurrencyDto from;
+    private CurrencyDto to;
+
+    public CurrencyDto getFrom() {
+      return from;
+    }
+
+    public void setFrom(CurrencyDto from) {
+      this.from = from;
+    }
+
+    public CurrencyDto getTo() {
+      return to;
+    }
+
+    public void setTo(CurrencyDto to) {
+      this.to = to;
+    }
+  }
+
+  public static class PriceDto {
+    private CurrencyDto currency;
+
+    public CurrencyDto getCurrency() {
+      return currency;
+    }
+
+    public void setCurrency(CurrencyDto currency) {
+      this.currency = currency;
+    }
+  }
+
+}
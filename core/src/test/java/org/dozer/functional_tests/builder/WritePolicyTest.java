@@ -0,0 +1,184 @@
+/**
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.functional_tests.builder;
+
+import java.util.Collections;
+
+import org.dozer.DozerBeanMapper;
+import org.dozer.classmap.WritePolicy;
+import org.dozer.loader.api.BeanMappingBuilder;
+import org.dozer.loader.api.TypeMappingOptions;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class WritePolicyTest extends Assert {
+
+  private Source source;
+  private Destination destination;
+
+  @Before
+  public void setUp() {
+    source = new Source();
+    source.setName(new String("name"));
+    source.setAmount(42L);
+
+    destination = new Destination();
+  }
+
+  @Test
+  public void shouldReadBeforeWriteByDefault() {
+    DozerBeanMapper mapper = new DozerBeanMapper();
+    destination.setName(source.getName());
+
+    destination.resetCounters();
+    mapper.map(source, destination);
+
+    assertEquals(2, destination.getReads());
+    assertEquals(1, destination.getWrites());
+  }
+
+  @Test
+  public void shouldNotReadWhenAlwaysWrite() {
+    DozerBeanMapper mapper = mapperWithPolicy(WritePolicy.ALWAYS_WRITE);
+    destination.setName(source.getName());
+
+    destination.resetCounters();
+    mapper.map(source, destination);
+
+    assertEquals(0, destination.getReads());
+    assertEquals(2, destination.getWrites());
+    assertEquals(Long.valueOf(42L), destination.getAmount());
+  }
+
+  @Test
+  public void shouldSkipEqualValues() {
+    DozerBeanMapper mapper = mapperWithPolicy(WritePolicy.SKIP_IF_EQUAL);
+    destination.setName("name");
+    destination.setAmount(42L);
+
+    destination.resetCounters();
+    mapper.map(source, destination);
+
+    assertEquals(0, destination.getWrites());
+  }
+
+  @Test
+  public void shouldWriteDifferentValues() {
+    DozerBeanMapper mapper = mapperWithPolicy(WritePolicy.SKIP_IF_EQUAL);
+    destination.setName("other");
+    destination.setAmount(42L);
+
+    destination.resetCounters();
+    mapper.map(source, destination);
+
+    assertEquals(1, destination.getWrites());
+    assertEquals("name", destination.getName());
+  }
+
+  @Test
+  public void shouldReadPolicyFromXml() {
+    DozerBeanMapper mapper = new DozerBeanMapper(Collections.singletonList("writePolicyMapping.xml"));
+    destination.setName("name");
+    destination.setAmount(42L);
+
+    destination.resetCounters();
+    mapper.map(source, destination);
+    assertEquals(2, destination.getWrites());
+
+    destination.resetCounters();
+    mapper.map(source, destination, "skipIfEqual");
+    assertEquals(0, destination.getWrites());
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void shouldRejectUnknownPolicy() {
+    WritePolicy.valueOf("sometimes");
+  }
+
+  private DozerBeanMapper mapperWithPolicy(final WritePolicy writePolicy) {
+    DozerBeanMapper mapper = new DozerBeanMapper();
+    mapper.addMapping(new BeanMappingBuilder() {
+      @Override
+      protected void configure() {
+        mapping(Source.class, Destination.class, TypeMappingOptions.writePolicy(writePolicy));
+      }
+    });
+    return mapper;
+  }
+
+  public static class Source {
+    private String name;
+    private Long amount;
+
+    public String getName() {
+      return name;
+    }
+
+    public void setName(String name) {
+      this.name = name;
+    }
+
+    public Long getAmount() {
+      return amount;
+    }
+
+    public void setAmount(Long amount) {
+      this.amount = amount;
+    }
+  }
+
+  public static class Destination {
+    private String name;
+    private Long amount;
+    private int reads;
+    private int writes;
+
+    public String getName() {
+      reads++;
+      return name;
+    }
+
+    public void setName(String name) {
+      writes++;
+      this.name = name;
+    }
+
+    public Long getAmount() {
+      reads++;
+      return amount;
+    }
+
+    public void setAmount(Long amount) {
+      writes++;
+      this.amount = amount;
+    }
+
+    int getReads() {
+      return reads;
+    }
+
+    int getWrites() {
+      return writes;
+    }
+
+    void resetCounters() {
+      reads = 0;
+      writes = 0;
+    }
+  }
+
+}
@@ -15,22 +15,111 @@
  */
 package org.dozer.loader.xml;
 
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.dozer.MappingException;
+import org.dozer.classmap.ClassMap;
+import org.dozer.classmap.MappingFileData;
 import org.junit.Before;
 import org.junit.Test;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
 /**
  * @author Dmitry Buzdin
  */
 public class MappingFileReaderTest {
 
+  private MappingFileReader reader;
+
   @Before
   public void setUp() throws Exception {
-
+    reader = new MappingFileReader(XMLParserFactory.getInstance());
   }
 
   @Test
   public void testRead() throws Exception {
+    MappingFileData data = reader.read("dozerBeanMapping.xml");
+    assertNotNull(data);
+    assertTrue(data.getClassMaps().size() > 0);
+  }
+
+  @Test
+  public void testRead_SeveralFilesKeepOrder() throws Exception {
+    List<String> fileNames = Arrays.asList("dozerBeanMapping.xml", "arrayMapping.xml", "enumMapping.xml",
+        "dozerBeanMapping.xml", "abstractMapping.xml");
+    List<URL> urls = new ArrayList<URL>();
+    for (String fileName : fileNames) {
+      urls.add(getClass().getClassLoader().getResource(fileName));
+    }
+
+    List<MappingFileData> result = reader.read(urls);
+
+    assertEquals(fileNames.size(), result.size());
+    for (int i = 0; i < fileNames.size(); i++) {
+      assertSameClassMaps(reader.read(fileNames.get(i)), result.get(i));
+    }
+  }
+
+  @Test
+  public void testRead_SeveralFilesConcurrentlyKeepOrder() throws Exception {
+    List<String> fileNames = Arrays.asList("dozerBeanMapping.xml", "arrayMapping.xml", "enumMapping.xml",
+        "dozerBeanMapping.xml", "abstractMapping.xml");
+    List<URL> urls = new ArrayList<URL>();
+    for (String fileName : fileNames) {
+      urls.add(getClass().getClassLoader().getResource(fileName));
+    }
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      MappingFileReader concurrentReader = new MappingFileReader(XMLParserFactory.getInstance(), true, executor);
+
+      List<MappingFileData> result = concurrentReader.read(urls);
+
+      assertEquals(fileNames.size(), result.size());
+      for (int i = 0; i < fileNames.size(); i++) {
+        assertSameClassMaps(reader.read(fileNames.get(i)), result.get(i));
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void testRead_SeveralFilesWithInvalidOne() throws Exception {
+    List<URL> urls = Arrays.asList(getClass().getClassLoader().getResource("dozerBeanMapping.xml"),
+        getClass().getClassLoader().getResource("invalidmapping5.xml"));
+    try {
+      reader.read(urls);
+      fail();
+    } catch (MappingException e) {
+      assertTrue(e.getMessage(), e.getMessage().contains("cvc-complex-type.2.4.a"));
+    }
+  }
+
+  @Test
+  public void testRead_WithoutValidation() throws Exception {
+    MappingFileReader nonValidatingReader = new MappingFileReader(XMLParserFactory.getInstance(), false);
+
+    assertSameClassMaps(reader.read("dozerBeanMapping.xml"), nonValidatingReader.read("dozerBeanMapping.xml"));
+  }
 
+  private void assertSameClassMaps(MappingFileData expected, MappingFileData actual) {
+    assertEquals(expected.getClassMaps().size(), actual.getClassMaps().size());
+    for (int i = 0; i < expected.getClassMaps().size(); i++) {
+      ClassMap expectedClassMap = expected.getClassMaps().get(i);
+      ClassMap actualClassMap = actual.getClassMaps().get(i);
+      assertEquals(expectedClassMap.getSrcClassName(), actualClassMap.getSrcClassName());
+      assertEquals(expectedClassMap.getDestClassName(), actualClassMap.getDestClassName());
+      assertEquals(expectedClassMap.getFieldMaps().size(), actualClassMap.getFieldMaps().size());
+    }
   }
 
 }
@@ -20,7 +20,9 @@ import java.lang.reflect.Method;
 
 import org.dozer.AbstractDozerTest;
 import org.dozer.fieldmap.DozerField;
+import org.dozer.util.IntrospectionCache;
 import org.dozer.vo.deep2.Dest;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.internal.util.reflection.Whitebox;
@@ -39,6 +41,12 @@ public class GetterSetterPropertyDescriptorTest extends AbstractDozerTest {
             Dest.class, dozerField.getName(), dozerField.isIndexed(), dozerField.getIndex(), null, null);
   }
 
+  @After
+  public void tearDown() {
+    // descriptors are shared, restore the ones damaged by simulated garbage collection
+    IntrospectionCache.invalidate(Dest.class);
+  }
+
   @Test
   public void testGetReadMethod() throws Exception {
     Method method = javaBeanPropertyDescriptor.getReadMethod();
@@ -17,6 +17,8 @@ package org.dozer.propertydescriptor;
 
 import java.lang.reflect.Method;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.dozer.AbstractDozerTest;
 import org.dozer.MappingException;
@@ -57,6 +59,17 @@ public class MapPropertyDescriptorTest extends AbstractDozerTest {
     assertTrue(Arrays.equals(new Class[]{String.class}, method.getParameterTypes()));
   }
 
+  @Test
+  public void testDirectMapAccess() {
+    descriptor = new MapPropertyDescriptor(HashMap.class, "", false, 0, "put", "get", "key", null, null);
+    Map<String, Object> map = new HashMap<String, Object>();
+
+    descriptor.setPropertyValue(map, "value", null);
+
+    assertEquals("value", map.get("key"));
+    assertEquals("value", descriptor.getPropertyValue(map));
+  }
+
   private static class MapStructure {
 
     public Object get() {
@@ -0,0 +1,98 @@
+/**
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.util;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.dozer.AbstractDozerTest;
+import org.dozer.CollectionKeyExtractor;
+import org.junit.Test;
+
+public class CollectionMergeIndexTest extends AbstractDozerTest {
+
+  @Test
+  public void testLookupByEquality() {
+    CollectionMergeIndex index = new CollectionMergeIndex(Arrays.asList("A", "B", null), null);
+
+    assertTrue(index.contains(new String("A")));
+    assertTrue(index.contains(null));
+    assertFalse(index.contains("C"));
+    assertNull(index.get("C"));
+  }
+
+  @Test
+  public void testFirstElementWins() {
+    String first = new String("A");
+    String second = new String("A");
+    CollectionMergeIndex index = new CollectionMergeIndex(Arrays.asList(first, second), null);
+
+    assertSame(first, index.get("A"));
+
+    index.add(new String("A"));
+    assertSame(first, index.get("A"));
+  }
+
+  @Test
+  public void testLookupByExtractedKey() {
+    CollectionKeyExtractor byLength = new CollectionKeyExtractor() {
+      public Object getKey(Object element) {
+        return element instanceof String ? ((String) element).length() : null;
+      }
+    };
+    CollectionMergeIndex index = new CollectionMergeIndex(Arrays.asList("A", "BB"), byLength);
+
+    assertEquals("BB", index.get("XY"));
+    assertFalse(index.contains("XYZ"));
+
+    index.add(Boolean.TRUE);
+    assertTrue(index.contains(Boolean.TRUE));
+  }
+
+  @Test
+  public void testUpdateRekeysElementByEquality() {
+    Map<String, Object> element = new HashMap<String, Object>();
+    element.put("id", 1);
+    CollectionMergeIndex index = new CollectionMergeIndex(Arrays.asList(element), null);
+
+    element.put("id", 2);
+    index.update(element);
+
+    assertSame(element, index.get(Collections.singletonMap("id", 2)));
+    assertFalse(index.contains(Collections.singletonMap("id", 1)));
+  }
+
+  @Test
+  public void testUpdateRekeysElement() {
+    CollectionKeyExtractor byId = new CollectionKeyExtractor() {
+      public Object getKey(Object element) {
+        return ((Map<?, ?>) element).get("id");
+      }
+    };
+    Map<String, Object> element = new HashMap<String, Object>();
+    element.put("id", 1);
+    CollectionMergeIndex index = new CollectionMergeIndex(Arrays.asList(element), byId);
+
+    element.put("id", 2);
+    index.update(element);
+
+    assertSame(element, index.get(Collections.singletonMap("id", 2)));
+    assertFalse(index.contains(Collections.singletonMap("id", 1)));
+  }
+
+}
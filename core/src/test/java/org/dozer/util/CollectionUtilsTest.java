@@ -20,6 +20,8 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
@@ -151,4 +153,33 @@ public class CollectionUtilsTest extends AbstractDozerTest {
     assertEquals("shoulb be size zero", 0, result.size());
   }
 
+
+  @Test
+  public void testIterator() throws Exception {
+    List<String> list = Arrays.asList("a", "b");
+    Object[] values = new Object[] { list.toArray(), list, new LinkedHashSet<String>(list), list.iterator() };
+    for (Object value : values) {
+      Iterator<?> iterator = CollectionUtils.iterator(value);
+      assertEquals("a", iterator.next());
+      assertEquals("b", iterator.next());
+      assertFalse(iterator.hasNext());
+    }
+  }
+
+  @Test
+  public void testIterator_PrimitiveArray() throws Exception {
+    Iterator<?> iterator = CollectionUtils.iterator(new int[] { 1, 2 });
+    assertEquals(1, iterator.next());
+    assertEquals(2, iterator.next());
+    assertFalse(iterator.hasNext());
+  }
+
+  @Test
+  public void testGetValueFromCollection_ListAndSet() throws Exception {
+    List<String> list = Arrays.asList("a", "b", "c");
+    Object[] values = new Object[] { list.toArray(), list, new LinkedHashSet<String>(list) };
+    for (Object value : values) {
+      assertEquals("c", CollectionUtils.getValueFromCollection(value, 2));
+    }
+  }
 }
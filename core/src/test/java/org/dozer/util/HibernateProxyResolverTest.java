@@ -0,0 +1,45 @@
+/**
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.util;
+
+import java.util.ArrayList;
+
+import org.hibernate.collection.PersistentSet;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class HibernateProxyResolverTest extends Assert {
+
+  private HibernateProxyResolver resolver;
+
+  @Before
+  public void setUp() {
+    resolver = new HibernateProxyResolver();
+  }
+
+  @Test
+  public void testIsInitialized() {
+    assertTrue(resolver.isInitialized(new ArrayList<Object>()));
+    assertFalse(resolver.isInitialized(new PersistentSet()));
+  }
+
+  @Test
+  public void testGetIdentifier_NotAProxy() {
+    assertNull(resolver.getIdentifier(new PersistentSet()));
+  }
+
+}
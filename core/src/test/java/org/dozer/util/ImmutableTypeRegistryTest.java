@@ -0,0 +1,62 @@
+/**
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.util;
+
+import java.math.BigDecimal;
+import java.net.InetAddress;
+import java.net.URL;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Optional;
+
+import org.dozer.AbstractDozerTest;
+import org.dozer.ImmutabilityDetector;
+import org.junit.Test;
+
+public class ImmutableTypeRegistryTest extends AbstractDozerTest {
+
+  @Test
+  public void testBuiltInTypes() {
+    ImmutableTypeRegistry registry = new ImmutableTypeRegistry(Collections.<ImmutabilityDetector>emptyList());
+
+    assertTrue(registry.isImmutable(BigDecimal.class));
+    assertTrue(registry.isImmutable(LocalDateTime.class));
+    assertTrue(registry.isImmutable(ZoneId.systemDefault().getClass()));
+    assertTrue(registry.isImmutable(InetAddress.getLoopbackAddress().getClass()));
+    assertFalse(registry.isImmutable(Date.class));
+    assertFalse(registry.isImmutable(Optional.class));
+    assertFalse(registry.isImmutable(URL.class));
+    assertFalse(registry.isImmutable(Object.class));
+  }
+
+  @Test
+  public void testCustomDetectorIsCached() {
+    final int[] calls = new int[1];
+    ImmutableTypeRegistry registry = new ImmutableTypeRegistry(Collections.singletonList(new ImmutabilityDetector() {
+      public boolean isImmutable(Class<?> type) {
+        calls[0]++;
+        return Date.class.equals(type);
+      }
+    }));
+
+    assertTrue(registry.isImmutable(Date.class));
+    assertTrue(registry.isImmutable(Date.class));
+    assertEquals(1, calls[0]);
+  }
+
+}
@@ -0,0 +1,176 @@
+/**
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.util;
+
+import java.beans.PropertyDescriptor;
+import java.util.List;
+
+import org.dozer.AbstractDozerTest;
+import org.dozer.fieldmap.HintContainer;
+import org.dozer.propertydescriptor.DeepHierarchyElement;
+import org.dozer.propertydescriptor.DozerPropertyDescriptor;
+import org.dozer.propertydescriptor.JavaBeanPropertyDescriptor;
+import org.junit.Test;
+
+public class IntrospectionCacheTest extends AbstractDozerTest {
+
+  @Test
+  public void testDescriptorsAreCached() {
+    PropertyDescriptor[] descriptors = ReflectionUtils.getPropertyDescriptors(Bean.class);
+
+    assertSame(descriptors, ReflectionUtils.getPropertyDescriptors(Bean.class));
+    assertSame(ReflectionUtils.findPropertyDescriptor(Bean.class, "name", null),
+        ReflectionUtils.findPropertyDescriptor(Bean.class, "name", null));
+    assertNull(ReflectionUtils.findPropertyDescriptor(Bean.class, "missing", null));
+  }
+
+  @Test
+  public void testInvalidateRebuildsDescriptorsOfSingleClass() throws Exception {
+    PropertyDescriptor descriptor = ReflectionUtils.findPropertyDescriptor(Bean.class, "name", null);
+    PropertyDescriptor other = ReflectionUtils.findPropertyDescriptor(OtherBean.class, "name", null);
+    descriptor.setWriteMethod(null);
+
+    IntrospectionCache.invalidate(Bean.class);
+
+    PropertyDescriptor refreshed = ReflectionUtils.findPropertyDescriptor(Bean.class, "name", null);
+    assertNotSame(descriptor, refreshed);
+    assertNotNull(refreshed.getWriteMethod());
+    assertSame(other, ReflectionUtils.findPropertyDescriptor(OtherBean.class, "name", null));
+  }
+
+  @Test
+  public void testNonStandardSetterIsCached() {
+    assertNotNull(ReflectionUtils.getNonStandardSetter(OtherBean.class, "name"));
+    assertSame(ReflectionUtils.getNonStandardSetter(OtherBean.class, "name"),
+        ReflectionUtils.getNonStandardSetter(OtherBean.class, "name"));
+    assertNull(ReflectionUtils.getNonStandardSetter(Bean.class, "name"));
+  }
+
+  @Test
+  public void testDeepFieldHierarchyIsCachedPerPathAndHint() {
+    HintContainer hint = new HintContainer();
+    hint.setHintName(Bean.class.getName());
+
+    DeepHierarchyElement[] hierarchy = ReflectionUtils.getDeepFieldHierarchy(Holder.class, "beans[1].name", hint);
+    assertEquals(2, hierarchy.length);
+    assertEquals(1, hierarchy[0].getIndex());
+    assertEquals("name", hierarchy[1].getPropDescriptor().getName());
+    assertSame(hierarchy, ReflectionUtils.getDeepFieldHierarchy(Holder.class, "beans[1].name", hint));
+    assertNotSame(hierarchy, ReflectionUtils.getDeepFieldHierarchy(Holder.class, "beans[0].name", hint));
+
+    IntrospectionCache.invalidate(Holder.class);
+    assertNotSame(hierarchy, ReflectionUtils.getDeepFieldHierarchy(Holder.class, "beans[1].name", hint));
+  }
+
+  @Test
+  public void testDeepFieldDescriptorsAreCached() {
+    Holder holder = new Holder();
+    holder.setBean(new Bean());
+    holder.getBean().setName("a");
+
+    assertEquals("a", DeepHierarchyUtils.getDeepFieldValue(holder, "bean.name", false, -1, null));
+    DozerPropertyDescriptor[] descriptors = IntrospectionCache.get(Holder.class).getDeepFieldDescriptors("bean.name", null);
+    assertSame(descriptors, IntrospectionCache.get(Holder.class).getDeepFieldDescriptors("bean.name", null));
+    assertEquals(String.class, DeepHierarchyUtils.getDeepFieldType(Holder.class, "bean.name", null));
+  }
+
+  @Test
+  public void testInvalidateDropsDeepPathsThroughClass() {
+    DeepHierarchyElement[] hierarchy = ReflectionUtils.getDeepFieldHierarchy(Holder.class, "bean.name", null);
+    DozerPropertyDescriptor[] descriptors = IntrospectionCache.get(Holder.class).getDeepFieldDescriptors("bean.name", null);
+
+    IntrospectionCache.invalidate(Bean.class);
+
+    DeepHierarchyElement[] refreshed = ReflectionUtils.getDeepFieldHierarchy(Holder.class, "bean.name", null);
+    assertNotSame(hierarchy, refreshed);
+    assertSame(ReflectionUtils.findPropertyDescriptor(Bean.class, "name", null), refreshed[1].getPropDescriptor());
+    assertNotSame(descriptors, IntrospectionCache.get(Holder.class).getDeepFieldDescriptors("bean.name", null));
+  }
+
+  @Test
+  public void testInvalidateKeepsDeepPathsNotThroughClass() {
+    DeepHierarchyElement[] hierarchy = ReflectionUtils.getDeepFieldHierarchy(Holder.class, "bean.name", null);
+    DozerPropertyDescriptor[] descriptors = IntrospectionCache.get(Holder.class).getDeepFieldDescriptors("bean.name", null);
+
+    IntrospectionCache.invalidate(OtherBean.class);
+
+    assertSame(hierarchy, ReflectionUtils.getDeepFieldHierarchy(Holder.class, "bean.name", null));
+    assertSame(descriptors, IntrospectionCache.get(Holder.class).getDeepFieldDescriptors("bean.name", null));
+  }
+
+  @Test
+  public void testInvalidatePathRecoversClearedIntermediateDescriptor() throws Exception {
+    Holder holder = new Holder();
+    holder.setBean(new Bean());
+    holder.getBean().setName("a");
+    DeepHierarchyElement[] hierarchy = ReflectionUtils.getDeepFieldHierarchy(Holder.class, "bean.name", null);
+    hierarchy[0].getPropDescriptor().setReadMethod(null);
+    hierarchy[1].getPropDescriptor().setReadMethod(null);
+
+    JavaBeanPropertyDescriptor descriptor = new JavaBeanPropertyDescriptor(Holder.class, "bean.name", false, -1, null, null);
+
+    assertEquals("a", descriptor.getPropertyValue(holder));
+    assertEquals("a", DeepHierarchyUtils.getDeepFieldValue(holder, "bean.name", false, -1, null));
+    assertNotNull(ReflectionUtils.findPropertyDescriptor(Holder.class, "bean", null).getReadMethod());
+  }
+
+  public static class Holder {
+    private Bean bean;
+    private List<Bean> beans;
+
+    public Bean getBean() {
+      return bean;
+    }
+
+    public void setBean(Bean bean) {
+      this.bean = bean;
+    }
+
+    public List<Bean> getBeans() {
+      return beans;
+    }
+
+    public void setBeans(List<Bean> beans) {
+      this.beans = beans;
+    }
+  }
+
+  public static class Bean {
+    private String name;
+
+    public String getName() {
+      return name;
+    }
+
+    public void setName(String name) {
+      this.name = name;
+    }
+  }
+
+  public static class OtherBean {
+    private String name;
+
+    public String getName() {
+      return name;
+    }
+
+    public OtherBean setName(String name) {
+      this.name = name;
+      return this;
+    }
+  }
+
+}
@@ -19,6 +19,8 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Vector;
@@ -26,7 +28,11 @@ import java.util.Vector;
 import org.dozer.AbstractDozerTest;
 import org.dozer.MappingException;
 import org.dozer.classmap.ClassMap;
+import org.dozer.classmap.Configuration;
+import org.dozer.classmap.LazyLoadPolicy;
 import org.dozer.classmap.MappingFileData;
+import org.dozer.fieldmap.DozerField;
+import org.dozer.fieldmap.GenericFieldMap;
 import org.dozer.functional_tests.runner.ProxyDataObjectInstantiator;
 import org.dozer.loader.MappingsParser;
 import org.dozer.loader.xml.MappingFileReader;
@@ -80,6 +86,22 @@ public class MappingUtilsTest extends AbstractDozerTest {
     }
   }
 
+  @Test
+  public void testReverseFields_KeepsInheritedLazyLoadPolicy() {
+    Configuration configuration = new Configuration();
+    ClassMap classMap = new ClassMap(configuration);
+    GenericFieldMap source = new GenericFieldMap(classMap);
+    source.setSrcField(new DozerField("a", null));
+    source.setDestField(new DozerField("b", null));
+    GenericFieldMap reversed = new GenericFieldMap(classMap);
+
+    MappingUtils.reverseFields(source, reversed);
+    configuration.setLazyLoadPolicy(LazyLoadPolicy.SKIP);
+
+    assertNull(reversed.getDeclaredLazyLoadPolicy());
+    assertEquals(LazyLoadPolicy.SKIP, reversed.getLazyLoadPolicy());
+  }
+
   @Test
   public void testGetClassWithoutPackage() throws Exception {
     String result = MappingUtils.getClassNameWithoutPackage(String.class);
@@ -247,4 +269,42 @@ public class MappingUtilsTest extends AbstractDozerTest {
 
     assertEquals(expected, result);
   }
+
+  @Test
+  public void testGetIndexedValue() {
+    List<String> list = Arrays.asList("a", "b", "c");
+    for (Object collection : new Object[] {list.toArray(), new ArrayList<String>(list), new LinkedList<String>(list),
+        new LinkedHashSet<String>(list)}) {
+      assertEquals("b", MappingUtils.getIndexedValue(collection, 1));
+      assertEquals("c", MappingUtils.getIndexedValue(collection, 2));
+      assertEquals("a", MappingUtils.getIndexedValue(collection, 0));
+      assertNull(MappingUtils.getIndexedValue(collection, 3));
+    }
+  }
+
+  @Test
+  public void testGetIndexedValue_Cursor() {
+    MappingUtils.IndexedCursor cursor = new MappingUtils.IndexedCursor();
+    LinkedHashSet<String> set = new LinkedHashSet<String>(Arrays.asList("a", "b", "c"));
+    LinkedList<String> other = new LinkedList<String>(Arrays.asList("x", "y"));
+
+    assertEquals("b", MappingUtils.getIndexedValue(set, 1, cursor));
+    assertEquals("y", MappingUtils.getIndexedValue(other, 1, cursor));
+    assertEquals("c", MappingUtils.getIndexedValue(set, 2, cursor));
+    assertEquals("a", MappingUtils.getIndexedValue(set, 0, cursor));
+    assertNull(MappingUtils.getIndexedValue(set, 3, cursor));
+  }
+
+  @Test
+  public void testGetIndexedValue_ModifiedCollection() {
+    MappingUtils.IndexedCursor cursor = new MappingUtils.IndexedCursor();
+    LinkedHashSet<String> set = new LinkedHashSet<String>(Arrays.asList("a", "b", "c"));
+    assertEquals("a", MappingUtils.getIndexedValue(set, 0, cursor));
+
+    set.remove("b");
+    set.add("d");
+
+    assertEquals("c", MappingUtils.getIndexedValue(set, 1, cursor));
+    assertEquals("d", MappingUtils.getIndexedValue(set, 2, cursor));
+  }
 }
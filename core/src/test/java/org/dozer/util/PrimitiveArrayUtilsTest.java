@@ -0,0 +1,79 @@
+/**
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.util;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.dozer.AbstractDozerTest;
+import org.junit.Test;
+
+public class PrimitiveArrayUtilsTest extends AbstractDozerTest {
+
+  @Test
+  public void testWidening() {
+    long[] result = new long[4];
+    result[0] = 7L;
+
+    assertTrue(PrimitiveArrayUtils.copy(new int[] {1, -2, Integer.MAX_VALUE}, result, 1));
+    assertTrue(Arrays.equals(new long[] {7L, 1L, -2L, Integer.MAX_VALUE}, result));
+  }
+
+  @Test
+  public void testFloatingToIntegral() {
+    int[] result = new int[2];
+
+    assertTrue(PrimitiveArrayUtils.copy(new double[] {1.9, -2.5}, result, 0));
+    assertTrue(Arrays.equals(new int[] {1, -2}, result));
+  }
+
+  @Test
+  public void testNarrowing() {
+    float[] floats = new float[1];
+    assertTrue(PrimitiveArrayUtils.copy(new double[] {1.5}, floats, 0));
+    assertEquals(1.5f, floats[0], 0f);
+
+    assertFalse(PrimitiveArrayUtils.copy(new long[] {Integer.MAX_VALUE + 1L}, new int[1], 0));
+    assertFalse(PrimitiveArrayUtils.copy(new double[] {Double.MAX_VALUE}, new float[1], 0));
+    assertFalse(PrimitiveArrayUtils.copy(new int[] {128}, new byte[1], 0));
+  }
+
+  @Test
+  public void testNonNumeric() {
+    assertFalse(PrimitiveArrayUtils.copy(new char[] {'a'}, new int[1], 0));
+    assertFalse(PrimitiveArrayUtils.copy(new int[] {1}, new boolean[1], 0));
+    assertFalse(PrimitiveArrayUtils.isNumericPrimitive(char.class));
+  }
+
+  @Test
+  public void testToWrapperList() {
+    List<Object> result = PrimitiveArrayUtils.toWrapperList(new int[] {1, 2}, Long.class);
+    assertEquals(Arrays.<Object>asList(1L, 2L), result);
+
+    assertNull(PrimitiveArrayUtils.toWrapperList(new int[] {1}, String.class));
+  }
+
+  @Test
+  public void testFromWrappers() {
+    Object result = PrimitiveArrayUtils.fromWrappers(Arrays.asList(1, 2), int.class);
+    assertTrue(Arrays.equals(new int[] {1, 2}, (int[]) result));
+
+    assertNull(PrimitiveArrayUtils.fromWrappers(Arrays.asList(1, null), int.class));
+    assertNull(PrimitiveArrayUtils.fromWrappers(Arrays.<Object>asList(1, 2L), int.class));
+    assertNull(PrimitiveArrayUtils.fromWrappers(Arrays.asList('a'), char.class));
+  }
+
+}
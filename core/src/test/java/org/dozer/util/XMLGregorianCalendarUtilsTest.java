@@ -0,0 +1,77 @@
+/**
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.util;
+
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
+
+import javax.xml.datatype.DatatypeConstants;
+import javax.xml.datatype.XMLGregorianCalendar;
+
+import org.dozer.AbstractDozerTest;
+import org.junit.Test;
+
+public class XMLGregorianCalendarUtilsTest extends AbstractDozerTest {
+
+  private static final long[] INSTANTS = {0L, 1500000000123L, -11676096000001L, -62135596800000L, 1521939600000L};
+  private static final String[] ZONES = {"UTC", "Europe/Berlin", "America/St_Johns", "Asia/Kolkata"};
+
+  @Test
+  public void testDatatypeFactoryIsShared() {
+    assertSame(XMLGregorianCalendarUtils.getDatatypeFactory(), XMLGregorianCalendarUtils.getDatatypeFactory());
+  }
+
+  @Test
+  public void testFromMillisMatchesGregorianCalendarConversion() {
+    for (String zone : ZONES) {
+      TimeZone timeZone = TimeZone.getTimeZone(zone);
+      for (long millis : INSTANTS) {
+        GregorianCalendar calendar = new GregorianCalendar(timeZone);
+        calendar.setTimeInMillis(millis);
+        XMLGregorianCalendar expected = XMLGregorianCalendarUtils.getDatatypeFactory().newXMLGregorianCalendar(calendar);
+
+        XMLGregorianCalendar actual = XMLGregorianCalendarUtils.fromMillis(millis, timeZone);
+
+        assertEquals(zone + " " + millis, expected.toXMLFormat(), actual.toXMLFormat());
+      }
+    }
+  }
+
+  @Test
+  public void testToMillisMatchesGregorianCalendarConversion() {
+    for (String zone : ZONES) {
+      TimeZone timeZone = TimeZone.getTimeZone(zone);
+      for (long millis : INSTANTS) {
+        GregorianCalendar calendar = new GregorianCalendar(timeZone);
+        calendar.setGregorianChange(new java.util.Date(Long.MIN_VALUE));
+        calendar.setTimeInMillis(millis);
+        XMLGregorianCalendar xmlCalendar = XMLGregorianCalendarUtils.getDatatypeFactory().newXMLGregorianCalendar(calendar);
+
+        assertEquals(zone + " " + millis, xmlCalendar.toGregorianCalendar().getTimeInMillis(),
+            XMLGregorianCalendarUtils.toMillis(xmlCalendar));
+      }
+    }
+  }
+
+  @Test
+  public void testToMillisOfPartialCalendar() {
+    XMLGregorianCalendar date = XMLGregorianCalendarUtils.getDatatypeFactory()
+        .newXMLGregorianCalendarDate(2017, 3, 26, DatatypeConstants.FIELD_UNDEFINED);
+
+    assertEquals(date.toGregorianCalendar().getTimeInMillis(), XMLGregorianCalendarUtils.toMillis(date));
+  }
+
+}
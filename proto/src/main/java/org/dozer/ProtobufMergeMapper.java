@@ -0,0 +1,54 @@
+/**
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer;
+
+import com.google.protobuf.Message;
+
+import org.dozer.builder.ProtoBeanBuilder;
+
+/**
+ * Maps beans into existing protobuf messages and builders. Mapped fields are written to the builder one by one, fields
+ * not mapped from the source keep their current values, null source values clear the field and nested messages are
+ * updated through their nested builders. Unlike {@link Message.Builder#mergeFrom(Message)} repeated fields set by the
+ * mapping replace the current elements instead of being appended to them. Required fields are not verified, so partial
+ * updates of incomplete messages are possible.
+ */
+public class ProtobufMergeMapper {
+
+  private final Mapper mapper;
+
+  public ProtobufMergeMapper(Mapper mapper) {
+    this.mapper = mapper;
+  }
+
+  /**
+   * @return copy of {@code existing} updated with values mapped from {@code source}
+   */
+  public <T extends Message> T map(Object source, T existing) {
+    Message.Builder builder = existing.toBuilder();
+    map(source, builder);
+    return (T) builder.buildPartial();
+  }
+
+  /**
+   * Updates {@code builder} in place with values mapped from {@code source}.
+   */
+  public void map(Object source, Message.Builder builder) {
+    Class<? extends Message> messageClass = builder.getDefaultInstanceForType().getClass();
+    mapper.map(source, new ProtoBeanBuilder(builder, messageClass));
+  }
+
+}
@@ -0,0 +1,399 @@
+/**
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.Message;
+import com.google.protobuf.UninitializedMessageException;
+
+import org.apache.commons.lang3.ClassUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.dozer.classmap.ClassMap;
+import org.dozer.converters.DateFormatContainer;
+import org.dozer.converters.PrimitiveOrWrapperConverter;
+import org.dozer.factory.DestBeanCreator;
+import org.dozer.fieldmap.ExcludeFieldMap;
+import org.dozer.fieldmap.FieldMap;
+import org.dozer.fieldmap.GenericFieldMap;
+import org.dozer.util.DozerConstants;
+import org.dozer.util.MappingUtils;
+import org.dozer.util.ProtoUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Maps protobuf messages from their wire format into beans without parsing message objects. Fields are decoded one by
+ * one, values of mapped fields are looked up by their tags and written to the destination bean following the class
+ * map of the wrapped mapper, other fields are skipped without being decoded.
+ * <p>
+ * Streaming covers class maps of singular scalar, string and enum fields without custom converters. Messages mapped
+ * by other class maps, or by mappers with event listeners or custom field mapper, are parsed and mapped by the
+ * wrapped mapper instead. As when parsing messages the last occurrence of a field wins, unknown enum numbers are
+ * ignored and missing required fields are reported by {@link UninitializedMessageException}. Mapping statistics are
+ * not collected for streamed messages.
+ */
+public class ProtobufStreamMapper {
+
+  private static final Logger log = LoggerFactory.getLogger(ProtobufStreamMapper.class);
+
+  // WireFormat does not expose it
+  private static final int TAG_TYPE_BITS = 3;
+
+  // ConcurrentHashMap does not allow null values, so messages which can not be streamed are recorded with a marker
+  private static final Object NOT_STREAMABLE = new Object();
+
+  // marks fields which are read only to verify their presence
+  private static final Object PRESENT = new Object();
+
+  private final DozerBeanMapper mapper;
+  private final PrimitiveOrWrapperConverter primitiveConverter = new PrimitiveOrWrapperConverter();
+  private final ConcurrentMap<List<Object>, Object> plans = new ConcurrentHashMap<List<Object>, Object>();
+
+  public ProtobufStreamMapper(DozerBeanMapper mapper) {
+    this.mapper = mapper;
+  }
+
+  /**
+   * Reads message of the given class until the end of input and maps it into new instance of destination class.
+   */
+  public <T> T map(CodedInputStream input, Class<? extends Message> messageClass, Class<T> destClass)
+      throws IOException {
+    return map(input, messageClass, destClass, null);
+  }
+
+  /**
+   * Same as {@link #map(CodedInputStream, Class, Class)} using mapping with the given id.
+   */
+  public <T> T map(CodedInputStream input, Class<? extends Message> messageClass, Class<T> destClass, String mapId)
+      throws IOException {
+    StreamPlan plan = getPlan(messageClass, destClass, mapId);
+    if (plan == null) {
+      return mapper.map(parse(input, messageClass), destClass, mapId);
+    }
+    T destination = DestBeanCreator.create(destClass);
+    plan.map(input, destination);
+    return destination;
+  }
+
+  /**
+   * Reads message of the given class until the end of input and maps it into existing destination object.
+   */
+  public void map(CodedInputStream input, Class<? extends Message> messageClass, Object destination)
+      throws IOException {
+    map(input, messageClass, destination, null);
+  }
+
+  /**
+   * Same as {@link #map(CodedInputStream, Class, Object)} using mapping with the given id.
+   */
+  public void map(CodedInputStream input, Class<? extends Message> messageClass, Object destination, String mapId)
+      throws IOException {
+    StreamPlan plan = getPlan(messageClass, destination.getClass(), mapId);
+    if (plan == null) {
+      mapper.map(parse(input, messageClass), destination, mapId);
+    } else {
+      plan.map(input, destination);
+    }
+  }
+
+  /**
+   * Reads next length delimited message, as written by {@link Message#writeDelimitedTo}, and maps it into new
+   * instance of destination class. Messages of a stream can be mapped one after another this way.
+   *
+   * @return mapped object or null at the end of input
+   */
+  public <T> T mapDelimited(CodedInputStream input, Class<? extends Message> messageClass, Class<T> destClass)
+      throws IOException {
+    if (input.isAtEnd()) {
+      return null;
+    }
+    int oldLimit = input.pushLimit(input.readRawVarint32());
+    T result = map(input, messageClass, destClass);
+    input.popLimit(oldLimit);
+    return result;
+  }
+
+  private static Message parse(CodedInputStream input, Class<? extends Message> messageClass) throws IOException {
+    Message.Builder builder = ProtoUtils.getBuilder(messageClass);
+    builder.mergeFrom(input);
+    return builder.build();
+  }
+
+  /**
+   * @return plan for streaming messages of the given class into destination class or null if they have to be parsed
+   */
+  private StreamPlan getPlan(Class<? extends Message> messageClass, Class<?> destClass, String mapId) {
+    if (!mapper.getEventListeners().isEmpty() || mapper.getCustomFieldMapper() != null) {
+      return null;
+    }
+    List<Object> key = Arrays.<Object>asList(messageClass, destClass, mapId);
+    Object result = plans.get(key);
+    if (result == null) {
+      result = createPlan(messageClass, destClass, mapId);
+      if (result == null) {
+        result = NOT_STREAMABLE;
+      }
+      plans.putIfAbsent(key, result);
+    }
+    return result != NOT_STREAMABLE ? (StreamPlan) result : null;
+  }
+
+  private StreamPlan createPlan(Class<? extends Message> messageClass, Class<?> destClass, String mapId) {
+    if (Message.class.isAssignableFrom(destClass)) {
+      // messages are built through builders
+      return null;
+    }
+    ClassMap classMap = mapper.getStandaloneClassMap(messageClass, destClass, mapId);
+    if (classMap == null || classMap.getCustomConverters().findConverter(messageClass, destClass) != null
+        || !MappingUtils.isBlankOrNull(classMap.getDestClassBeanFactory())
+        || !MappingUtils.isBlankOrNull(classMap.getDestClassCreateMethod())) {
+      return null;
+    }
+
+    List<Descriptors.FieldDescriptor> fields = new ArrayList<Descriptors.FieldDescriptor>();
+    List<FieldTarget> targets = new ArrayList<FieldTarget>();
+    for (FieldMap fieldMap : classMap.getFieldMaps()) {
+      if (fieldMap instanceof ExcludeFieldMap) {
+        continue;
+      }
+      Descriptors.FieldDescriptor field = isStreamable(fieldMap)
+          ? ProtoUtils.getFieldDescriptor(messageClass, fieldMap.getSrcFieldName()) : null;
+      if (field == null || !isStreamable(field)) {
+        return null;
+      }
+      Class<?> srcType = ProtoUtils.getJavaClass(field);
+      Class<?> destType = fieldMap.getDestFieldType(destClass);
+      boolean convert = primitiveConverter.accepts(srcType) || primitiveConverter.accepts(destType);
+      if ((!convert && !MappingUtils.isEnumType(srcType, destType))
+          || classMap.getCustomConverters().findConverter(srcType, ClassUtils.primitiveToWrapper(destType)) != null) {
+        return null;
+      }
+      if (!fields.contains(field)) {
+        fields.add(field);
+      }
+      targets.add(new FieldTarget(fieldMap, field, destType, convert));
+    }
+    // required fields are verified even if they are not mapped
+    for (Descriptors.FieldDescriptor field : ProtoUtils.getFieldDescriptors(messageClass)) {
+      if (field.isRequired() && !fields.contains(field)) {
+        fields.add(field);
+      }
+    }
+    return new StreamPlan(fields, targets);
+  }
+
+  private static boolean isStreamable(FieldMap fieldMap) {
+    return fieldMap.getClass() == GenericFieldMap.class
+        && MappingUtils.isBlankOrNull(fieldMap.getCustomConverter())
+        && MappingUtils.isBlankOrNull(fieldMap.getCustomConverterId())
+        && !MappingUtils.isDeepMapping(fieldMap.getSrcFieldName())
+        && !MappingUtils.isDeepMapping(fieldMap.getDestFieldName())
+        && !DozerConstants.SELF_KEYWORD.equals(fieldMap.getSrcFieldName())
+        && !fieldMap.isSrcFieldIndexed() && !fieldMap.isDestFieldIndexed()
+        && !fieldMap.isSrcFieldAccessible() && fieldMap.getSrcFieldTheGetMethod() == null
+        && fieldMap.getSrcFieldMapGetMethod() == null && fieldMap.getSrcFieldKey() == null
+        && fieldMap.getDestHintContainer() == null && !fieldMap.isCopyByReference()
+        && !DozerConstants.ITERATE.equals(fieldMap.getDestFieldType());
+  }
+
+  private static boolean isStreamable(Descriptors.FieldDescriptor field) {
+    if (field.isRepeated()) {
+      return false;
+    }
+    switch (field.getType()) {
+      case GROUP:
+      case MESSAGE:
+      case BYTES:
+        return false;
+      default:
+        return true;
+    }
+  }
+
+  private static int getTag(Descriptors.FieldDescriptor field) {
+    return field.getNumber() << TAG_TYPE_BITS | field.getLiteType().getWireType();
+  }
+
+  /**
+   * Decodes value of the field, returns null for unknown enum numbers
+   */
+  private static Object readValue(CodedInputStream input, Descriptors.FieldDescriptor field) throws IOException {
+    switch (field.getType()) {
+      case DOUBLE  : return input.readDouble();
+      case FLOAT   : return input.readFloat();
+      case INT64   : return input.readInt64();
+      case UINT64  : return input.readUInt64();
+      case INT32   : return input.readInt32();
+      case FIXED64 : return input.readFixed64();
+      case FIXED32 : return input.readFixed32();
+      case BOOL    : return input.readBool();
+      case STRING  : return input.readString();
+      case UINT32  : return input.readUInt32();
+      case SFIXED32: return input.readSFixed32();
+      case SFIXED64: return input.readSFixed64();
+      case SINT32  : return input.readSInt32();
+      case SINT64  : return input.readSInt64();
+      case ENUM    :
+        Descriptors.EnumValueDescriptor value = field.getEnumType().findValueByNumber(input.readEnum());
+        return value != null ? ProtoUtils.unwrapEnums(value) : null;
+      default      : throw new IllegalStateException("Field can not be streamed: " + field.getFullName());
+    }
+  }
+
+  private static final class StreamPlan {
+
+    // tags of decoded fields in ascending order
+    private final int[] tags;
+    private final Descriptors.FieldDescriptor[] fields;
+    // fields which are only checked for presence are not decoded
+    private final boolean[] mapped;
+    private final FieldTarget[] targets;
+
+    StreamPlan(List<Descriptors.FieldDescriptor> fieldList, List<FieldTarget> targetList) {
+      int[] sortedTags = new int[fieldList.size()];
+      for (int i = 0; i < sortedTags.length; i++) {
+        sortedTags[i] = getTag(fieldList.get(i));
+      }
+      Arrays.sort(sortedTags);
+      this.tags = sortedTags;
+      this.fields = new Descriptors.FieldDescriptor[sortedTags.length];
+      for (Descriptors.FieldDescriptor field : fieldList) {
+        fields[Arrays.binarySearch(sortedTags, getTag(field))] = field;
+      }
+      this.targets = targetList.toArray(new FieldTarget[targetList.size()]);
+      this.mapped = new boolean[sortedTags.length];
+      for (FieldTarget target : targets) {
+        target.valueIndex = Arrays.binarySearch(sortedTags, getTag(target.field));
+        mapped[target.valueIndex] = true;
+      }
+    }
+
+    void map(CodedInputStream input, Object destination) throws IOException {
+      Object[] values = new Object[tags.length];
+      int tag;
+      while ((tag = input.readTag()) != 0) {
+        int index = Arrays.binarySearch(tags, tag);
+        if (index < 0) {
+          // unknown fields and fields sent with unexpected wire type are not mapped as with parsed messages
+          input.skipField(tag);
+        } else if (mapped[index]) {
+          Object value = readValue(input, fields[index]);
+          if (value != null) {
+            values[index] = value;
+          }
+        } else {
+          input.skipField(tag);
+          values[index] = PRESENT;
+        }
+      }
+      verifyRequiredFields(values);
+      for (FieldTarget target : targets) {
+        target.write(destination, values[target.valueIndex]);
+      }
+    }
+
+    private void verifyRequiredFields(Object[] values) {
+      List<String> missingFields = null;
+      for (int i = 0; i < fields.length; i++) {
+        if (values[i] == null && fields[i].isRequired()) {
+          if (missingFields == null) {
+            missingFields = new ArrayList<String>();
+          }
+          missingFields.add(fields[i].getName());
+        }
+      }
+      if (missingFields != null) {
+        throw new UninitializedMessageException(missingFields);
+      }
+    }
+  }
+
+  private final class FieldTarget {
+
+    private final FieldMap fieldMap;
+    private final Descriptors.FieldDescriptor field;
+    private final Class<?> destType;
+    private final boolean convert;
+    private int valueIndex;
+
+    FieldTarget(FieldMap fieldMap, Descriptors.FieldDescriptor field, Class<?> destType, boolean convert) {
+      this.fieldMap = fieldMap;
+      this.field = field;
+      this.destType = destType;
+      this.convert = convert;
+    }
+
+    /**
+     * Writes field value as MappingProcessor does after reading it from the parsed message
+     */
+    void write(Object destination, Object srcValue) {
+      try {
+        Object value = convert(destination, srcValue);
+        // don't map null if map-null="false" and "" if map-empty-string="false"
+        if (value == null && !fieldMap.isDestMapNull()
+            || value instanceof String && !fieldMap.isDestMapEmptyString() && StringUtils.isEmpty((String) value)) {
+          return;
+        }
+        if (value instanceof String && fieldMap.isTrimStrings()) {
+          value = ((String) value).trim();
+        }
+        fieldMap.writeDestValue(destination, value);
+      } catch (RuntimeException e) {
+        handleError(e);
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object convert(Object destination, Object srcValue) {
+      if (srcValue == null || srcValue == PRESENT) {
+        return null;
+      }
+      if (!convert) {
+        return Enum.valueOf((Class<Enum>) destType, ((Enum<?>) srcValue).name());
+      }
+      Object convertValue = srcValue;
+      if (fieldMap.isTrimStrings() && srcValue instanceof String) {
+        convertValue = ((String) srcValue).trim();
+      }
+      return primitiveConverter.convert(convertValue, destType, new DateFormatContainer(fieldMap.getDateFormat()),
+          fieldMap.getDestFieldName(), destination);
+    }
+
+    private void handleError(RuntimeException e) {
+      log.error("Field mapping error while streaming protobuf field " + field.getFullName() + " into "
+          + fieldMap.getDestFieldName(), e);
+      if (fieldMap.isStopOnErrors()) {
+        MappingUtils.throwMappingException(e);
+      } else if (e.getCause() instanceof InvocationTargetException) {
+        // check if any Exceptions should be allowed to be thrown
+        Throwable thrownType = ((InvocationTargetException) e.getCause()).getTargetException();
+        if (fieldMap.getClassMap().getAllowedExceptions().contains(thrownType.getClass())) {
+          throw (RuntimeException) thrownType;
+        }
+      }
+    }
+  }
+
+}
@@ -15,10 +15,16 @@
  */
 package org.dozer;
 
+import java.nio.ByteBuffer;
+
+import com.google.protobuf.ByteString;
+
 import org.dozer.builder.ByProtobufBuilder;
 import org.dozer.builder.DestBeanBuilderCreator;
 import org.dozer.classmap.generator.BeanMappingGenerator;
 import org.dozer.classmap.generator.ProtobufBeanFieldsDetector;
+import org.dozer.converters.ByteStringConverter;
+import org.dozer.loader.CustomMappingsLoader;
 import org.dozer.propertydescriptor.PropertyDescriptorFactory;
 import org.dozer.propertydescriptor.ProtoFieldPropertyDescriptorCreationStrategy;
 
@@ -30,5 +36,7 @@ public class ProtobufSupportModule implements DozerModule {
     DestBeanBuilderCreator.addPluggedStrategy(new ByProtobufBuilder());
     PropertyDescriptorFactory.addPluggedPropertyDescriptorCreationStrategy(new ProtoFieldPropertyDescriptorCreationStrategy());
     BeanMappingGenerator.addPluggedFieldDetector(new ProtobufBeanFieldsDetector());
+    CustomMappingsLoader.addPluggedDefaultConverter(ByteString.class, byte[].class, ByteStringConverter.class);
+    CustomMappingsLoader.addPluggedDefaultConverter(ByteString.class, ByteBuffer.class, ByteStringConverter.class);
   }
 }
@@ -15,9 +15,17 @@
  */
 package org.dozer.builder;
 
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import com.google.protobuf.Descriptors;
 import com.google.protobuf.Message;
 
 import org.dozer.BeanBuilder;
+import org.dozer.util.MappingUtils;
+import org.dozer.util.ProtoUtils;
 
 /**
  * @author Dmitry Spikhalskiy
@@ -39,6 +47,78 @@ public class ProtoBeanBuilder implements BeanBuilder {
     return internalProtoBuilder;
   }
 
+  /**
+   * Replaces content of repeated field. Generated {@code addAllXxx} method is used when available, as reflective
+   * {@link Message.Builder#setField} adds elements one by one. Elements are type checked up front, as generated
+   * builders do not verify them.
+   */
+  public void setRepeatedField(Descriptors.FieldDescriptor descriptor, Collection<?> values) {
+    Collection<?> elements = descriptor.getJavaType() == Descriptors.FieldDescriptor.JavaType.BYTE_STRING
+        ? toByteStrings(values) : values;
+    Method addAllMethod = descriptor.getJavaType() == Descriptors.FieldDescriptor.JavaType.ENUM
+        ? null : ProtoUtils.getAddAllMethod(beanClass, descriptor);
+    if (addAllMethod == null) {
+      internalProtoBuilder.setField(descriptor, ProtoUtils.wrapEnums(elements));
+      return;
+    }
+    Class<?> elementType = ProtoUtils.getJavaGenericClassForCollection(descriptor);
+    for (Object element : elements) {
+      if (!elementType.isInstance(element)) {
+        MappingUtils.throwMappingException("Repeated field " + descriptor.getFullName() + " expects elements of type "
+            + elementType.getName() + ", got: " + (element == null ? null : element.getClass().getName()));
+      }
+    }
+    internalProtoBuilder.clearField(descriptor);
+    try {
+      addAllMethod.invoke(internalProtoBuilder, elements);
+    } catch (Exception e) {
+      MappingUtils.throwMappingException(e);
+    }
+  }
+
+  /**
+   * Returns builder of nested message field, which maps into the current field value instead of replacing it.
+   *
+   * @return builder or null if the field is not set
+   */
+  public ProtoBeanBuilder getFieldBuilder(Descriptors.FieldDescriptor descriptor) {
+    if (!internalProtoBuilder.hasField(descriptor)) {
+      return null;
+    }
+    Message.Builder nestedBuilder;
+    try {
+      nestedBuilder = internalProtoBuilder.getFieldBuilder(descriptor);
+    } catch (UnsupportedOperationException e) {
+      // nested builders are not exposed by every message implementation, setFieldBuilder writes the copy back
+      nestedBuilder = ((Message) internalProtoBuilder.getField(descriptor)).toBuilder();
+    }
+    return new ProtoBeanBuilder(nestedBuilder, (Class<? extends Message>) ProtoUtils.getJavaClass(descriptor));
+  }
+
+  /**
+   * Sets nested message field to content of given builder. Fields of messages which may be incomplete yet are not
+   * verified.
+   */
+  public void setFieldBuilder(Descriptors.FieldDescriptor descriptor, ProtoBeanBuilder nestedBuilder) {
+    try {
+      if (internalProtoBuilder.getFieldBuilder(descriptor) == nestedBuilder.internalProtoBuilder()) {
+        // builder obtained by getFieldBuilder, its changes are already part of this builder
+        return;
+      }
+    } catch (UnsupportedOperationException e) {
+      // no nested builders, so given one is a detached copy
+    }
+    internalProtoBuilder.setField(descriptor, nestedBuilder.internalProtoBuilder().buildPartial());
+  }
+
+  private static Collection<?> toByteStrings(Collection<?> values) {
+    List<Object> result = new ArrayList<Object>(values.size());
+    for (Object value : values) {
+      result.add(ProtoUtils.toByteString(value));
+    }
+    return result;
+  }
+
   public Object build() {
     return internalProtoBuilder.build();
   }
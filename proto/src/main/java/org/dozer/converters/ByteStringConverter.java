@@ -0,0 +1,58 @@
+/**
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.converters;
+
+import java.nio.ByteBuffer;
+
+import com.google.protobuf.ByteString;
+
+import org.dozer.CustomConverter;
+import org.dozer.MappingException;
+import org.dozer.util.ProtoUtils;
+
+/**
+ * Converts protobuf {@link ByteString} from and to {@code byte[]} and {@link ByteBuffer}. Conversion to
+ * {@link ByteBuffer} returns read-only view of the {@link ByteString} content without copying it.
+ * <p>
+ * Registered by default by {@link org.dozer.ProtobufSupportModule}, custom-converters section of mapping files
+ * can override it for any of these pairs.
+ */
+public class ByteStringConverter implements CustomConverter {
+
+  public Object convert(Object existingDestinationFieldValue, Object sourceFieldValue, Class<?> destinationClass,
+                        Class<?> sourceClass) {
+    if (sourceFieldValue == null) {
+      return null;
+    }
+    if (ByteString.class.isAssignableFrom(destinationClass)) {
+      return ProtoUtils.toByteString(sourceFieldValue);
+    }
+    if (!(sourceFieldValue instanceof ByteString)) {
+      throw new MappingException("Source Type (" + sourceFieldValue.getClass().getName()
+          + ") is not accepted by this Custom Converter (" + getClass().getName() + ")!");
+    }
+    ByteString source = (ByteString) sourceFieldValue;
+    if (byte[].class.equals(destinationClass)) {
+      return source.toByteArray();
+    }
+    if (ByteBuffer.class.isAssignableFrom(destinationClass)) {
+      return source.asReadOnlyByteBuffer();
+    }
+    throw new MappingException("Destination Type (" + destinationClass.getName()
+        + ") is not accepted by this Custom Converter (" + getClass().getName() + ")!");
+  }
+
+}
@@ -15,6 +15,8 @@
  */
 package org.dozer.propertydescriptor;
 
+import java.util.Collection;
+
 import com.google.protobuf.Descriptors;
 import com.google.protobuf.Message;
 
@@ -82,15 +84,25 @@ public class ProtoFieldPropertyDescriptor extends AbstractPropertyDescriptor {
   }
 
   private Object getSimplePropertyValue(Object bean) {
-    //proto builder can't contains already created object and even if contain - it's fields can't be changed
-    if (bean instanceof BeanBuilder) return null;
+    if (bean instanceof BeanBuilder) {
+      // nested messages of builder are exposed through their builders, so that mapping updates them in place
+      Descriptors.FieldDescriptor descriptor = getFieldDescriptor();
+      if (bean instanceof ProtoBeanBuilder && !descriptor.isRepeated()
+          && descriptor.getJavaType() == Descriptors.FieldDescriptor.JavaType.MESSAGE) {
+        return ((ProtoBeanBuilder) bean).getFieldBuilder(descriptor);
+      }
+      //other values held by builder are never updated in place
+      return null;
+    }
     if (!(bean instanceof Message)) {
       MappingUtils.throwMappingException("Try to pass non proto object to ProtoFieldPropertyDescriptor");
     }
     Message message = (Message)bean;
 
-    Object value = ProtoUtils.getFieldValue(message, fieldName);
-    return ProtoUtils.unwrapEnums(value);
+    Descriptors.FieldDescriptor descriptor = getFieldDescriptor();
+    Object value = ProtoUtils.getFieldValue(message, descriptor);
+    // repeated fields of other types are passed on as the immutable lists held by message
+    return descriptor.getJavaType() == Descriptors.FieldDescriptor.JavaType.ENUM ? ProtoUtils.unwrapEnums(value) : value;
   }
 
   @Override
@@ -98,11 +110,17 @@ public class ProtoFieldPropertyDescriptor extends AbstractPropertyDescriptor {
     if (!(bean instanceof ProtoBeanBuilder)) MappingUtils.throwMappingException("should be a ProtoBeanBuilder instance");
     ProtoBeanBuilder builder = (ProtoBeanBuilder)bean;
 
-    value = ProtoUtils.wrapEnums(value);
-    if (value != null) {
-      builder.internalProtoBuilder().setField(getFieldDescriptor(), value);
+    Descriptors.FieldDescriptor descriptor = getFieldDescriptor();
+    if (value == null) {
+      builder.internalProtoBuilder().clearField(descriptor);
+    } else if (value instanceof ProtoBeanBuilder) {
+      builder.setFieldBuilder(descriptor, (ProtoBeanBuilder) value);
+    } else if (descriptor.isRepeated() && value instanceof Collection) {
+      builder.setRepeatedField(descriptor, (Collection<?>) value);
+    } else if (descriptor.getJavaType() == Descriptors.FieldDescriptor.JavaType.BYTE_STRING) {
+      builder.internalProtoBuilder().setField(descriptor, ProtoUtils.toByteString(value));
     } else {
-      builder.internalProtoBuilder().clearField(getFieldDescriptor());
+      builder.internalProtoBuilder().setField(descriptor, ProtoUtils.wrapEnums(value));
     }
   }
 
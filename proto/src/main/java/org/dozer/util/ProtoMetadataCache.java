@@ -0,0 +1,160 @@
+/**
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.util;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.Message;
+
+/**
+ * Internal cache of protobuf metadata. Holds per message class its descriptor, prototype instance and field
+ * descriptors by name, resolved Java types of fields and Java enum constants of enum descriptors. Only intended
+ * for internal use.
+ */
+final class ProtoMetadataCache {
+
+  private static final ClassValue<MessageMetadata> MESSAGES = new ClassValue<MessageMetadata>() {
+    @Override
+    protected MessageMetadata computeValue(Class<?> type) {
+      return new MessageMetadata(type);
+    }
+  };
+
+  private static final ConcurrentMap<Descriptors.FieldDescriptor, Class<?>> JAVA_TYPES =
+      new ConcurrentHashMap<Descriptors.FieldDescriptor, Class<?>>();
+  private static final ConcurrentMap<Descriptors.EnumDescriptor, EnumMetadata> ENUMS =
+      new ConcurrentHashMap<Descriptors.EnumDescriptor, EnumMetadata>();
+
+  private ProtoMetadataCache() {
+  }
+
+  static MessageMetadata getMessage(Class<? extends Message> clazz) {
+    return MESSAGES.get(clazz);
+  }
+
+  static Class<?> getJavaType(Descriptors.FieldDescriptor descriptor) {
+    Class<?> result = JAVA_TYPES.get(descriptor);
+    if (result == null) {
+      result = ProtoUtils.resolveJavaClassIgnoreRepeated(descriptor);
+      JAVA_TYPES.putIfAbsent(descriptor, result);
+    }
+    return result;
+  }
+
+  static EnumMetadata getEnum(Descriptors.EnumDescriptor descriptor) {
+    EnumMetadata result = ENUMS.get(descriptor);
+    if (result == null) {
+      result = new EnumMetadata(descriptor, ProtoUtils.resolveEnumClass(descriptor));
+      ENUMS.putIfAbsent(descriptor, result);
+    }
+    return result;
+  }
+
+  static final class MessageMetadata {
+
+    // ConcurrentHashMap does not allow null values, so missing methods are recorded with a marker
+    private static final Object NOT_FOUND = new Object();
+
+    private final Message prototype;
+    private final Descriptors.Descriptor descriptor;
+    private final Map<String, Descriptors.FieldDescriptor> fieldsByName;
+    private final ConcurrentMap<Descriptors.FieldDescriptor, Object> addAllMethods =
+        new ConcurrentHashMap<Descriptors.FieldDescriptor, Object>();
+
+    MessageMetadata(Class<?> type) {
+      Message defaultInstance = null;
+      try {
+        Method newBuilderMethod = type.getMethod("newBuilder");
+        defaultInstance = ((Message.Builder) newBuilderMethod.invoke(null)).getDefaultInstanceForType();
+      } catch (Exception e) {
+        MappingUtils.throwMappingException(e);
+      }
+      this.prototype = defaultInstance;
+      this.descriptor = defaultInstance.getDescriptorForType();
+
+      List<Descriptors.FieldDescriptor> fields = descriptor.getFields();
+      Map<String, Descriptors.FieldDescriptor> byName = new HashMap<String, Descriptors.FieldDescriptor>(fields.size() * 2);
+      for (Descriptors.FieldDescriptor field : fields) {
+        byName.put(field.getName(), field);
+      }
+      this.fieldsByName = Collections.unmodifiableMap(byName);
+    }
+
+    Message.Builder newBuilder() {
+      return prototype.newBuilderForType();
+    }
+
+    Descriptors.Descriptor getDescriptor() {
+      return descriptor;
+    }
+
+    Descriptors.FieldDescriptor getField(String name) {
+      return fieldsByName.get(name);
+    }
+
+    Method getAddAllMethod(Descriptors.FieldDescriptor field) {
+      Object result = addAllMethods.get(field);
+      if (result == null) {
+        try {
+          result = prototype.newBuilderForType().getClass()
+              .getMethod("addAll" + ProtoUtils.toCamelCase(field.getName()), Iterable.class);
+        } catch (NoSuchMethodException e) {
+          result = NOT_FOUND;
+        }
+        addAllMethods.putIfAbsent(field, result);
+      }
+      return result == NOT_FOUND ? null : (Method) result;
+    }
+
+  }
+
+  static final class EnumMetadata {
+
+    private final Class<? extends Enum> enumClass;
+    // Java constants indexed by position of value descriptor within its enum type, null if there is no match
+    private final Enum[] constantsByIndex;
+
+    EnumMetadata(Descriptors.EnumDescriptor descriptor, Class<? extends Enum> enumClass) {
+      this.enumClass = enumClass;
+      List<Descriptors.EnumValueDescriptor> values = descriptor.getValues();
+      this.constantsByIndex = new Enum[values.size()];
+      for (Enum constant : enumClass.getEnumConstants()) {
+        Descriptors.EnumValueDescriptor value = descriptor.findValueByName(constant.name());
+        if (value != null && constantsByIndex[value.getIndex()] == null) {
+          constantsByIndex[value.getIndex()] = constant;
+        }
+      }
+    }
+
+    Class<? extends Enum> getEnumClass() {
+      return enumClass;
+    }
+
+    Enum toJavaEnum(Descriptors.EnumValueDescriptor value) {
+      int index = value.getIndex();
+      return index < constantsByIndex.length ? constantsByIndex[index] : null;
+    }
+
+  }
+
+}
@@ -16,8 +16,8 @@
 package org.dozer.util;
 
 import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -34,22 +34,11 @@ import org.apache.commons.lang3.StringUtils;
  */
 public class ProtoUtils {
   public static Message.Builder getBuilder(Class<? extends Message> clazz) {
-    final Message.Builder protoBuilder;
-    try {
-      Method newBuilderMethod = clazz.getMethod("newBuilder");
-      protoBuilder = (Message.Builder)newBuilderMethod.invoke(null);
-    } catch (Exception e) {
-      MappingUtils.throwMappingException(e);
-      return null;
-    }
-
-    return protoBuilder;
+    return ProtoMetadataCache.getMessage(clazz).newBuilder();
   }
 
   public static List<Descriptors.FieldDescriptor> getFieldDescriptors(Class<? extends Message> clazz) {
-    Message.Builder protoBuilder = getBuilder(clazz);
-
-    return getFieldDescriptors(protoBuilder);
+    return ProtoMetadataCache.getMessage(clazz).getDescriptor().getFields();
   }
 
   public static List<Descriptors.FieldDescriptor> getFieldDescriptors(Message.Builder protoBuilder) {
@@ -57,16 +46,22 @@ public class ProtoUtils {
   }
 
   public static Descriptors.FieldDescriptor getFieldDescriptor(Class<? extends Message> clazz, String fieldName) {
-    final List<Descriptors.FieldDescriptor> protoFieldDescriptors = getFieldDescriptors(clazz);
+    return ProtoMetadataCache.getMessage(clazz).getField(fieldName);
+  }
 
-    Descriptors.FieldDescriptor foundDescriptor = null;
-    for (Descriptors.FieldDescriptor descriptor : protoFieldDescriptors) {
-      if (fieldName.equals(descriptor.getName())) {
-        foundDescriptor = descriptor;
-      }
+  /**
+   * Reads field value directly by its descriptor. As with {@link Message#getAllFields()} unset fields and empty
+   * repeated fields are reported as null.
+   */
+  public static Object getFieldValue(Message message, Descriptors.FieldDescriptor descriptor) {
+    if (descriptor.getContainingType() != message.getDescriptorForType()) {
+      // descriptor was resolved against another message type, fall back to lookup by name
+      return getFieldValue(message, descriptor.getName());
     }
-
-    return foundDescriptor;
+    if (descriptor.isRepeated()) {
+      return message.getRepeatedFieldCount(descriptor) > 0 ? message.getField(descriptor) : null;
+    }
+    return message.hasField(descriptor) ? message.getField(descriptor) : null;
   }
 
   public static Object getFieldValue(Message message, String fieldName) {
@@ -91,6 +86,10 @@ public class ProtoUtils {
   }
 
   private static Class<?> getJavaClassIgnoreRepeated(final Descriptors.FieldDescriptor descriptor) {
+    return ProtoMetadataCache.getJavaType(descriptor);
+  }
+
+  static Class<?> resolveJavaClassIgnoreRepeated(final Descriptors.FieldDescriptor descriptor) {
     switch (descriptor.getJavaType()) {
       case INT        : return Integer.class;
       case LONG       : return Long.class;
@@ -116,21 +115,35 @@ public class ProtoUtils {
   }
 
   private static Class<? extends Enum> getEnumClassByEnumDescriptor(Descriptors.EnumDescriptor descriptor) {
+    return ProtoMetadataCache.getEnum(descriptor).getEnumClass();
+  }
+
+  static Class<? extends Enum> resolveEnumClass(Descriptors.EnumDescriptor descriptor) {
     return (Class<? extends Enum>)MappingUtils.loadClass(StringUtils.join(
             getFullyQualifiedClassName(descriptor.getFile().getOptions(), descriptor.getName()), '.'));
   }
 
+  /**
+   * Converts {@code byte[]} or {@link ByteBuffer} to {@link ByteString}, other values are returned as is.
+   */
+  public static Object toByteString(Object value) {
+    if (value instanceof byte[]) {
+      return ByteString.copyFrom((byte[]) value);
+    }
+    if (value instanceof ByteBuffer) {
+      // duplicate keeps position of caller's buffer untouched
+      return ByteString.copyFrom(((ByteBuffer) value).duplicate());
+    }
+    return value;
+  }
+
   public static Object wrapEnums(Object value) {
     if (value instanceof ProtocolMessageEnum) {
       return ((ProtocolMessageEnum) value).getValueDescriptor();
     }
     //there is no other collections using in proto, only list
     if (value instanceof List) {
-      List modifiedList = new ArrayList(((List) value).size());
-      for (Object element : (List)value) {
-        modifiedList.add(wrapEnums(element));
-      }
-      return modifiedList;
+      return translateEnums((List<?>) value, true);
     }
     return value;
   }
@@ -138,20 +151,64 @@ public class ProtoUtils {
   public static Object unwrapEnums(Object value) {
     if (value instanceof Descriptors.EnumValueDescriptor) {
       Descriptors.EnumValueDescriptor descriptor = (Descriptors.EnumValueDescriptor)value;
-      Class<? extends Enum> enumClass = getEnumClassByEnumDescriptor(descriptor.getType());
-      Enum[] enumValues = enumClass.getEnumConstants();
-      for (Enum enumValue : enumValues) {
-        if (((Descriptors.EnumValueDescriptor) value).getName().equals(enumValue.name())) return enumValue;
+      return ProtoMetadataCache.getEnum(descriptor.getType()).toJavaEnum(descriptor);
+    }
+    if (value instanceof List) {
+      return translateEnums((List<?>) value, false);
+    }
+    return value;
+  }
+
+  /**
+   * Translates list elements, the list itself is returned as is if none of its elements had to be translated.
+   */
+  private static List<?> translateEnums(List<?> list, boolean wrap) {
+    List<Object> modifiedList = null;
+    int size = list.size();
+    for (int i = 0; i < size; i++) {
+      Object element = list.get(i);
+      Object translated = wrap ? wrapEnums(element) : unwrapEnums(element);
+      if (modifiedList == null && translated != element) {
+        modifiedList = new ArrayList<Object>(size);
+        modifiedList.addAll(list.subList(0, i));
+      }
+      if (modifiedList != null) {
+        modifiedList.add(translated);
       }
-      return null;
     }
-    if (value instanceof Collection) {
-      List modifiedList = new ArrayList(((List) value).size());
-      for (Object element : (List)value) {
-        modifiedList.add(unwrapEnums(element));
+    return modifiedList != null ? modifiedList : list;
+  }
+
+  /**
+   * Finds generated {@code addAllXxx(Iterable)} method of builder for given repeated field.
+   *
+   * @return method or null if builder has no such method, f.e. for dynamic messages
+   */
+  public static Method getAddAllMethod(Class<? extends Message> messageClass, Descriptors.FieldDescriptor descriptor) {
+    return ProtoMetadataCache.getMessage(messageClass).getAddAllMethod(descriptor);
+  }
+
+  /**
+   * Same rules as protoc uses to derive Java accessor names from field names.
+   */
+  static String toCamelCase(String fieldName) {
+    StringBuilder result = new StringBuilder(fieldName.length());
+    boolean capitalizeNext = true;
+    for (int i = 0; i < fieldName.length(); i++) {
+      char c = fieldName.charAt(i);
+      if ('a' <= c && c <= 'z') {
+        result.append(capitalizeNext ? Character.toUpperCase(c) : c);
+        capitalizeNext = false;
+      } else if ('A' <= c && c <= 'Z') {
+        result.append(c);
+        capitalizeNext = false;
+      } else if ('0' <= c && c <= '9') {
+        result.append(c);
+        capitalizeNext = true;
+      } else {
+        capitalizeNext = true;
       }
-      return modifiedList;
     }
-    return value;
+    return result.toString();
   }
 }
@@ -0,0 +1,58 @@
+/**
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.builder;
+
+import java.util.Arrays;
+
+import com.google.protobuf.Descriptors;
+
+import org.dozer.MappingException;
+import org.dozer.util.ProtoUtils;
+import org.dozer.vo.proto.ProtoTestObjects.ProtobufWithSimpleCollection;
+import org.dozer.vo.proto.ProtoTestObjects.SimpleProtoTestObject;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class ProtoBeanBuilderTest {
+
+  private final ProtoBeanBuilder builder =
+      new ProtoBeanBuilder(ProtobufWithSimpleCollection.newBuilder(), ProtobufWithSimpleCollection.class);
+  private final Descriptors.FieldDescriptor descriptor =
+      ProtoUtils.getFieldDescriptor(ProtobufWithSimpleCollection.class, "object");
+
+  @Test
+  public void setRepeatedField_replacesElements() {
+    SimpleProtoTestObject first = SimpleProtoTestObject.newBuilder().setOne("1").build();
+    SimpleProtoTestObject second = SimpleProtoTestObject.newBuilder().setOne("2").build();
+
+    builder.setRepeatedField(descriptor, Arrays.asList(first));
+    builder.setRepeatedField(descriptor, Arrays.asList(second));
+
+    assertEquals(Arrays.asList(second), ((ProtobufWithSimpleCollection) builder.build()).getObjectList());
+  }
+
+  @Test(expected = MappingException.class)
+  public void setRepeatedField_rejectsElementOfWrongType() {
+    builder.setRepeatedField(descriptor, Arrays.asList("one"));
+  }
+
+  @Test(expected = MappingException.class)
+  public void setRepeatedField_rejectsNullElement() {
+    builder.setRepeatedField(descriptor, Arrays.asList((Object) null));
+  }
+
+}
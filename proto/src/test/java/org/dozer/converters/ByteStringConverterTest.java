@@ -0,0 +1,53 @@
+/**
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.converters;
+
+import java.nio.ByteBuffer;
+
+import com.google.protobuf.ByteString;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ByteStringConverterTest {
+
+  private final ByteStringConverter converter = new ByteStringConverter();
+
+  @Test
+  public void convert_byteStringToByteArrayAndBack() {
+    ByteString source = ByteString.copyFromUtf8("abc");
+
+    byte[] bytes = (byte[]) converter.convert(null, source, byte[].class, ByteString.class);
+    assertArrayEquals(new byte[] {'a', 'b', 'c'}, bytes);
+    assertEquals(source, converter.convert(null, bytes, ByteString.class, byte[].class));
+  }
+
+  @Test
+  public void convert_byteStringToReadOnlyBufferAndBack() {
+    ByteString source = ByteString.copyFromUtf8("abc");
+
+    ByteBuffer buffer = (ByteBuffer) converter.convert(null, source, ByteBuffer.class, ByteString.class);
+    assertTrue(buffer.isReadOnly());
+    assertEquals(3, buffer.remaining());
+
+    assertEquals(source, converter.convert(null, buffer, ByteString.class, ByteBuffer.class));
+    assertEquals("source buffer position should not move", 3, buffer.remaining());
+  }
+
+}
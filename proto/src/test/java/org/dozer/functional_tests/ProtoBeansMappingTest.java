@@ -19,9 +19,13 @@ import java.util.Arrays;
 
 import static junit.framework.Assert.assertFalse;
 
+import com.google.protobuf.ByteString;
+
 import org.dozer.DozerBeanMapper;
 import org.dozer.util.MappingUtils;
 import org.dozer.vo.proto.LiteTestObject;
+import org.dozer.vo.proto.ObjectWithByteString;
+import org.dozer.vo.proto.ObjectWithBytes;
 import org.dozer.vo.proto.ObjectWithCollection;
 import org.dozer.vo.proto.ObjectWithEnumCollection;
 import org.dozer.vo.proto.ObjectWithEnumField;
@@ -221,4 +225,14 @@ public class ProtoBeansMappingTest extends ProtoAbstractTest {
     Assert.assertEquals(1, result.getEnums().size());
     Assert.assertEquals(SimpleEnum.VALUE1, result.getEnums().get(0));
   }
+
+  @Test
+  public void testByteStringConverter_registeredByDefault() {
+    ObjectWithByteString source = new ObjectWithByteString();
+    source.setData(ByteString.copyFromUtf8("abc"));
+
+    ObjectWithBytes result = mapper.map(source, ObjectWithBytes.class);
+    Assert.assertArrayEquals(new byte[] {'a', 'b', 'c'}, result.getData());
+    Assert.assertEquals(source.getData(), mapper.map(result, ObjectWithByteString.class).getData());
+  }
 }
@@ -0,0 +1,153 @@
+/**
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.functional_tests;
+
+import java.util.Arrays;
+
+import com.google.protobuf.DescriptorProtos.DescriptorProto;
+import com.google.protobuf.DescriptorProtos.MessageOptions;
+
+import org.dozer.ProtobufMergeMapper;
+import org.dozer.vo.proto.DescriptorProtoBean;
+import org.dozer.vo.proto.MessageOptionsBean;
+import org.dozer.vo.proto.ObjectWithCollection;
+import org.dozer.vo.proto.ProtoTestObjects.ProtoTestObjectWithNestedProtoObject;
+import org.dozer.vo.proto.ProtoTestObjects.ProtobufWithSimpleCollection;
+import org.dozer.vo.proto.ProtoTestObjects.SimpleProtoTestObject;
+import org.dozer.vo.proto.TestObject;
+import org.dozer.vo.proto.TestObjectContainer;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ProtobufMergeMapperTest extends ProtoAbstractTest {
+  private ProtobufMergeMapper mergeMapper;
+
+  @Before
+  public void setUp() throws Exception {
+    mergeMapper = new ProtobufMergeMapper(getMapper("protoBeansMapping.xml"));
+  }
+
+  @Test
+  public void testMap_intoBuilderSetsFields() {
+    ProtoTestObjectWithNestedProtoObject.Builder builder = ProtoTestObjectWithNestedProtoObject.newBuilder().setOne("Old");
+    TestObject innerSource = new TestObject();
+    innerSource.setOne("NewInner");
+
+    mergeMapper.map(new TestObjectContainer(innerSource, "New"), builder);
+
+    assertEquals("New", builder.getOne());
+    assertEquals("NewInner", builder.getNestedObject().getOne());
+  }
+
+  @Test
+  public void testMap_intoBuilderKeepsUnmappedFields() {
+    ProtoTestObjectWithNestedProtoObject.Builder builder = ProtoTestObjectWithNestedProtoObject.newBuilder()
+        .setOne("Old")
+        .setNestedObject(SimpleProtoTestObject.newBuilder().setOne("Kept"));
+    TestObject source = new TestObject();
+    source.setOne("New");
+
+    mergeMapper.map(source, builder);
+
+    assertEquals("New", builder.getOne());
+    assertEquals("Kept", builder.getNestedObject().getOne());
+  }
+
+  @Test
+  public void testMap_intoBuilderUpdatesNestedBuilderInPlace() {
+    DescriptorProto.Builder builder = DescriptorProto.newBuilder()
+        .setName("Old")
+        .setOptions(MessageOptions.newBuilder().setMessageSetWireFormat(true).setDeprecated(false));
+    MessageOptions.Builder optionsBuilder = builder.getOptionsBuilder();
+
+    mergeMapper.map(newDescriptorProtoBean("New", true), builder);
+
+    assertEquals("New", builder.getName());
+    assertSame(optionsBuilder, builder.getOptionsBuilder());
+    assertTrue(optionsBuilder.getDeprecated());
+    assertTrue("field missing in source should be kept", optionsBuilder.getMessageSetWireFormat());
+  }
+
+  @Test
+  public void testMap_nullSourceValueClearsFieldOfIncompleteMessage() {
+    ProtoTestObjectWithNestedProtoObject.Builder builder = ProtoTestObjectWithNestedProtoObject.newBuilder()
+        .setOne("Old")
+        .setNestedObject(SimpleProtoTestObject.newBuilder().setOne("OldInner"));
+
+    mergeMapper.map(new TestObjectContainer(null, "New"), builder);
+
+    assertEquals("New", builder.getOne());
+    assertFalse(builder.hasNestedObject());
+    assertFalse(builder.isInitialized());
+  }
+
+  @Test
+  public void testMap_intoMessageReturnsUpdatedCopy() {
+    DescriptorProto existing = DescriptorProto.newBuilder()
+        .setName("Old")
+        .setOptions(MessageOptions.newBuilder().setMessageSetWireFormat(true))
+        .build();
+
+    DescriptorProto result = mergeMapper.map(newDescriptorProtoBean("New", true), existing);
+
+    assertEquals("New", result.getName());
+    assertTrue(result.getOptions().getDeprecated());
+    assertTrue(result.getOptions().getMessageSetWireFormat());
+    assertEquals("Old", existing.getName());
+    assertFalse(existing.getOptions().hasDeprecated());
+  }
+
+  @Test
+  public void testMap_intoMessageClearsFieldOfNullSourceValue() {
+    DescriptorProto existing = DescriptorProto.newBuilder()
+        .setName("Old")
+        .setOptions(MessageOptions.newBuilder().setMessageSetWireFormat(true))
+        .build();
+
+    DescriptorProto result = mergeMapper.map(newDescriptorProtoBean("New", null), existing);
+
+    assertEquals("New", result.getName());
+    assertFalse(result.hasOptions());
+  }
+
+  @Test
+  public void testMap_intoBuilderReplacesRepeatedField() {
+    ProtobufWithSimpleCollection.Builder builder = ProtobufWithSimpleCollection.newBuilder()
+        .addObject(SimpleProtoTestObject.newBuilder().setOne("A"))
+        .addObject(SimpleProtoTestObject.newBuilder().setOne("B"));
+    TestObject element = new TestObject();
+    element.setOne("C");
+    ObjectWithCollection source = new ObjectWithCollection();
+    source.setObjects(Arrays.asList(element));
+
+    mergeMapper.map(source, builder);
+
+    assertEquals(1, builder.getObjectCount());
+    assertEquals("C", builder.getObject(0).getOne());
+  }
+
+  private static DescriptorProtoBean newDescriptorProtoBean(String name, Boolean deprecated) {
+    DescriptorProtoBean source = new DescriptorProtoBean();
+    source.setName(name);
+    source.setOptions(deprecated == null ? null : new MessageOptionsBean(deprecated));
+    return source;
+  }
+}
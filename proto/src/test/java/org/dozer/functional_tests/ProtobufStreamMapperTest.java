@@ -0,0 +1,185 @@
+/**
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.functional_tests;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.DescriptorProtos.DescriptorProto;
+import com.google.protobuf.DescriptorProtos.FieldDescriptorProto;
+import com.google.protobuf.DescriptorProtos.MessageOptions;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.UninitializedMessageException;
+
+import org.dozer.DozerBeanMapper;
+import org.dozer.ProtobufStreamMapper;
+import org.dozer.vo.proto.DescriptorProtoBean;
+import org.dozer.vo.proto.FieldDescriptorProtoBean;
+import org.dozer.vo.proto.ObjectWithEnumField;
+import org.dozer.vo.proto.ProtoTestObjects.ProtoObjectWithEnumField;
+import org.dozer.vo.proto.ProtoTestObjects.ProtoTestObjectWithNestedProtoObject;
+import org.dozer.vo.proto.ProtoTestObjects.SimpleProtoTestObject;
+import org.dozer.vo.proto.SimpleEnum;
+import org.dozer.vo.proto.TestObject;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ProtobufStreamMapperTest extends ProtoAbstractTest {
+  // wire format of test messages is written by hand, as they were generated by an older protoc and can not serialize
+  private static final byte[] ONE_A = {0x0A, 0x01, 'A'};
+  private static final byte[] ONE_B = {0x0A, 0x01, 'B'};
+  private static final byte[] ENUM_FIELD_VALUE2 = {0x08, 0x02};
+  private static final byte[] ENUM_FIELD_UNKNOWN = {0x08, 0x07};
+
+  private DozerBeanMapper mapper;
+  private ProtobufStreamMapper streamMapper;
+
+  @Before
+  public void setUp() throws Exception {
+    mapper = getMapper("protoBeansMapping.xml");
+    streamMapper = new ProtobufStreamMapper(mapper);
+  }
+
+  @Test
+  public void testMap_scalarAndStringFields() throws IOException {
+    FieldDescriptorProto message = FieldDescriptorProto.newBuilder()
+        .setName("field")
+        .setNumber(300)
+        .setExtendee("")
+        .setTypeName("unmapped")
+        .build();
+
+    FieldDescriptorProtoBean result = streamMapper.map(message.toByteString().newCodedInput(),
+        FieldDescriptorProto.class, FieldDescriptorProtoBean.class);
+
+    assertEquals("field", result.getName());
+    assertEquals(Long.valueOf(300), result.getNumber());
+    assertEquals("", result.getExtendee());
+    FieldDescriptorProtoBean expected = mapper.map(message, FieldDescriptorProtoBean.class);
+    assertEquals(expected.getName(), result.getName());
+    assertEquals(expected.getNumber(), result.getNumber());
+    assertEquals(expected.getExtendee(), result.getExtendee());
+  }
+
+  @Test
+  public void testMap_unsetFieldsAreMappedAsNull() throws IOException {
+    FieldDescriptorProtoBean destination = new FieldDescriptorProtoBean();
+    destination.setName("Old");
+    FieldDescriptorProto message = FieldDescriptorProto.newBuilder().setNumber(1).build();
+
+    streamMapper.map(message.toByteString().newCodedInput(), FieldDescriptorProto.class, destination);
+
+    assertNull(destination.getName());
+    assertEquals(Long.valueOf(1), destination.getNumber());
+  }
+
+  @Test
+  public void testMap_intoExistingObject() throws IOException {
+    TestObject destination = new TestObject();
+    destination.setTwo(2);
+
+    streamMapper.map(CodedInputStream.newInstance(ONE_A), SimpleProtoTestObject.class, destination);
+
+    assertEquals("A", destination.getOne());
+    assertEquals(Integer.valueOf(2), destination.getTwo());
+  }
+
+  @Test
+  public void testMap_lastOccurrenceOfFieldWins() throws IOException {
+    ByteString input = ByteString.copyFrom(ONE_A).concat(ByteString.copyFrom(ONE_B));
+
+    TestObject result = streamMapper.map(input.newCodedInput(), SimpleProtoTestObject.class, TestObject.class);
+
+    assertEquals("B", result.getOne());
+  }
+
+  @Test
+  public void testMap_enumFieldByName() throws IOException {
+    ObjectWithEnumField result = streamMapper.map(CodedInputStream.newInstance(ENUM_FIELD_VALUE2),
+        ProtoObjectWithEnumField.class, ObjectWithEnumField.class);
+
+    assertSame(SimpleEnum.VALUE2, result.getEnumField());
+  }
+
+  @Test
+  public void testMap_unknownEnumNumberIsIgnored() throws IOException {
+    ByteString input = ByteString.copyFrom(ENUM_FIELD_VALUE2).concat(ByteString.copyFrom(ENUM_FIELD_UNKNOWN));
+
+    ObjectWithEnumField result = streamMapper.map(input.newCodedInput(), ProtoObjectWithEnumField.class,
+        ObjectWithEnumField.class);
+
+    assertSame(SimpleEnum.VALUE2, result.getEnumField());
+  }
+
+  @Test
+  public void testMap_unmappedFieldIsNotDecoded() throws IOException {
+    // options field holding a truncated message, which fails parsing of the whole message
+    ByteString input = FieldDescriptorProto.newBuilder().setName("field").build().toByteString()
+        .concat(ByteString.copyFrom(new byte[] {0x42, 0x02, 0x0A, 0x05}));
+    try {
+      FieldDescriptorProto.parseFrom(input);
+      fail();
+    } catch (InvalidProtocolBufferException e) {
+      // expected
+    }
+
+    FieldDescriptorProtoBean result = streamMapper.map(input.newCodedInput(), FieldDescriptorProto.class,
+        FieldDescriptorProtoBean.class);
+
+    assertEquals("field", result.getName());
+  }
+
+  @Test(expected = UninitializedMessageException.class)
+  public void testMap_missingRequiredField() throws IOException {
+    streamMapper.map(CodedInputStream.newInstance(ONE_A), ProtoTestObjectWithNestedProtoObject.class, TestObject.class);
+  }
+
+  @Test
+  public void testMap_nestedMessagesAreMappedFromParsedMessage() throws IOException {
+    DescriptorProto message = DescriptorProto.newBuilder()
+        .setName("Outer")
+        .setOptions(MessageOptions.newBuilder().setDeprecated(true))
+        .build();
+
+    DescriptorProtoBean result = streamMapper.map(message.toByteString().newCodedInput(), DescriptorProto.class,
+        DescriptorProtoBean.class);
+
+    assertEquals("Outer", result.getName());
+    assertTrue(result.getOptions().getDeprecated());
+  }
+
+  @Test
+  public void testMapDelimited() throws IOException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    FieldDescriptorProto.newBuilder().setName("A").build().writeDelimitedTo(output);
+    FieldDescriptorProto.newBuilder().setName("B").build().writeDelimitedTo(output);
+    CodedInputStream input = CodedInputStream.newInstance(output.toByteArray());
+
+    assertEquals("A", streamMapper.mapDelimited(input, FieldDescriptorProto.class, FieldDescriptorProtoBean.class)
+        .getName());
+    assertEquals("B", streamMapper.mapDelimited(input, FieldDescriptorProto.class, FieldDescriptorProtoBean.class)
+        .getName());
+    assertNull(streamMapper.mapDelimited(input, FieldDescriptorProto.class, FieldDescriptorProtoBean.class));
+  }
+}
@@ -0,0 +1,118 @@
+/**
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.util;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import com.google.protobuf.Descriptors;
+
+import org.dozer.vo.proto.ProtoTestObjects;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class ProtoUtilsTest {
+
+  @Test
+  public void getFieldValue_byDescriptor_returnsSetValue() {
+    Descriptors.FieldDescriptor descriptor =
+        ProtoUtils.getFieldDescriptor(ProtoTestObjects.SimpleProtoTestObjectWithoutRequired.class, "one");
+
+    ProtoTestObjects.SimpleProtoTestObjectWithoutRequired message =
+        ProtoTestObjects.SimpleProtoTestObjectWithoutRequired.newBuilder().setOne("value").build();
+
+    assertEquals("value", ProtoUtils.getFieldValue(message, descriptor));
+    assertNull(ProtoUtils.getFieldValue(ProtoTestObjects.SimpleProtoTestObjectWithoutRequired.getDefaultInstance(), descriptor));
+  }
+
+  @Test
+  public void getFieldValue_byDescriptor_returnsNullForEmptyRepeatedField() {
+    Descriptors.FieldDescriptor descriptor =
+        ProtoUtils.getFieldDescriptor(ProtoTestObjects.ProtobufWithEnumCollection.class, "object");
+
+    assertNull(ProtoUtils.getFieldValue(ProtoTestObjects.ProtobufWithEnumCollection.getDefaultInstance(), descriptor));
+
+    ProtoTestObjects.ProtobufWithEnumCollection message = ProtoTestObjects.ProtobufWithEnumCollection.newBuilder()
+        .addObject(ProtoTestObjects.ProtoEnum.VALUE1)
+        .addObject(ProtoTestObjects.ProtoEnum.VALUE2)
+        .build();
+    assertEquals(2, ((List<?>) ProtoUtils.getFieldValue(message, descriptor)).size());
+  }
+
+  @Test
+  public void getFieldValue_byForeignDescriptor_fallsBackToName() {
+    Descriptors.FieldDescriptor descriptor =
+        ProtoUtils.getFieldDescriptor(ProtoTestObjects.SimpleProtoTestObject.class, "one");
+
+    ProtoTestObjects.SimpleProtoTestObjectWithoutRequired message =
+        ProtoTestObjects.SimpleProtoTestObjectWithoutRequired.newBuilder().setOne("value").build();
+
+    assertEquals("value", ProtoUtils.getFieldValue(message, descriptor));
+  }
+
+  @Test
+  public void getBuilder_returnsNewBuilderEachTime() {
+    ProtoTestObjects.SimpleProtoTestObject.Builder builder =
+        (ProtoTestObjects.SimpleProtoTestObject.Builder) ProtoUtils.getBuilder(ProtoTestObjects.SimpleProtoTestObject.class);
+    builder.setOne("value");
+
+    assertNotSame(builder, ProtoUtils.getBuilder(ProtoTestObjects.SimpleProtoTestObject.class));
+    assertEquals("", ((ProtoTestObjects.SimpleProtoTestObject.Builder) ProtoUtils
+        .getBuilder(ProtoTestObjects.SimpleProtoTestObject.class)).getOne());
+  }
+
+  @Test
+  public void getFieldDescriptor_isResolvedByName() {
+    Descriptors.FieldDescriptor descriptor =
+        ProtoUtils.getFieldDescriptor(ProtoTestObjects.ProtoTestObjectWithNestedProtoObject.class, "nestedObject");
+
+    assertSame(ProtoTestObjects.ProtoTestObjectWithNestedProtoObject.getDescriptor().findFieldByName("nestedObject"), descriptor);
+    assertSame(ProtoTestObjects.SimpleProtoTestObject.class, ProtoUtils.getJavaClass(descriptor));
+    assertNull(ProtoUtils.getFieldDescriptor(ProtoTestObjects.ProtoTestObjectWithNestedProtoObject.class, "missing"));
+  }
+
+  @Test
+  public void unwrapEnums_mapsValueDescriptorsToJavaEnums() {
+    assertSame(ProtoTestObjects.ProtoEnum.VALUE2,
+        ProtoUtils.unwrapEnums(ProtoTestObjects.ProtoEnum.VALUE2.getValueDescriptor()));
+    assertEquals(ProtoTestObjects.ProtoEnum.VALUE1.getValueDescriptor(),
+        ProtoUtils.wrapEnums(ProtoTestObjects.ProtoEnum.VALUE1));
+  }
+
+  @Test
+  public void unwrapEnums_keepsListWithoutEnums() {
+    List<String> list = Collections.unmodifiableList(Arrays.asList("a", "b"));
+
+    assertSame(list, ProtoUtils.unwrapEnums(list));
+    assertSame(list, ProtoUtils.wrapEnums(list));
+  }
+
+  @Test
+  public void getAddAllMethod_findsGeneratedBuilderMethod() {
+    Descriptors.FieldDescriptor descriptor =
+        ProtoUtils.getFieldDescriptor(ProtoTestObjects.ProtobufWithSimpleCollection.class, "object");
+
+    assertNotNull(ProtoUtils.getAddAllMethod(ProtoTestObjects.ProtobufWithSimpleCollection.class, descriptor));
+    assertEquals("FieldName2Value", ProtoUtils.toCamelCase("field_name2value"));
+  }
+
+}
@@ -0,0 +1,40 @@
+/**
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.vo.proto;
+
+/**
+ * Counterpart of {@link com.google.protobuf.DescriptorProtos.DescriptorProto}, which has nested builders.
+ */
+public class DescriptorProtoBean {
+  private String name;
+  private MessageOptionsBean options;
+
+  public String getName() {
+    return name;
+  }
+
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  public MessageOptionsBean getOptions() {
+    return options;
+  }
+
+  public void setOptions(MessageOptionsBean options) {
+    this.options = options;
+  }
+}
@@ -0,0 +1,49 @@
+/**
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.vo.proto;
+
+/**
+ * Counterpart of {@link com.google.protobuf.DescriptorProtos.FieldDescriptorProto} with a number of a wider type.
+ */
+public class FieldDescriptorProtoBean {
+  private String name;
+  private Long number;
+  private String extendee;
+
+  public String getName() {
+    return name;
+  }
+
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  public Long getNumber() {
+    return number;
+  }
+
+  public void setNumber(Long number) {
+    this.number = number;
+  }
+
+  public String getExtendee() {
+    return extendee;
+  }
+
+  public void setExtendee(String extendee) {
+    this.extendee = extendee;
+  }
+}